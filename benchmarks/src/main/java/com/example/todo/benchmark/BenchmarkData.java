@@ -0,0 +1,131 @@
+package com.example.todo.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+
+import com.example.todo.TodoApplication;
+import com.example.todo.entity.Todo;
+import com.example.todo.mapper.TodoMapper;
+import com.example.todo.security.TodoUserDetails;
+import com.example.todo.service.TodoCountCache;
+
+/**
+ * ベンチマーク用のアプリケーション起動とテストデータ生成。
+ *
+ * <p>データは固定シードの乱数で生成するため、同じ件数なら毎回同じ内容になります。
+ * DBはMySQL互換モードのインメモリH2で、スキーマは本体と同じFlywayマイグレーションで作成します。
+ * 登録するToDoはすべて所有者 {@value #OWNER_ID} のもので、サービスはその所有者としてログインした状態で呼び出します。</p>
+ */
+final class BenchmarkData {
+
+    /** ベンチマークで使う所有者ID。 */
+    static final long OWNER_ID = 1L;
+
+    private static final long SEED = 20260206L;
+    private static final int INSERT_BATCH = 1000;
+    private static final String[] AUTHORS = {"max", "admin", "suzuki", "tanaka", "yamada", "sato", "ito", "kato"};
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * ベンチマーク用の設定でアプリケーションを起動し、{@link #OWNER_ID} の所有者としてログインします。
+     *
+     * @return アプリケーションコンテキスト
+     */
+    static ConfigurableApplicationContext startApplication() {
+        signIn();
+        // A fresh database per start, so runs with -f 0 do not share rows between trials.
+        String url = "jdbc:h2:mem:bench-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1";
+        return new SpringApplicationBuilder(TodoApplication.class).run(
+                "--spring.profiles.active=bench",
+                "--spring.datasource.url=" + url,
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=none",
+                "--spring.flyway.locations=classpath:db/migration/{vendor}",
+                "--server.port=0",
+                "--todo.query-plan-check.enabled=false",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN");
+    }
+
+    /**
+     * 全スレッド共通のログイン状態を設定します。JMHはセットアップと計測を別スレッドで実行するためです。
+     */
+    private static void signIn() {
+        SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_GLOBAL);
+        TodoUserDetails user = new TodoUserDetails(
+                User.withUsername("bench").password("").roles("USER").build(), OWNER_ID);
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(user, null, user.getAuthorities()));
+    }
+
+    /**
+     * 指定件数のToDoを登録します。
+     *
+     * @param context アプリケーションコンテキスト
+     * @param rows 件数
+     */
+    static void seed(ConfigurableApplicationContext context, int rows) {
+        TodoMapper mapper = context.getBean(TodoMapper.class);
+        Random random = new Random(SEED);
+        List<Todo> batch = new ArrayList<>(INSERT_BATCH);
+        for (int i = 0; i < rows; i++) {
+            batch.add(todo(random, i));
+            if (batch.size() == INSERT_BATCH) {
+                mapper.insertBatch(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            mapper.insertBatch(batch);
+        }
+        context.getBean(TodoCountCache.class).reconcile();
+    }
+
+    /**
+     * DBを使わずにToDoを生成します。
+     *
+     * @param rows 件数
+     * @return ToDoのリスト（IDは1からの連番）
+     */
+    static List<Todo> todos(int rows) {
+        Random random = new Random(SEED);
+        List<Todo> todos = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            Todo todo = todo(random, i);
+            todo.setId((long) i + 1);
+            todo.setVersion(0L);
+            todos.add(todo);
+        }
+        return todos;
+    }
+
+    private static Todo todo(Random random, int index) {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 0, 0).plusMinutes(index * 7L + random.nextInt(7));
+        LocalDate today = LocalDate.now();
+        Todo todo = new Todo();
+        todo.setOwnerId(OWNER_ID);
+        todo.setTitle("タスク " + index + (random.nextInt(10) == 0 ? ", \"要確認\"" : ""));
+        todo.setAuthor(AUTHORS[random.nextInt(AUTHORS.length)]);
+        todo.setDescription(random.nextInt(3) == 0 ? null : "詳細 " + index);
+        todo.setDueDate(random.nextInt(5) == 0 ? null : today.plusDays(random.nextInt(60) - 20));
+        todo.setPriority(1 + random.nextInt(5));
+        todo.setCompleted(random.nextInt(4) == 0);
+        todo.setCreatedAt(createdAt);
+        todo.setUpdatedAt(createdAt);
+        return todo;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.todo.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.example.todo.entity.Todo;
+import com.example.todo.export.CsvTodoExportWriter;
+
+/**
+ * CSVエクスポートの書き出し性能。
+ *
+ * <p>DBを使わず、{@link CsvTodoExportWriter} による行の組み立てとエスケープのみを測定します。</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CsvExportBenchmark {
+
+    @Param({"10000", "100000"})
+    private int rows;
+
+    private List<Todo> todos;
+
+    @Setup
+    public void setUp() {
+        todos = BenchmarkData.todos(rows);
+    }
+
+    @Benchmark
+    public long writeCsv() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        CsvTodoExportWriter writer = new CsvTodoExportWriter(out);
+        writer.writeHeader();
+        for (Todo todo : todos) {
+            writer.write(todo);
+        }
+        writer.finish();
+        return out.count;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void escapeCsv(Blackhole blackhole) {
+        blackhole.consume(CsvTodoExportWriter.escapeCsv("買い物リストを作成する"));
+        blackhole.consume(CsvTodoExportWriter.escapeCsv("会議, \"重要\"\n資料を準備"));
+    }
+
+    /** 書き出したバイト数だけを数える出力先。 */
+    private static final class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
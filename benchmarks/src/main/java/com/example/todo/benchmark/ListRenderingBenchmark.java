@@ -0,0 +1,105 @@
+package com.example.todo.benchmark;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.spring6.expression.ThymeleafEvaluationContext;
+import org.thymeleaf.web.IWebExchange;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import com.example.todo.entity.Todo;
+
+/**
+ * {@code todo/list.html} のThymeleaf描画性能。
+ *
+ * <p>アプリケーションのテンプレートエンジンを使い、一覧画面と同じモデルを
+ * メモリ上のデータで組み立てて描画します（DBアクセスとセキュリティフィルタは含みません）。</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ListRenderingBenchmark {
+
+    private static final long TOTAL = 100_000L;
+
+    @Param({"10", "20", "50"})
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private SpringTemplateEngine templateEngine;
+    private IWebExchange exchange;
+    private Map<String, Object> variables;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkData.startApplication();
+        templateEngine = context.getBean(SpringTemplateEngine.class);
+
+        MockServletContext servletContext = new MockServletContext();
+        MockHttpServletRequest request = new MockHttpServletRequest(servletContext, "GET", "/todos");
+        exchange = JakartaServletWebApplication.buildApplication(servletContext)
+                .buildExchange(request, new MockHttpServletResponse());
+
+        List<Todo> todos = BenchmarkData.todos(pageSize);
+        int pageNumber = 3;
+        Page<Todo> page = new PageImpl<>(todos, PageRequest.of(pageNumber, pageSize), TOTAL);
+        variables = new HashMap<>();
+        variables.put("todos", todos);
+        variables.put("queryParams", new LinkedHashMap<String, String>());
+        variables.put("sort", "createdAt");
+        variables.put("dir", "desc");
+        variables.put("overdueMode", false);
+        variables.put("page", page);
+        variables.put("currentPage", pageNumber);
+        variables.put("totalPages", page.getTotalPages());
+        variables.put("totalElements", TOTAL);
+        variables.put("rangeStart", (long) pageNumber * pageSize + 1);
+        variables.put("rangeEnd", (long) (pageNumber + 1) * pageSize);
+        variables.put("pageSize", pageSize);
+        variables.put("prevCursor", "cHxERVNDfGNyZWF0ZWRfYXR8MXx2MjAyNS0wMS0wMVQwMDowMA");
+        variables.put("nextCursor", "bnxERVNDfGNyZWF0ZWRfYXR8MjB8djIwMjUtMDEtMDFUMDA6MDA");
+        // Same evaluation context ThymeleafView provides, so SpEL and conversions behave as in the app.
+        variables.put(ThymeleafEvaluationContext.THYMELEAF_EVALUATION_CONTEXT_CONTEXT_VARIABLE_NAME,
+                new ThymeleafEvaluationContext(context, context.getBean("mvcConversionService", ConversionService.class)));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String renderList() {
+        return templateEngine.process("todo/list", new WebContext(exchange, Locale.JAPANESE, variables));
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.todo.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import com.example.todo.entity.Todo;
+import com.example.todo.service.TodoService;
+
+/**
+ * {@link TodoService#findPageByMyBatis} のページング性能。
+ *
+ * <p>件数・ソート列・ページ位置（先頭/中間/末尾）ごとに、オフセット方式と、
+ * 同じ位置へカーソルで移動するキーセット方式を比較します。</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class TodoPagingBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"10000", "100000", "1000000"})
+    private int rows;
+
+    @Param({"createdAt", "title", "dueDate", "priority"})
+    private String sort;
+
+    @Param({"first", "middle", "last"})
+    private String position;
+
+    private ConfigurableApplicationContext context;
+    private TodoService todoService;
+    private Pageable pageable;
+    private String cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkData.startApplication();
+        BenchmarkData.seed(context, rows);
+        todoService = context.getBean(TodoService.class);
+
+        int lastPage = (rows - 1) / PAGE_SIZE;
+        int page = switch (position) {
+            case "middle" -> lastPage / 2;
+            case "last" -> lastPage;
+            default -> 0;
+        };
+        pageable = PageRequest.of(page, PAGE_SIZE);
+        // Cursor that lands on the same page, as issued by the previous page's 次へ link.
+        if (page > 0) {
+            Page<Todo> previous = todoService.findPageByMyBatis(PageRequest.of(page - 1, PAGE_SIZE), sort, "asc");
+            cursor = todoService.nextCursor(previous, sort, "asc");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<Todo> offset() {
+        return todoService.findPageByMyBatis(pageable, sort, "asc");
+    }
+
+    @Benchmark
+    public Page<Todo> keyset() {
+        return todoService.findPageByMyBatis(pageable, sort, "asc", cursor);
+    }
+}
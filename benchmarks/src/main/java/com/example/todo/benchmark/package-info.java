@@ -0,0 +1,14 @@
+/**
+ * JMH ベンチマークのパッケージ。
+ *
+ * <p>主なクラス:</p>
+ * <ul>
+ *   <li>{@link com.example.todo.benchmark.TodoPagingBenchmark}</li>
+ *   <li>{@link com.example.todo.benchmark.ListRenderingBenchmark}</li>
+ *   <li>{@link com.example.todo.benchmark.CsvExportBenchmark}</li>
+ *   <li>{@link com.example.todo.benchmark.TodoDeadlineBenchmark}</li>
+ * </ul>
+ *
+ * @since 1.1
+ */
+package com.example.todo.benchmark;
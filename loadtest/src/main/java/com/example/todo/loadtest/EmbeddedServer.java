@@ -0,0 +1,126 @@
+package com.example.todo.loadtest;
+
+import java.net.URI;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.todo.TodoApplication;
+import com.example.todo.entity.DeadlineStatus;
+import com.example.todo.entity.Todo;
+import com.example.todo.entity.UserAccount;
+import com.example.todo.mapper.TodoMapper;
+import com.example.todo.repository.UserAccountRepository;
+import com.example.todo.service.TodoCountCache;
+
+/**
+ * 負荷試験用の組み込みサーバー。
+ *
+ * <p>プロファイルを指定しない場合は、MySQL互換モードのインメモリH2（起動ごとに新しいDB）で起動します。
+ * {@code prod} などを指定するとそのプロファイルの接続先（ローカルのMySQLなど）を使います。
+ * 起動後、各アカウントの所有者のToDoが {@code loadtest.seed-rows} 件に満たなければ、固定シードの乱数で補います。</p>
+ */
+final class EmbeddedServer {
+
+    private static final long SEED = 20260207L;
+    private static final int INSERT_BATCH = 1000;
+
+    private EmbeddedServer() {
+    }
+
+    /**
+     * サーバーを起動します。
+     *
+     * @param config 設定
+     * @return アプリケーションコンテキスト
+     */
+    static ConfigurableApplicationContext start(LoadTestConfig config) {
+        List<String> args = new ArrayList<>();
+        String profile = config.appProfile();
+        if (profile == null) {
+            args.add("--spring.datasource.url=jdbc:h2:mem:loadtest-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+            args.add("--spring.datasource.driver-class-name=org.h2.Driver");
+            args.add("--spring.datasource.username=sa");
+            args.add("--spring.datasource.password=");
+            args.add("--spring.jpa.hibernate.ddl-auto=none");
+            args.add("--spring.flyway.locations=classpath:db/migration/{vendor}");
+        } else {
+            args.add("--spring.profiles.active=" + profile);
+        }
+        args.add("--server.port=0");
+        args.add("--todo.query-plan-check.enabled=false");
+        args.add("--spring.main.banner-mode=off");
+        args.add("--logging.level.root=WARN");
+        // Later arguments win, so anything given on the command line overrides the defaults above.
+        args.addAll(config.applicationArgs());
+        return new SpringApplicationBuilder(TodoApplication.class).run(args.toArray(String[]::new));
+    }
+
+    /**
+     * サーバーのURLを返します。
+     *
+     * @param context {@link #start(LoadTestConfig)} の結果
+     * @return {@code http://localhost:<port>/}
+     */
+    static URI baseUri(ConfigurableApplicationContext context) {
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        return URI.create("http://localhost:" + port + "/");
+    }
+
+    /**
+     * 各アカウントの所有者のToDoを指定件数まで登録します。
+     *
+     * @param context アプリケーションコンテキスト
+     * @param usernames アカウントのユーザー名
+     * @param rows 所有者ごとの件数
+     */
+    static void seed(ConfigurableApplicationContext context, List<String> usernames, int rows) {
+        TodoMapper mapper = context.getBean(TodoMapper.class);
+        UserAccountRepository accounts = context.getBean(UserAccountRepository.class);
+        Random random = new Random(SEED);
+        List<Long> seeded = new ArrayList<>();
+        for (String username : usernames) {
+            Long ownerId = accounts.findByUsername(username).map(UserAccount::getOwnerId).orElse(null);
+            if (ownerId == null || seeded.contains(ownerId)) {
+                continue;
+            }
+            seeded.add(ownerId);
+            long missing = rows - mapper.countAll(ownerId);
+            List<Todo> batch = new ArrayList<>(INSERT_BATCH);
+            for (long i = 0; i < missing; i++) {
+                batch.add(todo(random, ownerId, username, i));
+                if (batch.size() == INSERT_BATCH) {
+                    mapper.insertBatch(batch);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                mapper.insertBatch(batch);
+            }
+        }
+        context.getBean(TodoCountCache.class).reconcile();
+    }
+
+    private static Todo todo(Random random, Long ownerId, String username, long index) {
+        LocalDateTime createdAt = LocalDateTime.now().minusMinutes(index * 7L + random.nextInt(7));
+        Todo todo = new Todo();
+        todo.setOwnerId(ownerId);
+        todo.setTitle("タスク " + index);
+        todo.setAuthor(username);
+        todo.setDescription(random.nextInt(3) == 0 ? null : "詳細 " + index);
+        todo.setDueDate(random.nextInt(5) == 0 ? null : LocalDate.now().plusDays(random.nextInt(60) - 20));
+        todo.setDeadlineStatus(DeadlineStatus.of(todo.getDueDate(), LocalDate.now()));
+        todo.setPriority(1 + random.nextInt(5));
+        todo.setCompleted(random.nextInt(4) == 0);
+        todo.setCreatedAt(createdAt);
+        todo.setUpdatedAt(createdAt);
+        return todo;
+    }
+}
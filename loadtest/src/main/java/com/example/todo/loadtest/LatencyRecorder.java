@@ -0,0 +1,117 @@
+package com.example.todo.loadtest;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 操作ごとの応答時間と失敗数の記録。
+ *
+ * <p>ランプアップ中（{@code measureFrom} より前）に開始した操作は、ウォームアップとして集計しません。
+ * 応答時間はすべて保持し、集計時に並べ替えて正確なパーセンタイルを求めます（100万件で約8MB）。</p>
+ *
+ * <p>ログインできなかった・途中で止まった仮想ユーザーは、ランプアップ中でも {@link #userFailed()} で数えます。</p>
+ */
+final class LatencyRecorder {
+
+    private final long measureFrom;
+    private final Map<Operation, Samples> samples = new EnumMap<>(Operation.class);
+    private final AtomicInteger userFailures = new AtomicInteger();
+
+    /**
+     * @param measureFrom 計測を始める時刻（{@link System#nanoTime()}）
+     */
+    LatencyRecorder(long measureFrom) {
+        this.measureFrom = measureFrom;
+        for (Operation operation : Operation.values()) {
+            samples.put(operation, new Samples());
+        }
+    }
+
+    /**
+     * 1回の操作を記録します。
+     *
+     * @param operation 操作
+     * @param startNanos 開始時刻（{@link System#nanoTime()}）
+     * @param elapsedNanos 応答時間
+     * @param succeeded 成功した場合はtrue
+     */
+    void record(Operation operation, long startNanos, long elapsedNanos, boolean succeeded) {
+        if (startNanos >= measureFrom) {
+            samples.get(operation).add(elapsedNanos, succeeded);
+        }
+    }
+
+    /**
+     * ログインに失敗した、または途中で止まった仮想ユーザーを1人記録します。
+     */
+    void userFailed() {
+        userFailures.incrementAndGet();
+    }
+
+    /**
+     * ログインに失敗した、または途中で止まった仮想ユーザーの数を返します。
+     *
+     * @return 人数
+     */
+    int userFailures() {
+        return userFailures.get();
+    }
+
+    /**
+     * 計測を始める時刻を返します。
+     *
+     * @return {@link System#nanoTime()} の値
+     */
+    long measureFrom() {
+        return measureFrom;
+    }
+
+    /**
+     * 操作の応答時間を昇順で返します。
+     *
+     * @param operation 操作
+     * @return 応答時間（ナノ秒）
+     */
+    long[] sortedLatencies(Operation operation) {
+        return samples.get(operation).sorted();
+    }
+
+    /**
+     * 操作の失敗数を返します。
+     *
+     * @param operation 操作
+     * @return 失敗数
+     */
+    long errors(Operation operation) {
+        return samples.get(operation).errors();
+    }
+
+    private static final class Samples {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        synchronized void add(long elapsedNanos, boolean succeeded) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = elapsedNanos;
+            if (!succeeded) {
+                errors++;
+            }
+        }
+
+        synchronized long[] sorted() {
+            long[] copy = Arrays.copyOf(latencies, count);
+            Arrays.sort(copy);
+            return copy;
+        }
+
+        synchronized long errors() {
+            return errors;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.todo.loadtest;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 負荷試験の起動クラス。
+ *
+ * <p>{@code loadtest.target} が未設定なら組み込みサーバーを起動してデータを登録し、
+ * 仮想利用者を {@code loadtest.ramp-up} の間に均等に起動して {@code loadtest.duration} の間計測します。
+ * SLOをすべて満たせば終了コード0、満たさなければ1で終了するため、CIの判定にそのまま使えます。</p>
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    /**
+     * 負荷試験を実行します。
+     *
+     * @param args {@code --loadtest.*=...} の設定と、組み込みサーバーへ渡す引数
+     * @throws Exception 起動やレポートの書き込みに失敗した場合
+     */
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.load(args);
+        List<String[]> accounts = config.accounts();
+        int users = Math.max(1, config.getInt("users", 20));
+        Duration rampUp = config.getDuration("ramp-up", Duration.ofSeconds(10));
+        Duration duration = config.getDuration("duration", Duration.ofSeconds(60));
+        TrafficMix mix = config.mix();
+
+        ConfigurableApplicationContext context = null;
+        URI base;
+        if (config.target() == null) {
+            context = EmbeddedServer.start(config);
+            List<String> usernames = new ArrayList<>();
+            accounts.forEach(account -> usernames.add(account[0]));
+            EmbeddedServer.seed(context, usernames, config.getInt("seed-rows", 5000));
+            base = EmbeddedServer.baseUri(context);
+        } else {
+            base = URI.create(config.target().endsWith("/") ? config.target() : config.target() + "/");
+        }
+
+        boolean passed;
+        try {
+            System.out.printf("Load test: %s, %d users, ramp-up %s, duration %s%nmix %s%n",
+                    base, users, rampUp, duration, mix);
+            long start = System.nanoTime();
+            long measureFrom = start + rampUp.toNanos();
+            long stopAt = measureFrom + duration.toNanos();
+            LatencyRecorder recorder = new LatencyRecorder(measureFrom);
+
+            ExecutorService executor = Executors.newFixedThreadPool(users, runnable -> {
+                Thread thread = new Thread(runnable);
+                thread.setName("loadtest-user-" + thread.getId());
+                thread.setDaemon(true);
+                return thread;
+            });
+            long stagger = users > 1 ? rampUp.toNanos() / users : 0L;
+            for (int i = 0; i < users; i++) {
+                VirtualUser user = new VirtualUser(base, accounts.get(i % accounts.size()), mix, recorder,
+                        stopAt, config, i);
+                long delay = stagger * i;
+                executor.execute(() -> {
+                    try {
+                        TimeUnit.NANOSECONDS.sleep(delay);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    user.run();
+                });
+            }
+            executor.shutdown();
+            // Users finish their in-flight request after stopAt; give them the request timeout to do so.
+            long waitNanos = stopAt - System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+            if (!executor.awaitTermination(Math.max(waitNanos, 0L), TimeUnit.NANOSECONDS)) {
+                executor.shutdownNow();
+            }
+
+            Map<String, Object> run = new LinkedHashMap<>();
+            run.put("target", base.toString());
+            run.put("users", users);
+            run.put("rampUp", rampUp.toString());
+            run.put("duration", duration.toString());
+            run.put("thinkTime", config.getDuration("think-time", Duration.ofMillis(200)).toString());
+            run.put("mix", mix.toString());
+            LoadTestReport report = LoadTestReport.create(recorder,
+                    Math.min(System.nanoTime(), stopAt) - measureFrom, config, run);
+            System.out.print(report.toText());
+            report.write(config.reportDir());
+            System.out.println("Report written to " + config.reportDir().toAbsolutePath());
+            passed = report.passed();
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+        System.exit(passed ? 0 : 1);
+    }
+}
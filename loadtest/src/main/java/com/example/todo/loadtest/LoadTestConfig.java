@@ -0,0 +1,141 @@
+package com.example.todo.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * 負荷試験の設定。
+ *
+ * <p>{@code loadtest.properties}（既定値）、システムプロパティ（{@code -Dloadtest.*}）、
+ * コマンドライン引数（{@code --loadtest.*=...}）の順に読み、後のものが優先されます。
+ * {@code --loadtest.} で始まらない引数は、組み込みサーバーの起動引数として渡します。</p>
+ */
+final class LoadTestConfig {
+
+    private static final String PREFIX = "loadtest.";
+
+    private final Properties properties;
+    private final List<String> applicationArgs;
+
+    private LoadTestConfig(Properties properties, List<String> applicationArgs) {
+        this.properties = properties;
+        this.applicationArgs = applicationArgs;
+    }
+
+    /**
+     * 設定を読み込みます。
+     *
+     * @param args コマンドライン引数
+     * @return 設定
+     * @throws IOException 既定値のファイルを読めない場合
+     */
+    static LoadTestConfig load(String[] args) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = LoadTestConfig.class.getResourceAsStream("/loadtest.properties")) {
+            if (in != null) {
+                try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                    properties.load(reader);
+                }
+            }
+        }
+        System.getProperties().stringPropertyNames().stream()
+                .filter(name -> name.startsWith(PREFIX))
+                .forEach(name -> properties.setProperty(name, System.getProperty(name)));
+        List<String> applicationArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--" + PREFIX) && arg.indexOf('=') > 0) {
+                int eq = arg.indexOf('=');
+                properties.setProperty(arg.substring(2, eq), arg.substring(eq + 1));
+            } else {
+                applicationArgs.add(arg);
+            }
+        }
+        return new LoadTestConfig(properties, List.copyOf(applicationArgs));
+    }
+
+    /**
+     * 設定値を返します。
+     *
+     * @param key {@code loadtest.} を除いたキー
+     * @return 値（未設定・空の場合はnull）
+     */
+    String get(String key) {
+        String value = properties.getProperty(PREFIX + key);
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    String getString(String key, String defaultValue) {
+        String value = get(key);
+        return value == null ? defaultValue : value;
+    }
+
+    int getInt(String key, int defaultValue) {
+        String value = get(key);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    double getDouble(String key, double defaultValue) {
+        String value = get(key);
+        return value == null ? defaultValue : Double.parseDouble(value);
+    }
+
+    /**
+     * 時間の設定値を返します。{@code 200ms}、{@code 10s}、{@code 5m} などの形式、または数値（ミリ秒）で指定します。
+     *
+     * @param key {@code loadtest.} を除いたキー
+     * @param defaultValue 未設定の場合の値
+     * @return 時間
+     */
+    Duration getDuration(String key, Duration defaultValue) {
+        String value = get(key);
+        return value == null ? defaultValue : DurationStyle.detectAndParse(value);
+    }
+
+    /** 接続先。nullの場合は組み込みサーバーを起動します。 */
+    String target() {
+        return get("target");
+    }
+
+    /** 組み込みサーバーのSpringプロファイル。nullの場合はインメモリH2です。 */
+    String appProfile() {
+        return get("app-profile");
+    }
+
+    /** ログインするアカウント（{@code ユーザー名:パスワード}）。 */
+    List<String[]> accounts() {
+        List<String[]> accounts = new ArrayList<>();
+        for (String account : getString("accounts", "admin:password").split(",")) {
+            int colon = account.indexOf(':');
+            if (colon <= 0) {
+                throw new IllegalArgumentException("Expected user:password but got " + account);
+            }
+            accounts.add(new String[] {account.substring(0, colon).trim(), account.substring(colon + 1)});
+        }
+        return accounts;
+    }
+
+    /** 操作の比率。 */
+    TrafficMix mix() {
+        return TrafficMix.parse(getString("mix", "list:1"));
+    }
+
+    /** レポートの出力先。 */
+    Path reportDir() {
+        return Path.of(getString("report-dir", "target/loadtest"));
+    }
+
+    /** 組み込みサーバーへ渡す引数。 */
+    List<String> applicationArgs() {
+        return applicationArgs;
+    }
+}
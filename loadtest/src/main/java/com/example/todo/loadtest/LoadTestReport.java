@@ -0,0 +1,200 @@
+package com.example.todo.loadtest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * 計測結果の集計とSLOの判定。
+ *
+ * <p>操作ごと、および全操作（{@code all}）について、件数・失敗数・スループット（件/秒）と
+ * 応答時間のパーセンタイル（p50/p90/p95/p99/最大）を求めます。
+ * SLOは {@code loadtest.slo.<操作|all>.<p50|p90|p95|p99|max>}（時間）、
+ * {@code loadtest.slo.error-rate}（全体の失敗率の上限）、{@code loadtest.slo.min-throughput}（全体の件/秒の下限）で指定します。
+ * ログインできなかった・途中で止まった仮想ユーザーが1人でもいれば、SLOにかかわらず失敗です。</p>
+ *
+ * <p>結果は標準出力と {@code summary.txt}、機械可読な {@code summary.json} に出力します。</p>
+ */
+final class LoadTestReport {
+
+    private static final String[] PERCENTILES = {"p50", "p90", "p95", "p99", "max"};
+
+    private final Map<String, Stats> stats = new LinkedHashMap<>();
+    private final List<String> violations = new ArrayList<>();
+    private final double seconds;
+    private final Map<String, Object> run;
+    private final int userFailures;
+
+    private LoadTestReport(double seconds, Map<String, Object> run, int userFailures) {
+        this.seconds = seconds;
+        this.run = run;
+        this.userFailures = userFailures;
+    }
+
+    /**
+     * 記録を集計し、SLOを判定します。
+     *
+     * @param recorder 記録
+     * @param measuredNanos 計測した時間（ランプアップ後から終了まで）
+     * @param config 設定（SLO）
+     * @param run レポートに含める実行条件
+     * @return レポート
+     */
+    static LoadTestReport create(LatencyRecorder recorder, long measuredNanos, LoadTestConfig config,
+                                 Map<String, Object> run) {
+        LoadTestReport report = new LoadTestReport(Math.max(measuredNanos, 1L) / 1e9, run,
+                recorder.userFailures());
+        List<long[]> all = new ArrayList<>();
+        long allErrors = 0;
+        for (Operation operation : Operation.values()) {
+            long[] latencies = recorder.sortedLatencies(operation);
+            if (latencies.length == 0) {
+                continue;
+            }
+            long errors = recorder.errors(operation);
+            report.stats.put(operation.key(), report.stats(latencies, errors));
+            all.add(latencies);
+            allErrors += errors;
+        }
+        report.stats.put("all", report.stats(merge(all), allErrors));
+        report.check(config);
+        return report;
+    }
+
+    /**
+     * SLOをすべて満たしたか判定します。
+     *
+     * @return 満たした場合はtrue
+     */
+    boolean passed() {
+        return violations.isEmpty();
+    }
+
+    /**
+     * 表形式の結果を返します。
+     *
+     * @return テキスト
+     */
+    String toText() {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format(Locale.ROOT, "%-12s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "req/s", "p50 ms", "p90 ms", "p95 ms", "p99 ms", "max ms"));
+        stats.forEach((key, s) -> text.append(String.format(Locale.ROOT,
+                "%-12s %9d %7d %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                key, s.count, s.errors, s.throughput,
+                s.millis.get("p50"), s.millis.get("p90"), s.millis.get("p95"), s.millis.get("p99"), s.millis.get("max"))));
+        text.append(String.format(Locale.ROOT, "%nmeasured %.1f s%n", seconds));
+        if (violations.isEmpty()) {
+            text.append("SLO: PASS").append(System.lineSeparator());
+        } else {
+            text.append("SLO: FAIL").append(System.lineSeparator());
+            violations.forEach(violation -> text.append("  - ").append(violation).append(System.lineSeparator()));
+        }
+        return text.toString();
+    }
+
+    /**
+     * {@code summary.txt} と {@code summary.json} を書き出します。
+     *
+     * @param directory 出力先
+     * @throws IOException 書き込みに失敗した場合
+     */
+    void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Files.writeString(directory.resolve("summary.txt"), toText(), StandardCharsets.UTF_8);
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("finishedAt", LocalDateTime.now().toString());
+        json.put("run", run);
+        json.put("measuredSeconds", seconds);
+        json.put("passed", passed());
+        json.put("userFailures", userFailures);
+        json.put("violations", violations);
+        Map<String, Object> operations = new LinkedHashMap<>();
+        stats.forEach((key, s) -> {
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("count", s.count);
+            values.put("errors", s.errors);
+            values.put("throughput", s.throughput);
+            values.put("latencyMillis", s.millis);
+            operations.put(key, values);
+        });
+        json.put("operations", operations);
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(directory.resolve("summary.json").toFile(), json);
+    }
+
+    private Stats stats(long[] sorted, long errors) {
+        Map<String, Double> millis = new LinkedHashMap<>();
+        for (String percentile : PERCENTILES) {
+            millis.put(percentile, sorted.length == 0 ? 0.0 : valueAt(sorted, percentile) / 1e6);
+        }
+        return new Stats(sorted.length, errors, sorted.length / seconds, millis);
+    }
+
+    private void check(LoadTestConfig config) {
+        Stats total = stats.get("all");
+        double maxErrorRate = config.getDouble("slo.error-rate", 1.0);
+        double errorRate = total.count == 0 ? 0.0 : (double) total.errors / total.count;
+        if (total.count == 0) {
+            violations.add("no requests were measured");
+        }
+        if (userFailures > 0) {
+            violations.add(userFailures + " virtual users failed to sign in or stopped early");
+        }
+        if (errorRate > maxErrorRate) {
+            violations.add(String.format(Locale.ROOT, "error rate %.4f > %.4f", errorRate, maxErrorRate));
+        }
+        double minThroughput = config.getDouble("slo.min-throughput", 0.0);
+        if (total.throughput < minThroughput) {
+            violations.add(String.format(Locale.ROOT, "throughput %.1f req/s < %.1f", total.throughput, minThroughput));
+        }
+        stats.forEach((key, s) -> {
+            for (String percentile : PERCENTILES) {
+                Duration limit = config.getDuration("slo." + key + "." + percentile, null);
+                if (limit != null && s.millis.get(percentile) > limit.toNanos() / 1e6) {
+                    violations.add(String.format(Locale.ROOT, "%s %s %.1f ms > %d ms",
+                            key, percentile, s.millis.get(percentile), limit.toMillis()));
+                }
+            }
+        });
+    }
+
+    /**
+     * 最近傍法（nearest-rank）でパーセンタイルを求めます。
+     */
+    private static long valueAt(long[] sorted, String percentile) {
+        if ("max".equals(percentile)) {
+            return sorted[sorted.length - 1];
+        }
+        double p = Double.parseDouble(percentile.substring(1)) / 100.0;
+        int rank = (int) Math.ceil(p * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length, rank) - 1)];
+    }
+
+    private static long[] merge(List<long[]> arrays) {
+        int length = arrays.stream().mapToInt(array -> array.length).sum();
+        long[] merged = new long[length];
+        int offset = 0;
+        for (long[] array : arrays) {
+            System.arraycopy(array, 0, merged, offset, array.length);
+            offset += array.length;
+        }
+        Arrays.sort(merged);
+        return merged;
+    }
+
+    private record Stats(long count, long errors, double throughput, Map<String, Double> millis) {
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.todo.loadtest;
+
+import java.util.Locale;
+
+/**
+ * 仮想ユーザーが行う操作。名前（{@link #key()}）は設定の比率・SLOのキーとレポートに使います。
+ */
+enum Operation {
+
+    /** 一覧の先頭ページ（{@code GET /todos}）。 */
+    LIST,
+
+    /** 列を指定したソート（{@code GET /todos?sort=...&dir=...}）。 */
+    SORT,
+
+    /** ページ番号を指定したページング（{@code GET /todos?page=...}）。 */
+    PAGE,
+
+    /** 期限切れ一覧（{@code GET /todos/overdue}）。 */
+    OVERDUE,
+
+    /** 詳細（{@code GET /todos/{id}}）。 */
+    DETAIL,
+
+    /** 完了状態の切り替え（一覧画面と同じAJAXの {@code POST /todos/{id}/toggle}）。 */
+    TOGGLE,
+
+    /** 編集（編集画面の表示と {@code POST /todos/{id}/update}）。 */
+    EDIT,
+
+    /** 登録（{@code POST /todos/complete}）。一括削除で減った分を補います。 */
+    CREATE,
+
+    /** 選択した行の一括削除（{@code POST /todos/bulk-delete}）。 */
+    BULK_DELETE,
+
+    /** CSVエクスポート（{@code GET /todos/export?format=csv}、本文を最後まで読みます）。 */
+    EXPORT;
+
+    /**
+     * 設定・レポートで使う名前を返します。
+     *
+     * @return 小文字・ハイフン区切りの名前（例: {@code bulk-delete}）
+     */
+    String key() {
+        return name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    /**
+     * 名前から操作を取得します。
+     *
+     * @param key {@link #key()} の値
+     * @return 操作
+     * @throws IllegalArgumentException 未知の名前の場合
+     */
+    static Operation fromKey(String key) {
+        for (Operation operation : values()) {
+            if (operation.key().equals(key.trim())) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation: " + key);
+    }
+}
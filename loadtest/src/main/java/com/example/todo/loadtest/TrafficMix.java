@@ -0,0 +1,87 @@
+package com.example.todo.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 操作の比率。{@code list:25,sort:15,...} の形式で指定し、比率に従って操作を選びます。
+ */
+final class TrafficMix {
+
+    private final Operation[] operations;
+    private final int[] cumulative;
+    private final int total;
+
+    private TrafficMix(Map<Operation, Integer> weights) {
+        this.operations = new Operation[weights.size()];
+        this.cumulative = new int[weights.size()];
+        int sum = 0;
+        int i = 0;
+        for (Map.Entry<Operation, Integer> weight : weights.entrySet()) {
+            sum += weight.getValue();
+            operations[i] = weight.getKey();
+            cumulative[i] = sum;
+            i++;
+        }
+        if (sum <= 0) {
+            throw new IllegalArgumentException("Traffic mix has no positive weight");
+        }
+        this.total = sum;
+    }
+
+    /**
+     * 比率の指定を解析します。
+     *
+     * @param spec {@code 操作:比率} のカンマ区切り
+     * @return 比率
+     * @throws IllegalArgumentException 形式が正しくない場合
+     */
+    static TrafficMix parse(String spec) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String part : spec.split(",")) {
+            if (part.isBlank()) {
+                continue;
+            }
+            String[] pair = part.split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Expected operation:weight but got " + part);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                weights.merge(Operation.fromKey(pair[0]), weight, Integer::sum);
+            }
+        }
+        return new TrafficMix(weights);
+    }
+
+    /**
+     * 比率に従って次の操作を選びます。
+     *
+     * @param random 仮想ユーザーごとの乱数
+     * @return 操作
+     */
+    Operation next(Random random) {
+        int pick = random.nextInt(total);
+        for (int i = 0; i < cumulative.length; i++) {
+            if (pick < cumulative[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        int previous = 0;
+        for (int i = 0; i < operations.length; i++) {
+            if (i > 0) {
+                text.append(',');
+            }
+            text.append(operations[i].key()).append(':').append(cumulative[i] - previous);
+            previous = cumulative[i];
+        }
+        return text.toString();
+    }
+}
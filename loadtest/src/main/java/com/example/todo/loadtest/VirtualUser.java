@@ -0,0 +1,313 @@
+package com.example.todo.loadtest;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.StringJoiner;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 1人分の利用者。ログイン画面からログインし、終了時刻まで「操作を選ぶ → リクエスト → 思考時間」を繰り返します。
+ *
+ * <p>ブラウザと同じくセッションのCookieを保持し、画面の {@code _csrf} の隠し項目を送り返します。
+ * ログインでトークンが作り直されるため、ログイン後は一覧画面からトークンを読み直します。
+ * リダイレクトは追わず、1操作の応答時間は1リクエスト分です（編集は編集画面の表示と更新の2リクエスト分）。
+ * ログイン画面へのリダイレクトはセッション切れとして失敗に数え、次の操作の前にログインし直します。
+ * ログインできない場合は止まり、{@link LatencyRecorder#userFailed()} で記録します（試験は失敗になります）。</p>
+ *
+ * <p>詳細・切り替え・編集・一括削除の対象は、直前に表示した一覧の行から選びます。
+ * 他の利用者との競合（409、楽観的ロックによる編集画面の再表示）は想定内として成功に数えます。</p>
+ */
+final class VirtualUser implements Runnable {
+
+    private static final Pattern ROW = Pattern.compile("data-id=\"(\\d+)\"");
+    private static final Pattern VERSION = Pattern.compile("name=\"version\" value=\"(\\d*)\"");
+    private static final Pattern COMPLETED = Pattern.compile("name=\"completed\" value=\"(true|false)\"");
+    private static final Pattern CSRF = Pattern.compile("name=\"_csrf\" value=\"([^\"]+)\"");
+    private static final Pattern TOGGLED = Pattern.compile("\"completed\"\\s*:\\s*(true|false).*\"version\"\\s*:\\s*(\\d+)");
+    private static final String[] SORTS = {"title", "dueDate", "priority", "author", "completed", "createdAt"};
+
+    private final URI base;
+    private final String username;
+    private final String password;
+    private final TrafficMix mix;
+    private final LatencyRecorder recorder;
+    private final long stopAt;
+    private final Duration thinkTime;
+    private final int pageSize;
+    private final int maxPage;
+    private final int bulkDeleteSize;
+    private final Random random;
+    private final HttpClient client;
+    private final List<Row> rows = new ArrayList<>();
+
+    private String csrfToken;
+    private boolean signedOut;
+    private int created;
+
+    VirtualUser(URI base, String[] account, TrafficMix mix, LatencyRecorder recorder, long stopAt,
+                LoadTestConfig config, long seed) {
+        this.base = base;
+        this.username = account[0];
+        this.password = account[1];
+        this.mix = mix;
+        this.recorder = recorder;
+        this.stopAt = stopAt;
+        this.thinkTime = config.getDuration("think-time", Duration.ofMillis(200));
+        this.pageSize = config.getInt("page-size", 10);
+        this.maxPage = Math.max(1, config.getInt("max-page", 20));
+        this.bulkDeleteSize = Math.max(1, config.getInt("bulk-delete-size", 2));
+        this.random = new Random(seed);
+        this.client = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    @Override
+    public void run() {
+        try {
+            login();
+            while (System.nanoTime() < stopAt && !Thread.currentThread().isInterrupted()) {
+                if (signedOut) {
+                    login();
+                }
+                execute(mix.next(random));
+                think();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException ex) {
+            recorder.userFailed();
+            System.err.println("Virtual user " + username + " stopped: " + ex);
+        }
+    }
+
+    private void login() throws IOException, InterruptedException {
+        HttpResponse<String> page = get("/login");
+        readCsrf(page.body());
+        HttpResponse<String> response = post("/login", form("username", username, "password", password), false);
+        String location = response.headers().firstValue("Location").orElse("");
+        if (response.statusCode() != 302 || location.contains("error")) {
+            throw new IllegalStateException("Login failed for " + username + " (" + response.statusCode() + ")");
+        }
+        // Signing in replaces the CSRF token; the one from the login page is no longer accepted.
+        csrfToken = null;
+        HttpResponse<String> list = get("/todos");
+        readCsrf(list.body());
+        if (list.statusCode() != 200 || csrfToken == null) {
+            throw new IllegalStateException("No session or CSRF token after login for " + username
+                    + " (" + list.statusCode() + ")");
+        }
+        signedOut = false;
+    }
+
+    private void execute(Operation operation) throws InterruptedException {
+        if (rows.isEmpty() && operation != Operation.CREATE && operation != Operation.EXPORT) {
+            // Nothing to pick a todo from yet: load the list first, as a person would.
+            operation = Operation.LIST;
+        }
+        long start = System.nanoTime();
+        boolean succeeded;
+        try {
+            succeeded = switch (operation) {
+                case LIST -> list("/todos?page=0&size=" + pageSize);
+                case SORT -> list("/todos?page=0&size=" + pageSize + "&sort=" + SORTS[random.nextInt(SORTS.length)]
+                        + "&dir=" + (random.nextBoolean() ? "asc" : "desc"));
+                case PAGE -> list("/todos?page=" + random.nextInt(maxPage) + "&size=" + pageSize);
+                case OVERDUE -> ok(get("/todos/overdue?page=0&size=" + pageSize));
+                case DETAIL -> ok(get("/todos/" + pick().id));
+                case TOGGLE -> toggle(pick());
+                case EDIT -> edit(pick());
+                case CREATE -> create();
+                case BULK_DELETE -> bulkDelete();
+                case EXPORT -> ok(client.send(request("/todos/export?format=csv").GET().build(),
+                        HttpResponse.BodyHandlers.discarding()));
+            };
+        } catch (IOException ex) {
+            succeeded = false;
+        }
+        recorder.record(operation, start, System.nanoTime() - start, succeeded);
+    }
+
+    private boolean list(String path) throws IOException, InterruptedException {
+        HttpResponse<String> response = get(path);
+        if (!ok(response)) {
+            return false;
+        }
+        List<Row> page = parseRows(response.body());
+        // A page past the end is empty; keep the rows seen before.
+        if (!page.isEmpty()) {
+            rows.clear();
+            rows.addAll(page);
+        }
+        return true;
+    }
+
+    private boolean toggle(Row row) throws IOException, InterruptedException {
+        HttpResponse<String> response = post("/todos/" + row.id + "/toggle",
+                form("version", row.version, "completed", String.valueOf(row.completed)), true);
+        Matcher matcher = TOGGLED.matcher(response.body());
+        if (response.statusCode() == 200 && matcher.find()) {
+            row.completed = Boolean.parseBoolean(matcher.group(1));
+            row.version = matcher.group(2);
+        } else if (response.statusCode() == 404) {
+            rows.remove(row);
+        }
+        return ok(response);
+    }
+
+    private boolean edit(Row row) throws IOException, InterruptedException {
+        HttpResponse<String> page = get("/todos/" + row.id + "/edit");
+        if (page.statusCode() != 200) {
+            rows.remove(row);
+            return ok(page);
+        }
+        readCsrf(page.body());
+        Matcher version = VERSION.matcher(page.body());
+        HttpResponse<String> response = post("/todos/" + row.id + "/update", form(
+                "version", version.find() ? version.group(1) : "",
+                "title", "負荷試験 " + row.id + "-" + random.nextInt(1000),
+                "description", "edited by " + username,
+                "dueDate", LocalDate.now().plusDays(random.nextInt(60) - 20).toString(),
+                "priority", String.valueOf(1 + random.nextInt(5)),
+                "author", username), false);
+        return ok(response);
+    }
+
+    private boolean create() throws IOException, InterruptedException {
+        HttpResponse<String> response = post("/todos/complete", form(
+                "title", "負荷試験 " + username + " " + (++created),
+                "description", "created by load test",
+                "dueDate", LocalDate.now().plusDays(random.nextInt(60) - 20).toString(),
+                "priority", String.valueOf(1 + random.nextInt(5)),
+                "author", username), false);
+        return ok(response);
+    }
+
+    private boolean bulkDelete() throws IOException, InterruptedException {
+        List<String> params = new ArrayList<>();
+        int count = Math.min(bulkDeleteSize, rows.size());
+        for (int i = 0; i < count; i++) {
+            Row row = rows.remove(random.nextInt(rows.size()));
+            params.add("ids");
+            params.add(String.valueOf(row.id));
+        }
+        return ok(post("/todos/bulk-delete", form(params.toArray(String[]::new)), true));
+    }
+
+    private Row pick() {
+        return rows.get(random.nextInt(rows.size()));
+    }
+
+    private void think() throws InterruptedException {
+        long mean = thinkTime.toMillis();
+        if (mean > 0) {
+            // Exponential think time around the mean, capped so one user never idles for long.
+            long millis = (long) Math.min(mean * 10.0, -mean * Math.log(1.0 - random.nextDouble()));
+            Thread.sleep(millis);
+        }
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        return client.send(request(path).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String path, String body, boolean ajax) throws IOException, InterruptedException {
+        if (csrfToken != null) {
+            body = body + "&_csrf=" + encode(csrfToken);
+        }
+        HttpRequest.Builder builder = request(path)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (ajax) {
+            builder.header("X-Requested-With", "XMLHttpRequest").header("Accept", "application/json");
+        }
+        return client.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(base.resolve(path)).timeout(Duration.ofSeconds(60));
+    }
+
+    private List<Row> parseRows(String html) {
+        readCsrf(html);
+        List<Row> page = new ArrayList<>();
+        Matcher row = ROW.matcher(html);
+        List<int[]> bounds = new ArrayList<>();
+        while (row.find()) {
+            bounds.add(new int[] {row.start(), Integer.parseInt(row.group(1))});
+        }
+        for (int i = 0; i < bounds.size(); i++) {
+            int end = i + 1 < bounds.size() ? bounds.get(i + 1)[0] : html.length();
+            String chunk = html.substring(bounds.get(i)[0], end);
+            Matcher version = VERSION.matcher(chunk);
+            Matcher completed = COMPLETED.matcher(chunk);
+            // Archived rows have no toggle form; they are read-only.
+            if (version.find() && completed.find()) {
+                page.add(new Row(bounds.get(i)[1], version.group(1), Boolean.parseBoolean(completed.group(1))));
+            }
+        }
+        return page;
+    }
+
+    private void readCsrf(String html) {
+        Matcher matcher = CSRF.matcher(html);
+        if (matcher.find()) {
+            csrfToken = matcher.group(1);
+        }
+    }
+
+    private boolean ok(HttpResponse<?> response) {
+        if (response.statusCode() / 100 == 3 && isLoginPage(response.headers().firstValue("Location").orElse(""))) {
+            // The session is gone: nothing was done. Sign in again before the next operation.
+            signedOut = true;
+            return false;
+        }
+        // 409: another user changed the row first, which the mix produces on purpose.
+        return response.statusCode() < 400 || response.statusCode() == 409;
+    }
+
+    private static boolean isLoginPage(String location) {
+        String path = URI.create(location).getPath();
+        return path != null && path.endsWith("/login");
+    }
+
+    private static String form(String... pairs) {
+        StringJoiner body = new StringJoiner("&");
+        for (int i = 0; i + 1 < pairs.length; i += 2) {
+            body.add(encode(pairs[i]) + "=" + encode(pairs[i + 1]));
+        }
+        return body.toString();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    /** 一覧で見えた1行。 */
+    private static final class Row {
+
+        private final long id;
+        private String version;
+        private boolean completed;
+
+        Row(long id, String version, boolean completed) {
+            this.id = id;
+            this.version = version;
+            this.completed = completed;
+        }
+    }
+}
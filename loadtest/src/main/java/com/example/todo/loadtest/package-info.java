@@ -0,0 +1,13 @@
+/**
+ * HTTP負荷試験（ログインからの操作の繰り返しと、SLOの判定）のパッケージ。
+ *
+ * <p>主なクラス:</p>
+ * <ul>
+ *   <li>{@link com.example.todo.loadtest.LoadTest}</li>
+ *   <li>{@link com.example.todo.loadtest.VirtualUser}</li>
+ *   <li>{@link com.example.todo.loadtest.LoadTestReport}</li>
+ * </ul>
+ *
+ * @since 1.1
+ */
+package com.example.todo.loadtest;
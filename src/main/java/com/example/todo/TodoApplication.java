@@ -2,14 +2,23 @@ package com.example.todo;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.mybatis.spring.annotation.MapperScan;
 
 @SpringBootApplication
 @MapperScan("com.example.todo.mapper")
+@EnableScheduling
+@EnableCaching
 public class TodoApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(TodoApplication.class, args);
+		ConfigurableApplicationContext context = SpringApplication.run(TodoApplication.class, args);
+		if (context.getEnvironment().containsProperty("todo.import.file")) {
+			// Command-line import: TodoImportRunner has finished and supplies the exit code.
+			System.exit(SpringApplication.exit(context));
+		}
 	}
 
 }
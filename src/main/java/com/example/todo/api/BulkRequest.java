@@ -0,0 +1,49 @@
+package com.example.todo.api;
+
+import java.util.List;
+
+import com.example.todo.form.TodoFilter;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 一括操作APIのリクエスト。
+ *
+ * <p>{@code ids} を指定した場合はそのToDoを、省略した場合は {@code filter} に一致するToDoを対象にします。
+ * 絞り込み条件での操作には {@code "scope": "all"} が必要です（条件を省略するとすべてのToDoが対象になります）。</p>
+ */
+@Data
+@NoArgsConstructor
+public class BulkRequest {
+
+    /** 操作（{@code complete} / {@code reassign} / {@code priority} / {@code delete}）。 */
+    private String action;
+
+    /** 対象のID。 */
+    private List<Long> ids;
+
+    /** {@code ids} を省略した場合の絞り込み条件。 */
+    private TodoFilter filter;
+
+    /** 絞り込み条件に一致するすべてのToDoを対象にする場合は {@code all}。 */
+    private String scope;
+
+    /** {@code complete} の完了状態（省略時はtrue）。 */
+    private Boolean completed;
+
+    /** {@code reassign} の新しい登録者。 */
+    private String author;
+
+    /** {@code priority} の新しい優先度。 */
+    private Integer priority;
+
+    /**
+     * 絞り込み条件に一致するすべてのToDoを対象にすることが明示されているか判定します。
+     *
+     * @return {@code scope} が {@code all} の場合はtrue
+     */
+    public boolean isAllScope() {
+        return "all".equals(scope);
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.todo.api;
+
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import com.example.todo.service.TodoView;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * REST APIのJackson設定。
+ *
+ * <p>{@link TodoView} に項目選択用のフィルタ（{@value #FIELDS_FILTER}）を割り当てます。
+ * フィルタを指定しないレスポンスでは全項目を出力します。</p>
+ *
+ * <p>CBOR（{@code application/cbor}）とSmile（{@code application/x-jackson-smile}）のコンバータは、
+ * JSONと同じ設定（日付の書式、フィルタ）のビルダーから作成します。</p>
+ */
+@Configuration
+public class TodoApiConfig {
+
+    /** {@link TodoView} の項目選択フィルタのID。 */
+    static final String FIELDS_FILTER = "todoFields";
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer todoViewFilterCustomizer() {
+        return builder -> builder
+                .mixIn(TodoView.class, TodoViewMixin.class)
+                .filters(new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAll()));
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    @JsonFilter(FIELDS_FILTER)
+    private abstract static class TodoViewMixin {
+    }
+}
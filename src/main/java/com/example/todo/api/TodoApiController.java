@@ -0,0 +1,197 @@
+package com.example.todo.api;
+
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import jakarta.validation.Valid;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.example.todo.entity.Todo;
+import com.example.todo.form.TodoFilter;
+import com.example.todo.form.TodoForm;
+import com.example.todo.service.BulkAction;
+import com.example.todo.service.BulkResult;
+import com.example.todo.service.TodoBulkService;
+import com.example.todo.service.TodoField;
+import com.example.todo.service.TodoService;
+import com.example.todo.service.TodoView;
+import com.example.todo.service.TodoViewSlice;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+/**
+ * ToDoのREST API（バージョン1）。
+ *
+ * <p>一覧・取得は {@link TodoView}（選択した列だけを読み込む射影）を返し、画面の描画は行いません。
+ * {@code fields=id,title,dueDate} のように返す項目を指定できます。一覧はキーセット方式で、
+ * 続きがある場合は {@code nextCursor} を次の {@code cursor=} に渡します。</p>
+ *
+ * <p>JSONのほか、{@code Accept} / {@code Content-Type} に {@code application/cbor} または
+ * {@code application/x-jackson-smile} を指定するとバイナリ形式で送受信できます。</p>
+ */
+@RestController
+@RequestMapping(path = "/api/v1/todos", produces = {
+        MediaType.APPLICATION_JSON_VALUE, TodoApiController.CBOR, TodoApiController.SMILE})
+public class TodoApiController {
+
+    static final String CBOR = "application/cbor";
+    static final String SMILE = "application/x-jackson-smile";
+
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int MAX_LIMIT = 200;
+
+    private final TodoService todoService;
+    private final TodoBulkService todoBulkService;
+
+    public TodoApiController(TodoService todoService, TodoBulkService todoBulkService) {
+        this.todoService = todoService;
+        this.todoBulkService = todoBulkService;
+    }
+
+    @GetMapping
+    public MappingJacksonValue list(@ModelAttribute TodoFilter filter,
+                                    @RequestParam(required = false) String fields,
+                                    @RequestParam(required = false) String cursor,
+                                    @RequestParam(defaultValue = "" + DEFAULT_LIMIT) int limit) {
+        Set<TodoField> selected = parseFields(fields);
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be between 1 and " + MAX_LIMIT);
+        }
+        filter.resolveOverdueDate(LocalDate.now());
+        try {
+            TodoViewSlice slice = todoService.findViews(filter, selected, filter.getSort(), filter.getDir(), cursor,
+                    limit);
+            return select(new TodoListResponse(slice.items(), slice.nextCursor()), selected);
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage(), ex);
+        }
+    }
+
+    @GetMapping("/{id}")
+    public MappingJacksonValue get(@PathVariable("id") Long id,
+                                   @RequestParam(required = false) String fields) {
+        Set<TodoField> selected = parseFields(fields);
+        return select(findView(id, selected), selected);
+    }
+
+    @PostMapping(consumes = {MediaType.APPLICATION_JSON_VALUE, CBOR, SMILE})
+    public ResponseEntity<MappingJacksonValue> create(@Valid @RequestBody TodoForm form,
+                                                      @RequestParam(required = false) String fields) {
+        Set<TodoField> selected = parseFields(fields);
+        Todo created = todoService.create(form);
+        return ResponseEntity.created(URI.create("/api/v1/todos/" + created.getId()))
+                .body(select(findView(created.getId(), selected), selected));
+    }
+
+    /**
+     * 更新します。{@code version} を指定した場合は楽観的ロックで照合し、不一致なら409を返します。
+     * 応答は更新後の行のため、書き込み遅延が有効でも同期で書き込みます。
+     */
+    @PutMapping(path = "/{id}", consumes = {MediaType.APPLICATION_JSON_VALUE, CBOR, SMILE})
+    public MappingJacksonValue update(@PathVariable("id") Long id,
+                                      @Valid @RequestBody TodoForm form,
+                                      @RequestParam(required = false) String fields) {
+        Set<TodoField> selected = parseFields(fields);
+        try {
+            // Write-behind would only queue the write, and the row read below would still be the old one.
+            todoService.updateNow(id, form);
+        } catch (jakarta.persistence.EntityNotFoundException ex) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Todo not found", ex);
+        } catch (jakarta.persistence.OptimisticLockException ex) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Todo was updated by another request", ex);
+        }
+        return select(findView(id, selected), selected);
+    }
+
+    /**
+     * 一括操作を実行します。{@code ids} を省略した絞り込み条件での操作は、{@code "scope": "all"} がない場合400を返します
+     * （空の条件はすべてのToDoに一致するため）。
+     */
+    @PostMapping(path = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, CBOR, SMILE})
+    public BulkResult bulk(@RequestBody BulkRequest request) {
+        List<Long> ids = request.getIds();
+        boolean byIds = ids != null && !ids.isEmpty();
+        if (!byIds && !request.isAllScope()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "ids is required; send \"scope\": \"all\" to apply the action to every todo matching the filter");
+        }
+        TodoFilter filter = request.getFilter() == null ? new TodoFilter() : request.getFilter();
+        filter.resolveOverdueDate(LocalDate.now());
+        try {
+            if ("delete".equals(request.getAction())) {
+                return byIds ? todoBulkService.deleteByIds(ids) : todoBulkService.deleteByFilter(filter);
+            }
+            BulkAction action = toAction(request);
+            return byIds ? todoBulkService.updateByIds(ids, action) : todoBulkService.updateByFilter(filter, action);
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage(), ex);
+        }
+    }
+
+    private BulkAction toAction(BulkRequest request) {
+        String action = request.getAction() == null ? "" : request.getAction();
+        switch (action) {
+            case "complete":
+                return BulkAction.complete(request.getCompleted() == null || request.getCompleted());
+            case "reassign":
+                return BulkAction.reassign(request.getAuthor());
+            case "priority":
+                return BulkAction.changePriority(request.getPriority());
+            default:
+                throw new IllegalArgumentException("Unknown action: " + action);
+        }
+    }
+
+    private TodoView findView(Long id, Set<TodoField> fields) {
+        TodoView view = todoService.findViewById(id, fields);
+        if (view == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Todo not found");
+        }
+        return view;
+    }
+
+    private static Set<TodoField> parseFields(String fields) {
+        try {
+            return TodoField.parse(fields);
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * レスポンスを選択した項目だけに絞ります。
+     */
+    private static MappingJacksonValue select(Object body, Set<TodoField> fields) {
+        Set<String> properties = fields.stream().map(TodoField::getProperty).collect(Collectors.toSet());
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        value.setFilters(new SimpleFilterProvider()
+                .addFilter(TodoApiConfig.FIELDS_FILTER, SimpleBeanPropertyFilter.filterOutAllExcept(properties)));
+        return value;
+    }
+
+    /**
+     * 一覧のレスポンス。
+     *
+     * @param items ToDo
+     * @param nextCursor 次ページのカーソル（最後のページはnull）
+     */
+    public record TodoListResponse(List<TodoView> items, String nextCursor) {
+    }
+}
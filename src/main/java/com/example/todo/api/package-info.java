@@ -0,0 +1,12 @@
+/**
+ * 外部連携向けREST API（{@code /api/v1/todos}）のパッケージ。
+ *
+ * <p>主なクラス:</p>
+ * <ul>
+ *   <li>{@link com.example.todo.api.TodoApiController}</li>
+ *   <li>{@link com.example.todo.api.TodoApiConfig}</li>
+ * </ul>
+ *
+ * @since 1.1
+ */
+package com.example.todo.api;
@@ -0,0 +1,20 @@
+package com.example.todo.audit;
+
+/**
+ * 監査ログの操作種別。
+ *
+ * <p>{@code todo_audit.action} には序数（{@link #ordinal()}）を保存するため、定数は末尾にだけ追加してください。</p>
+ *
+ * @since 1.1
+ */
+public enum TodoAuditAction {
+
+    /** 作成。 */
+    CREATED,
+
+    /** 更新（編集・完了状態の切り替え・一括更新）。 */
+    UPDATED,
+
+    /** 削除。 */
+    DELETED
+}
@@ -0,0 +1,158 @@
+package com.example.todo.audit;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 監査ログの変更内容（{@code todo_audit.payload}）のバイナリ形式。
+ *
+ * <p>先頭1バイトが形式のバージョンで、続けて項目ごとに「タグ1バイト + 値」を並べます。
+ * 値は型ごとに次の形式です（整数はZigZag符号化した可変長整数）。</p>
+ * <ul>
+ *   <li>文字列: バイト長（可変長整数）+ UTF-8</li>
+ *   <li>日付: エポック日（可変長整数）</li>
+ *   <li>整数: 可変長整数</li>
+ *   <li>真偽値: 1バイト</li>
+ * </ul>
+ * <p>値がnull（説明・期限日を空にした場合など）の項目はタグの最上位ビットを立て、値を省略します。
+ * 完了状態の切り替えは数バイトに収まり、JSONで保存する場合の数分の1の大きさです。
+ * 更新日時は {@code changed_at} 列に持つため含めません。</p>
+ *
+ * <p>保存済みの行を読めるよう、タグの番号と型は変更せず、項目は新しい番号で追加してください。
+ * 読み込み時、知らないタグ以降は読み飛ばします。</p>
+ *
+ * @since 1.1
+ */
+final class TodoAuditCodec {
+
+    private static final int FORMAT = 1;
+    private static final int NULL = 0x80;
+
+    private enum Kind { STRING, DATE, INT, BOOLEAN }
+
+    /** タグ番号の順（番号 = 添字 + 1）。 */
+    private static final List<Field> FIELDS = List.of(
+            new Field("title", Kind.STRING),
+            new Field("description", Kind.STRING),
+            new Field("author", Kind.STRING),
+            new Field("dueDate", Kind.DATE),
+            new Field("deadlineStatus", Kind.STRING),
+            new Field("priority", Kind.INT),
+            new Field("completed", Kind.BOOLEAN),
+            new Field("version", Kind.INT),
+            new Field("versionDelta", Kind.INT));
+
+    private TodoAuditCodec() {
+    }
+
+    /**
+     * 変更内容を符号化します。形式にない項目（更新日時など）は含めません。
+     *
+     * @param changes プロパティ名と値
+     * @return 符号化したバイト列。対象の項目がない場合はnull
+     */
+    static byte[] encode(Map<String, Object> changes) {
+        if (changes == null || changes.isEmpty()) {
+            return null;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16);
+        out.write(FORMAT);
+        boolean any = false;
+        for (int i = 0; i < FIELDS.size(); i++) {
+            Field field = FIELDS.get(i);
+            if (!changes.containsKey(field.name())) {
+                continue;
+            }
+            any = true;
+            Object value = changes.get(field.name());
+            if (value == null) {
+                out.write((i + 1) | NULL);
+                continue;
+            }
+            out.write(i + 1);
+            switch (field.kind()) {
+                case STRING -> {
+                    byte[] bytes = value.toString().getBytes(StandardCharsets.UTF_8);
+                    writeVarLong(out, bytes.length);
+                    out.write(bytes, 0, bytes.length);
+                }
+                case DATE -> writeVarLong(out, ((LocalDate) value).toEpochDay());
+                case INT -> writeVarLong(out, ((Number) value).longValue());
+                case BOOLEAN -> out.write(Boolean.TRUE.equals(value) ? 1 : 0);
+            }
+        }
+        return any ? out.toByteArray() : null;
+    }
+
+    /**
+     * バイト列を変更内容へ展開します。列挙型（期限区分）は名前の文字列で返します。
+     *
+     * @param payload {@link #encode(Map)} の結果
+     * @return プロパティ名と値（記録した順）
+     */
+    static Map<String, Object> decode(byte[] payload) {
+        if (payload == null || payload.length == 0) {
+            return Collections.emptyMap();
+        }
+        ByteBuffer in = ByteBuffer.wrap(payload);
+        if (in.get() != FORMAT) {
+            throw new IllegalArgumentException("Unknown audit payload format: " + payload[0]);
+        }
+        Map<String, Object> changes = new LinkedHashMap<>();
+        while (in.hasRemaining()) {
+            int tag = in.get() & 0xFF;
+            int index = (tag & ~NULL) - 1;
+            if (index < 0 || index >= FIELDS.size()) {
+                // Written by a newer version; the rest cannot be parsed without knowing this tag.
+                break;
+            }
+            Field field = FIELDS.get(index);
+            if ((tag & NULL) != 0) {
+                changes.put(field.name(), null);
+                continue;
+            }
+            Object value = switch (field.kind()) {
+                case STRING -> {
+                    byte[] bytes = new byte[(int) readVarLong(in)];
+                    in.get(bytes);
+                    yield new String(bytes, StandardCharsets.UTF_8);
+                }
+                case DATE -> LocalDate.ofEpochDay(readVarLong(in));
+                case INT -> readVarLong(in);
+                case BOOLEAN -> in.get() != 0;
+            };
+            changes.put(field.name(), value);
+        }
+        return changes;
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            out.write((int) ((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        out.write((int) zigzag);
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long zigzag = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.get();
+            zigzag |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    private record Field(String name, Kind kind) {
+    }
+}
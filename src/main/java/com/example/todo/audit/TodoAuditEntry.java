@@ -0,0 +1,54 @@
+package com.example.todo.audit;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * 監査ログの1行（1件のToDoに対する1回の変更）。
+ *
+ * <p>変更後の値は {@link TodoAuditCodec} で符号化したバイト列（{@code payload}）として保存し、
+ * 画面やエクスポートでは {@link #getChanges()} で展開します。</p>
+ *
+ * @since 1.1
+ */
+@Data
+@NoArgsConstructor
+public class TodoAuditEntry {
+
+    /** 監査ログのID（記録順）。 */
+    private Long id;
+
+    /** 所有者ID。 */
+    @JsonIgnore
+    private Long ownerId;
+
+    /** ToDoのID。 */
+    private Long todoId;
+
+    /** 変更日時。 */
+    private LocalDateTime changedAt;
+
+    /** 操作種別。 */
+    private TodoAuditAction action;
+
+    /** 変更したユーザー名（不明な場合はnull）。 */
+    private String actor;
+
+    /** 符号化した変更後の値（削除の場合はnull）。 */
+    @JsonIgnore
+    private byte[] payload;
+
+    /**
+     * 変更後の値を展開します。
+     *
+     * @return プロパティ名と値（変更なしの場合は空）
+     */
+    public Map<String, Object> getChanges() {
+        return TodoAuditCodec.decode(payload);
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.todo.audit;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ScheduledFuture;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import com.example.todo.event.TodoChangeEvent;
+import com.example.todo.mapper.TodoAuditMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * {@link TodoChangeEvent} を監査ログ（{@code todo_audit}）へ記録します。
+ *
+ * <p>イベントを受け取ったスレッドでは1件ごとの行を作って送信待ちに積むだけで、SQLは実行しません。
+ * 専用スレッドが {@code todo.audit.flush-interval-ms} ごとに送信待ちを取り出し、
+ * {@code todo.audit.batch-size} 行ずつ複数行のINSERTで書き込みます。
+ * 送信待ちが {@code todo.audit.queue-capacity} を超えた場合は、呼び出し元のスレッドで書き込みます
+ * （データベースに書き込めず、それでも空かない場合だけ破棄します）。</p>
+ *
+ * <p>書き込みに失敗したバッチは次回に再試行し、3回失敗した場合はエラーログを出して破棄します。
+ * 停止時には送信待ちをすべて書き込みます。</p>
+ *
+ * <p>一括操作は、ID指定・絞り込み条件指定のどちらも、実際に更新・削除してコミットしたIDごとに記録します。
+ * 対象を特定できない変更（{@link TodoChangeEvent.Type#INVALIDATED}: インポート、失敗した一括操作の通知）は記録しません。</p>
+ *
+ * @since 1.1
+ */
+@Component
+public class TodoAuditRecorder implements InitializingBean, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(TodoAuditRecorder.class);
+
+    /** 書き込みに失敗したバッチを破棄するまでの試行回数。 */
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final TodoAuditMapper todoAuditMapper;
+    private final BlockingQueue<TodoAuditEntry> queue;
+    private final Counter written;
+    private final Counter dropped;
+    private final boolean enabled;
+    private final Duration flushInterval;
+    private final int batchSize;
+
+    private final List<TodoAuditEntry> failed = new ArrayList<>();
+    private int failedAttempts;
+
+    private ThreadPoolTaskScheduler scheduler;
+    private ScheduledFuture<?> flushTask;
+    private volatile boolean closed;
+
+    public TodoAuditRecorder(TodoAuditMapper todoAuditMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${todo.audit.enabled:true}") boolean enabled,
+                             @Value("${todo.audit.flush-interval-ms:200}") long flushIntervalMillis,
+                             @Value("${todo.audit.batch-size:500}") int batchSize,
+                             @Value("${todo.audit.queue-capacity:100000}") int queueCapacity) {
+        this.todoAuditMapper = todoAuditMapper;
+        this.enabled = enabled;
+        this.flushInterval = Duration.ofMillis(Math.max(1L, flushIntervalMillis));
+        this.batchSize = batchSize;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.written = meterRegistry.counter("todo.audit.written");
+        this.dropped = meterRegistry.counter("todo.audit.dropped");
+        Gauge.builder("todo.audit.queued", queue, BlockingQueue::size)
+                .description("Audit log rows waiting to be written")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!enabled) {
+            return;
+        }
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix("todo-audit-");
+        scheduler.setPoolSize(1);
+        scheduler.initialize();
+        flushTask = scheduler.scheduleWithFixedDelay(this::flushQuietly, flushInterval);
+    }
+
+    /**
+     * 変更イベントを対象のToDoごとの行にして、送信待ちに積みます。
+     *
+     * @param event 変更イベント
+     */
+    @EventListener
+    public void onChange(TodoChangeEvent event) {
+        TodoAuditAction action = actionOf(event.type());
+        if (!enabled || action == null || event.ids().isEmpty()) {
+            return;
+        }
+        // Encoded once and shared by every row of a bulk action; rows are never modified.
+        byte[] payload = TodoAuditCodec.encode(event.changes());
+        LocalDateTime changedAt = event.changes().get("updatedAt") instanceof LocalDateTime updatedAt
+                ? updatedAt : LocalDateTime.now();
+        for (Long id : event.ids()) {
+            TodoAuditEntry entry = new TodoAuditEntry();
+            entry.setOwnerId(event.ownerId());
+            entry.setTodoId(id);
+            entry.setChangedAt(changedAt);
+            entry.setAction(action);
+            entry.setActor(event.actor());
+            entry.setPayload(payload);
+            if (!queue.offer(entry)) {
+                // Back-pressure rather than loss: the caller writes the backlog itself.
+                flushQuietly();
+                if (!queue.offer(entry)) {
+                    log.error("Audit log queue is full; dropped {} {} of todo {}", action, entry.getChangedAt(), id);
+                    dropped.increment();
+                }
+            }
+        }
+        if (closed) {
+            // Published by another bean during shutdown (e.g. the last write-behind flush).
+            flushQuietly();
+        }
+    }
+
+    /**
+     * 送信待ちをすべて書き込みます。
+     *
+     * @return 書き込んだ行数
+     */
+    public synchronized int flush() {
+        int count = 0;
+        List<TodoAuditEntry> batch = new ArrayList<>(batchSize);
+        while (true) {
+            if (!failed.isEmpty()) {
+                batch.addAll(failed);
+                failed.clear();
+            } else if (queue.drainTo(batch, batchSize) == 0) {
+                return count;
+            }
+            try {
+                todoAuditMapper.insertAll(batch);
+            } catch (RuntimeException ex) {
+                if (++failedAttempts >= MAX_ATTEMPTS) {
+                    log.error("Dropped {} audit log rows after {} attempts", batch.size(), failedAttempts, ex);
+                    dropped.increment(batch.size());
+                    failedAttempts = 0;
+                } else {
+                    log.warn("Audit log write failed; {} rows will be retried", batch.size(), ex);
+                    failed.addAll(batch);
+                }
+                return count;
+            }
+            failedAttempts = 0;
+            count += batch.size();
+            written.increment(batch.size());
+            batch.clear();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        closed = true;
+        if (flushTask != null) {
+            flushTask.cancel(false);
+            scheduler.shutdown();
+        }
+        flushQuietly();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException ex) {
+            log.warn("Audit log flush failed", ex);
+        }
+    }
+
+    private static TodoAuditAction actionOf(TodoChangeEvent.Type type) {
+        return switch (type) {
+            case CREATED -> TodoAuditAction.CREATED;
+            case UPDATED -> TodoAuditAction.UPDATED;
+            case DELETED -> TodoAuditAction.DELETED;
+            case INVALIDATED -> null;
+        };
+    }
+}
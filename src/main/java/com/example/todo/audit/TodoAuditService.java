@@ -0,0 +1,151 @@
+package com.example.todo.audit;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.todo.mapper.TodoAuditMapper;
+import com.example.todo.security.CurrentOwner;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 監査ログの参照（ToDoごとの履歴、期間指定のエクスポート）を提供するサービス。
+ *
+ * <p>どちらもログインユーザーの所有者の記録に限定し、インデックスの範囲読み取りだけで処理します。
+ * 履歴は新しい順に {@code todo.audit.history-page-size} 件ずつ、(変更日時, ID) のキーセットでページングします。
+ * エクスポートはMyBatisの {@link Cursor} で1本のクエリを逐次読み出し、NDJSON（1行1件）で書き出すため、
+ * 件数が数億件でもメモリ使用量は変わりません。</p>
+ *
+ * <p>記録は非同期に書き込むため、直前の変更が履歴に現れるまで {@code todo.audit.flush-interval-ms} 程度かかります。</p>
+ *
+ * @since 1.1
+ */
+@Service
+public class TodoAuditService {
+
+    private final TodoAuditMapper todoAuditMapper;
+    private final CurrentOwner currentOwner;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int historyPageSize;
+
+    public TodoAuditService(TodoAuditMapper todoAuditMapper,
+                            CurrentOwner currentOwner,
+                            ObjectMapper objectMapper,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${todo.audit.history-page-size:50}") int historyPageSize) {
+        this.todoAuditMapper = todoAuditMapper;
+        this.currentOwner = currentOwner;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.historyPageSize = historyPageSize;
+    }
+
+    /**
+     * ToDoの変更履歴を新しい順に取得します。削除・アーカイブ済みのToDoの履歴も取得できます。
+     *
+     * @param todoId ToDoのID
+     * @param beforeAt この記録より古いものを取得する場合の変更日時（先頭ページはnull）
+     * @param beforeId この記録より古いものを取得する場合のID（先頭ページはnull）
+     * @return 最大 {@code todo.audit.history-page-size} 件の記録
+     */
+    public List<TodoAuditEntry> findHistory(Long todoId, LocalDateTime beforeAt, Long beforeId) {
+        if (todoId == null) {
+            throw new IllegalArgumentException("todoId must not be null");
+        }
+        boolean keyset = beforeAt != null && beforeId != null;
+        return todoAuditMapper.selectHistory(currentOwner.getId(), todoId,
+                keyset ? beforeAt : null, keyset ? beforeId : null, historyPageSize);
+    }
+
+    /**
+     * 履歴の1ページの件数を返します。
+     *
+     * @return 件数
+     */
+    public int getHistoryPageSize() {
+        return historyPageSize;
+    }
+
+    /**
+     * 期間内の記録を古い順にNDJSONで出力します。
+     *
+     * @param ownerId 所有者ID（リクエストのスレッドで {@link #currentOwnerId()} から取得した値）
+     * @param from 開始日時（含む、nullの場合は最初から）
+     * @param to 終了日時（含まない、nullの場合は最後まで）
+     * @param out 出力先（クローズしません）
+     * @return 出力件数
+     * @throws IOException 書き込みに失敗した場合
+     */
+    public long export(Long ownerId, LocalDateTime from, LocalDateTime to, OutputStream out) throws IOException {
+        if (ownerId == null) {
+            throw new IllegalStateException("Audit export is not scoped to an owner");
+        }
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        try {
+            Long written = readOnlyTransaction.execute(status -> {
+                long count = 0;
+                try (Cursor<TodoAuditEntry> cursor = todoAuditMapper.selectForExport(ownerId, from, to)) {
+                    for (TodoAuditEntry entry : cursor) {
+                        write(generator, entry);
+                        count++;
+                    }
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                return count;
+            });
+            generator.flush();
+            return written == null ? 0 : written;
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    /**
+     * 1件を1行で書き出します。エンティティをシリアライズせず、{@link JsonGenerator} で項目を直接書き出します。
+     */
+    private static void write(JsonGenerator generator, TodoAuditEntry entry) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", entry.getId());
+        generator.writeNumberField("todoId", entry.getTodoId());
+        generator.writeStringField("changedAt", entry.getChangedAt().toString());
+        generator.writeStringField("action", entry.getAction().name());
+        generator.writeStringField("actor", entry.getActor());
+        generator.writeObjectFieldStart("changes");
+        for (Map.Entry<String, Object> change : entry.getChanges().entrySet()) {
+            Object value = change.getValue();
+            if (value == null || value instanceof Boolean || value instanceof Number) {
+                generator.writeObjectField(change.getKey(), value);
+            } else {
+                generator.writeStringField(change.getKey(), value.toString());
+            }
+        }
+        generator.writeEndObject();
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    /**
+     * ログインユーザーの所有者IDを返します。エクスポートは別スレッドで書き出すため、リクエストのスレッドで取得してください。
+     *
+     * @return 所有者ID
+     */
+    public Long currentOwnerId() {
+        return currentOwner.getId();
+    }
+}
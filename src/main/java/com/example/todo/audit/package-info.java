@@ -0,0 +1,13 @@
+/**
+ * 監査ログ（ToDoの変更履歴）のパッケージ。
+ *
+ * <p>主なクラス:</p>
+ * <ul>
+ *   <li>{@link com.example.todo.audit.TodoAuditRecorder}</li>
+ *   <li>{@link com.example.todo.audit.TodoAuditService}</li>
+ *   <li>{@link com.example.todo.audit.TodoAuditEntry}</li>
+ * </ul>
+ *
+ * @since 1.1
+ */
+package com.example.todo.audit;
@@ -0,0 +1,17 @@
+package com.example.todo.config;
+
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * {@link BulkheadDataSource} の許可を待ち時間内に得られなかったことを表す例外。
+ *
+ * <p>接続先の障害ではなく混雑を表すため、レプリカの除外には使いません。</p>
+ */
+public class BulkheadFullException extends SQLTransientConnectionException {
+
+    private static final long serialVersionUID = 1L;
+
+    public BulkheadFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.todo.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.todo.security.CachingUserCache;
+import com.example.todo.service.TodoCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Caffeineキャッシュの設定。
+ *
+ * <p>{@link TodoCache} と {@link CachingUserCache} の各キャッシュに件数上限と有効期限を設定し、ヒット率のメトリクス用に統計を有効にします。
+ * {@code spring.cache.type} で別の実装（Redisなど）を選んだ場合、この設定は使われません。</p>
+ */
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> todoCacheCustomizer(
+            @Value("${todo.cache.todos.max-size:10000}") long todosMaxSize,
+            @Value("${todo.cache.todos.ttl:10m}") Duration todosTtl,
+            @Value("${todo.cache.pages.max-size:1000}") long pagesMaxSize,
+            @Value("${todo.cache.pages.ttl:30s}") Duration pagesTtl,
+            @Value("${todo.cache.users.max-size:1000}") long usersMaxSize,
+            @Value("${todo.cache.users.ttl:10m}") Duration usersTtl) {
+        return cacheManager -> {
+            cacheManager.registerCustomCache(TodoCache.TODOS, Caffeine.newBuilder()
+                    .maximumSize(todosMaxSize)
+                    .expireAfterWrite(todosTtl)
+                    .recordStats()
+                    .build());
+            cacheManager.registerCustomCache(TodoCache.PAGES, Caffeine.newBuilder()
+                    .maximumSize(pagesMaxSize)
+                    .expireAfterWrite(pagesTtl)
+                    .recordStats()
+                    .build());
+            cacheManager.registerCustomCache(CachingUserCache.CACHE_NAME, Caffeine.newBuilder()
+                    .maximumSize(usersMaxSize)
+                    .expireAfterWrite(usersTtl)
+                    .recordStats()
+                    .build());
+        };
+    }
+}
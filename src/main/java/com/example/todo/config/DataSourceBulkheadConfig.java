@@ -0,0 +1,93 @@
+package com.example.todo.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.PriorityOrdered;
+
+import com.example.todo.datasource.ReplicaPool;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * コネクションプールの前段に {@link BulkheadDataSource} を置く設定。
+ *
+ * <p>{@code todo.datasource.bulkhead.enabled=true}（{@code virtual-threads} プロファイル）の場合のみ有効です。
+ * プライマリ（{@code dataSource} Bean）と読み書き分離の各レプリカのHikariCPプールに1つずつ置き、
+ * 許可数はそれぞれのプールの最大サイズに合わせます。読み書き分離の振り分けより内側に置くため、
+ * 振り分け先のプールごとに上限がかかります。</p>
+ *
+ * <p>使用中・待機中の数は {@code todo.datasource.bulkhead.in-use} / {@code .waiting} で、
+ * タグ {@code pool}（HikariCPのプール名）ごとに確認できます。</p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "todo.datasource.bulkhead.enabled", havingValue = "true")
+public class DataSourceBulkheadConfig {
+
+    @Bean
+    public static BeanPostProcessor dataSourceBulkheadPostProcessor(
+            @Value("${todo.datasource.bulkhead.acquire-timeout:2s}") Duration acquireTimeout,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BulkheadPostProcessor(acquireTimeout, meterRegistry);
+    }
+
+    /**
+     * プールに合わせたバルクヘッドを作成し、メトリクスを登録します。
+     */
+    private static BulkheadDataSource bulkhead(HikariDataSource pool, Duration acquireTimeout,
+                                               ObjectProvider<MeterRegistry> meterRegistry) {
+        BulkheadDataSource bulkhead = new BulkheadDataSource(pool, pool.getMaximumPoolSize(), acquireTimeout);
+        String poolName = pool.getPoolName() == null ? "dataSource" : pool.getPoolName();
+        meterRegistry.ifAvailable(registry -> {
+            Gauge.builder("todo.datasource.bulkhead.in-use", bulkhead, BulkheadDataSource::getInUse)
+                    .description("Connections checked out through the bulkhead")
+                    .tag("pool", poolName)
+                    .register(registry);
+            Gauge.builder("todo.datasource.bulkhead.waiting", bulkhead, BulkheadDataSource::getWaiting)
+                    .description("Threads waiting for a bulkhead permit")
+                    .tag("pool", poolName)
+                    .register(registry);
+        });
+        return bulkhead;
+    }
+
+    /**
+     * プライマリのプールとレプリカのプールにバルクヘッドを置きます。
+     * 読み書き分離の後処理（{@code RoutingDataSourceConfig}）より先に適用します。
+     */
+    private static final class BulkheadPostProcessor implements BeanPostProcessor, PriorityOrdered {
+
+        private final Duration acquireTimeout;
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+
+        private BulkheadPostProcessor(Duration acquireTimeout, ObjectProvider<MeterRegistry> meterRegistry) {
+            this.acquireTimeout = acquireTimeout;
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof ReplicaPool replicaPool) {
+                replicaPool.decorate(pool -> bulkhead(pool, acquireTimeout, meterRegistry));
+                return bean;
+            }
+            if ("dataSource".equals(beanName) && bean instanceof HikariDataSource pool) {
+                return bulkhead(pool, acquireTimeout, meterRegistry);
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.todo.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * エクスポート用スレッドプールの設定。
+ *
+ * <p>画面リクエストのスレッドとは分離し、同時実行数を上限で抑えます。</p>
+ */
+@Configuration
+public class ExportConfig {
+
+    /**
+     * ID範囲ごとの並列読み出しに使用するプール。同期のエクスポートすべてで共有します。
+     *
+     * <p>待機列があふれた場合は、呼び出し元（出力中のリクエストのスレッド）でその範囲を読み出します。
+     * ヘッダーを出力した後に拒否して途中で打ち切らないためで、混雑時は並列度が下がるだけです。</p>
+     *
+     * @param parallelism 同時に読み出すID範囲の数
+     * @return スレッドプール
+     */
+    @Bean
+    public ThreadPoolTaskExecutor exportReadExecutor(@Value("${todo.export.parallelism:4}") int parallelism) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("export-read-");
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(parallelism * 4);
+        // Unlike CallerRunsPolicy, also runs during shutdown: a discarded task would leave its Future waiting forever.
+        executor.setRejectedExecutionHandler((task, pool) -> task.run());
+        return executor;
+    }
+
+    /**
+     * 非同期エクスポートジョブを実行するプール。
+     *
+     * @param concurrency 同時に実行するジョブ数
+     * @param queueCapacity 待機できるジョブ数
+     * @return スレッドプール
+     */
+    @Bean
+    public ThreadPoolTaskExecutor exportJobExecutor(@Value("${todo.export.job-concurrency:2}") int concurrency,
+                                                    @Value("${todo.export.job-queue-capacity:10}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("export-job-");
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(queueCapacity);
+        return executor;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.todo.config;
+
+import java.util.Properties;
+
+import org.apache.ibatis.mapping.DatabaseIdProvider;
+import org.apache.ibatis.mapping.VendorDatabaseIdProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * MyBatisの追加設定。
+ *
+ * <p>DB製品ごとにSQLを切り替えるため、マッパーXMLの {@code databaseId} に
+ * {@code h2} / {@code mysql} を割り当てます。{@code databaseId} を持たない文は共通で使用されます。</p>
+ */
+@Configuration
+public class MyBatisConfig {
+
+    @Bean
+    public DatabaseIdProvider databaseIdProvider() {
+        Properties properties = new Properties();
+        properties.setProperty("H2", "h2");
+        properties.setProperty("MySQL", "mysql");
+        VendorDatabaseIdProvider provider = new VendorDatabaseIdProvider();
+        provider.setProperties(properties);
+        return provider;
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.todo.config;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.scripting.defaults.DefaultParameterHandler;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.example.todo.entity.DeadlineStatus;
+import com.example.todo.form.TodoFilter;
+import com.example.todo.mapper.TodoMapper;
+
+/**
+ * 起動時に {@link TodoMapper} の各SELECT文を {@code EXPLAIN} し、インデックスを使えない実行計画を警告します。
+ *
+ * <p>ソート列を埋め込む文は、一覧で選択できるソート列・方向ごとに確認します。
+ * 警告の対象は、MySQLでは {@code type=ALL}（全件走査）と {@code Using filesort}、
+ * H2では {@code tableScan} と、ORDER BYがインデックス順で解決されない計画です。
+ * アーカイブを含む一覧のように、上限付きの枝をUNIONで結合した派生表のソートは対象外です（MySQLのみ）。
+ * 件数の少ないテーブルではオプティマイザが走査を選ぶため、開発環境では警告が出ることがあります。</p>
+ *
+ * <p>{@code todo.query-plan-check.enabled=false} で無効化できます。</p>
+ */
+@Component
+@ConditionalOnProperty(name = "todo.query-plan-check.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryPlanChecker implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryPlanChecker.class);
+
+    /** 一覧で選択できるソート列と、カーソル値の見本。 */
+    private static final Map<String, Object> SORT_SAMPLES = new LinkedHashMap<>();
+
+    static {
+        SORT_SAMPLES.put("created_at", LocalDateTime.now());
+        SORT_SAMPLES.put("title", "");
+        SORT_SAMPLES.put("due_date", LocalDate.now());
+        SORT_SAMPLES.put("priority", 1);
+        SORT_SAMPLES.put("author", "");
+        SORT_SAMPLES.put("completed", Boolean.FALSE);
+    }
+
+    private final SqlSessionFactory sqlSessionFactory;
+    private final DataSource dataSource;
+
+    public QueryPlanChecker(SqlSessionFactory sqlSessionFactory, DataSource dataSource) {
+        this.sqlSessionFactory = sqlSessionFactory;
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Configuration configuration = sqlSessionFactory.getConfiguration();
+        String namespace = TodoMapper.class.getName() + ".";
+        int warnings = 0;
+        try (Connection connection = dataSource.getConnection()) {
+            boolean mysql = connection.getMetaData().getDatabaseProductName().toLowerCase().contains("mysql");
+            for (String name : List.copyOf(configuration.getMappedStatementNames())) {
+                if (!name.startsWith(namespace)) {
+                    continue;
+                }
+                MappedStatement statement = configuration.getMappedStatement(name);
+                if (statement.getSqlCommandType() != SqlCommandType.SELECT) {
+                    continue;
+                }
+                for (Map.Entry<String, Map<String, Object>> variant : variants(statement).entrySet()) {
+                    String problem = explain(connection, statement, variant.getValue(), mysql);
+                    if (problem != null) {
+                        warnings++;
+                        log.warn("Query plan for {} [{}]: {}", statement.getId(), variant.getKey(), problem);
+                    }
+                }
+            }
+        } catch (SQLException | RuntimeException ex) {
+            log.warn("Query plan check skipped", ex);
+            return;
+        }
+        log.info("Query plan check finished with {} warning(s)", warnings);
+    }
+
+    /**
+     * ソート列・走査方向ごとにSQLが変わる組み合わせを列挙します。
+     */
+    private Map<String, Map<String, Object>> variants(MappedStatement statement) {
+        Map<String, Map<String, Object>> variants = new LinkedHashMap<>();
+        Set<String> seenSql = new HashSet<>();
+        for (Map.Entry<String, Object> sort : SORT_SAMPLES.entrySet()) {
+            for (boolean asc : new boolean[] {true, false}) {
+                Map<String, Object> params = sampleParams(sort.getKey(), sort.getValue(), asc);
+                String sql = statement.getBoundSql(params).getSql();
+                if (!sql.contains("FROM todos") || !seenSql.add(sql)) {
+                    continue;
+                }
+                variants.put(sort.getKey() + " " + (asc ? "ASC" : "DESC"), params);
+            }
+        }
+        return variants;
+    }
+
+    private Map<String, Object> sampleParams(String sortColumn, Object cursorValue, boolean asc) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("ownerId", 1L);
+        params.put("limit", 10);
+        params.put("offset", 0);
+        params.put("sortColumn", sortColumn);
+        params.put("sortDir", asc ? "ASC" : "DESC");
+        params.put("scanAsc", asc);
+        params.put("cursorValue", cursorValue);
+        params.put("cursorId", 1L);
+        params.put("date", LocalDate.now());
+        params.put("materialized", true);
+        params.put("from", DeadlineStatus.LATER);
+        params.put("dueOnOrBefore", DeadlineStatus.soonLimit(LocalDate.now()));
+        params.put("before", LocalDateTime.now());
+        params.put("archived", false);
+        params.put("fulltext", true);
+        params.put("booleanQuery", "+todo");
+        params.put("terms", List.of("todo"));
+        params.put("filter", new TodoFilter().scopeTo(1L));
+        params.put("fromId", 1L);
+        params.put("toId", 1000L);
+        params.put("columns", List.of("id", "title", "due_date", "priority", sortColumn));
+        return params;
+    }
+
+    private String explain(Connection connection, MappedStatement statement, Map<String, Object> params, boolean mysql)
+            throws SQLException {
+        BoundSql boundSql = statement.getBoundSql(params);
+        String sql = boundSql.getSql();
+        try (PreparedStatement ps = connection.prepareStatement("EXPLAIN " + sql)) {
+            new DefaultParameterHandler(statement, params, boundSql).setParameters(ps);
+            try (ResultSet rs = ps.executeQuery()) {
+                return mysql ? inspectMySql(rs) : inspectH2(rs, sql);
+            }
+        }
+    }
+
+    private String inspectMySql(ResultSet rs) throws SQLException {
+        while (rs.next()) {
+            String table = rs.getString("table");
+            String type = rs.getString("type");
+            String extra = rs.getString("Extra");
+            if ("ALL".equals(type)) {
+                return "full table scan on " + table + " (rows=" + rs.getString("rows") + ")";
+            }
+            // Merging the bounded branches of a UNION (<derived...>, <union...>) is expected to sort.
+            if (extra != null && extra.contains("Using filesort") && table != null && !table.startsWith("<")) {
+                return "filesort on " + table + " (key=" + rs.getString("key") + ")";
+            }
+        }
+        return null;
+    }
+
+    private String inspectH2(ResultSet rs, String sql) throws SQLException {
+        if (!rs.next()) {
+            return null;
+        }
+        String plan = rs.getString(1);
+        if (plan.contains("tableScan")) {
+            return "full table scan: " + plan.replaceAll("\\s+", " ");
+        }
+        if (sql.contains("ORDER BY") && !plan.contains("index sorted")) {
+            return "sort not resolved by index: " + plan.replaceAll("\\s+", " ");
+        }
+        return null;
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.todo.config;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.example.todo.entity.UserAccount;
+import com.example.todo.importer.ImportFormat;
+import com.example.todo.repository.UserAccountRepository;
+import com.example.todo.service.ImportResult;
+import com.example.todo.service.TodoImportService;
+
+/**
+ * コマンドラインからのインポート。
+ *
+ * <p>{@code --todo.import.file=<path>} を指定して起動すると、ファイルを登録して終了します
+ * （登録できない行があった場合の終了コードは1）。形式は拡張子から判定し、
+ * {@code --todo.import.format=csv|ndjson} で指定することもできます。
+ * 登録したToDoの所有者は {@code --todo.import.owner=<ユーザー名>} のユーザーの所有者です（既定は {@code admin}）。
+ * 画面を起動しない場合は {@code --spring.main.web-application-type=none} を併用してください。</p>
+ *
+ * <p>終了コードは {@link ExitCodeGenerator} として返し、{@link com.example.todo.TodoApplication#main} が
+ * {@code SpringApplication.exit} でコンテキストを閉じてから終了します。</p>
+ */
+@Component
+@ConditionalOnProperty(name = "todo.import.file")
+public class TodoImportRunner implements ApplicationRunner, ExitCodeGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(TodoImportRunner.class);
+
+    private final TodoImportService todoImportService;
+    private final UserAccountRepository userAccountRepository;
+    private final Path file;
+    private final String format;
+    private final String owner;
+    private final long progressInterval;
+    private volatile int exitCode = 1;
+
+    public TodoImportRunner(TodoImportService todoImportService,
+                            UserAccountRepository userAccountRepository,
+                            @Value("${todo.import.file}") Path file,
+                            @Value("${todo.import.format:}") String format,
+                            @Value("${todo.import.owner:admin}") String owner,
+                            @Value("${todo.import.progress-interval:100000}") long progressInterval) {
+        this.todoImportService = todoImportService;
+        this.userAccountRepository = userAccountRepository;
+        this.file = file;
+        this.format = format;
+        this.owner = owner;
+        this.progressInterval = progressInterval;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        ImportFormat importFormat = ImportFormat.from(format, file.getFileName().toString());
+        Long ownerId = userAccountRepository.findByUsername(owner)
+                .map(UserAccount::resolveOwnerId)
+                .orElseThrow(() -> new IllegalArgumentException("Unknown user for todo.import.owner: " + owner));
+        log.info("Importing {} as {} for owner {}", file, importFormat.getExtension(), ownerId);
+        ImportResult result;
+        try (InputStream in = Files.newInputStream(file)) {
+            long[] nextReport = {progressInterval};
+            result = todoImportService.importTodos(ownerId, in, importFormat, imported -> {
+                if (imported >= nextReport[0]) {
+                    log.info("Imported {} rows", imported);
+                    nextReport[0] = imported + progressInterval;
+                }
+            });
+        }
+        for (ImportResult.RowError error : result.getErrors()) {
+            log.warn("Line {}: {}", error.line(), error.message());
+        }
+        if (result.isErrorsTruncated()) {
+            log.warn("{} more errors not shown", result.getErrorCount() - result.getErrors().size());
+        }
+        log.info("Import finished: {} imported, {} errors, {} rows/s",
+                result.getImported(), result.getErrorCount(), result.getRowsPerSecond());
+        exitCode = result.getErrorCount() == 0 ? 0 : 1;
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
+}
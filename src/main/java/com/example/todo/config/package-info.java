@@ -0,0 +1,14 @@
+/**
+ * アプリケーション全体の設定クラスのパッケージ。
+ *
+ * <p>主なクラス:</p>
+ * <ul>
+ *   <li>{@link com.example.todo.config.MyBatisConfig}</li>
+ *   <li>{@link com.example.todo.config.ExportConfig}</li>
+ *   <li>{@link com.example.todo.config.QueryPlanChecker}</li>
+ *   <li>{@link com.example.todo.config.TodoImportRunner}</li>
+ * </ul>
+ *
+ * @since 1.1
+ */
+package com.example.todo.config;
@@ -0,0 +1,73 @@
+package com.example.todo.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.StringJoiner;
+
+import jakarta.servlet.http.HttpSession;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.support.RequestContextUtils;
+
+/**
+ * 条件付きGET（{@code If-None-Match} / {@code If-Modified-Since}）の共通処理。
+ *
+ * <p>画面は利用者ごとに内容（CSRFトークン、ログイン名）が異なるため、
+ * {@code Cache-Control: private, no-cache} を付け、ブラウザには毎回再検証させます。
+ * フラッシュメッセージを表示するリクエストは304にしません。</p>
+ */
+final class ConditionalGet {
+
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    private ConditionalGet() {
+    }
+
+    /**
+     * ETag / Last-Modifiedを付け、ブラウザのキャッシュが最新か判定します。
+     * 最新の場合はステータス304を設定するため、呼び出し側は本文を作らずに {@code null} を返します。
+     *
+     * @param request リクエスト
+     * @param etag ETag
+     * @param lastModified 最終更新時刻（エポックミリ秒、不明な場合は負の値）
+     * @return ブラウザのキャッシュが最新の場合はtrue
+     */
+    static boolean isNotModified(ServletWebRequest request, String etag, long lastModified) {
+        if (request.getResponse() != null) {
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        }
+        Map<String, ?> flash = RequestContextUtils.getInputFlashMap(request.getRequest());
+        if (flash != null && !flash.isEmpty()) {
+            return false;
+        }
+        return request.checkNotModified(etag, lastModified);
+    }
+
+    /**
+     * レスポンスの内容を左右する値から弱いETagを作成します。
+     *
+     * @param parts 行のバージョン、変更スタンプ、基準日、セッションなど
+     * @return 弱いETag（{@code W/"..."}）
+     */
+    static String weakEtag(Object... parts) {
+        StringJoiner joiner = new StringJoiner("|");
+        for (Object part : parts) {
+            joiner.add(String.valueOf(part));
+        }
+        return "W/\"" + DigestUtils.md5DigestAsHex(joiner.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * 画面の内容を左右するセッション（CSRFトークンの単位）を表す値を返します。
+     *
+     * @param request リクエスト
+     * @return セッションID。セッションがない場合は空文字
+     */
+    static String sessionTag(ServletWebRequest request) {
+        HttpSession session = request.getRequest().getSession(false);
+        return session == null ? "" : session.getId();
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.todo.controller;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.example.todo.audit.TodoAuditEntry;
+import com.example.todo.audit.TodoAuditService;
+
+/**
+ * 監査ログ（変更履歴）に関するコントローラ。
+ *
+ * <p>ToDoごとの履歴画面と、期間指定の監査ログのダウンロード（NDJSON）を提供します。</p>
+ */
+@Controller
+public class TodoAuditController {
+
+    private final TodoAuditService todoAuditService;
+
+    public TodoAuditController(TodoAuditService todoAuditService) {
+        this.todoAuditService = todoAuditService;
+    }
+
+    @GetMapping("/todos/{id}/history")
+    public String history(@PathVariable("id") Long id,
+                          @RequestParam(required = false)
+                          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime beforeAt,
+                          @RequestParam(required = false) Long beforeId,
+                          Model model) {
+        List<TodoAuditEntry> entries = todoAuditService.findHistory(id, beforeAt, beforeId);
+        model.addAttribute("todoId", id);
+        model.addAttribute("entries", entries);
+        // A full page may have older entries; the last one is the keyset cursor.
+        model.addAttribute("older", entries.size() == todoAuditService.getHistoryPageSize()
+                ? entries.get(entries.size() - 1) : null);
+        return "todo/history";
+    }
+
+    @GetMapping("/todos/audit/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        Long ownerId = todoAuditService.currentOwnerId();
+        LocalDateTime start = from == null ? null : from.atStartOfDay();
+        LocalDateTime end = to == null ? null : to.plusDays(1).atStartOfDay();
+        StreamingResponseBody body = out -> todoAuditService.export(ownerId, start, end, out);
+        String filename = "todo_audit_" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE) + ".ndjson";
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(body);
+    }
+}
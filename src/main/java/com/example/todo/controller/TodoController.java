@@ -1,7 +1,7 @@
 package com.example.todo.controller;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -11,9 +11,7 @@ import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -24,20 +22,36 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import com.example.todo.entity.DeadlineStatus;
 import com.example.todo.entity.Todo;
+import com.example.todo.form.TodoFilter;
 import com.example.todo.form.TodoForm;
+import com.example.todo.security.CurrentOwner;
+import com.example.todo.service.BulkAction;
+import com.example.todo.service.BulkResult;
+import com.example.todo.service.TodoBulkService;
+import com.example.todo.service.TodoChangeStamp;
+import com.example.todo.service.TodoSearchHit;
 import com.example.todo.service.TodoService;
 
 @Controller
 public class TodoController {
 
     private final TodoService todoService;
+    private final TodoBulkService todoBulkService;
+    private final TodoChangeStamp todoChangeStamp;
+    private final CurrentOwner currentOwner;
 
-    public TodoController(TodoService todoService) {
+    public TodoController(TodoService todoService, TodoBulkService todoBulkService,
+                          TodoChangeStamp todoChangeStamp, CurrentOwner currentOwner) {
         this.todoService = todoService;
+        this.todoBulkService = todoBulkService;
+        this.todoChangeStamp = todoChangeStamp;
+        this.currentOwner = currentOwner;
     }
 
     @GetMapping({"/todos", "/todos/"})
@@ -45,14 +59,23 @@ public class TodoController {
                        @RequestParam(required = false) Map<String, String> params,
                        @RequestParam(required = false) String sort,
                        @RequestParam(required = false) String dir,
+                       @RequestParam(required = false) String cursor,
+                       @RequestParam(defaultValue = "false") boolean archived,
+                       ServletWebRequest webRequest,
                        Model model) {
-        Page<Todo> page = todoService.findPageByMyBatis(pageable, sort, dir);
+        if (isListNotModified(webRequest, archived ? "list+archived" : "list")) {
+            return null;
+        }
+        Page<Todo> page = todoService.findPageByMyBatis(pageable, sort, dir, cursor, archived);
         applyPagingModel(model, page, pageable);
+        applyCursorModel(model, page, sort, dir);
+        applyDeadlineModel(model);
         model.addAttribute("todos", page.getContent());
         model.addAttribute("queryParams", sanitizeQueryParams(params));
         model.addAttribute("sort", sort);
         model.addAttribute("dir", dir);
         model.addAttribute("overdueMode", false);
+        model.addAttribute("archived", archived);
         return "todo/list";
     }
 
@@ -61,50 +84,66 @@ public class TodoController {
         return "redirect:/todos";
     }
 
-    @GetMapping({"/todo/export", "/todos/export"})
-    public ResponseEntity<byte[]> exportCsv() {
-        List<Todo> todos = todoService.findAllOrderByCreatedAtDesc();
-        String csv = buildCsv(todos);
-        byte[] bom = new byte[] {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
-        byte[] body = csv.getBytes(java.nio.charset.StandardCharsets.UTF_8);
-        byte[] out = new byte[bom.length + body.length];
-        System.arraycopy(bom, 0, out, 0, bom.length);
-        System.arraycopy(body, 0, out, bom.length, body.length);
-
-        String filename = "todo_" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE) + ".csv";
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(new MediaType("text", "csv"));
-        headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"");
-        return new ResponseEntity<>(out, headers, HttpStatus.OK);
-    }
-
     @GetMapping("/todos/overdue")
     public String overdue(@PageableDefault(size = 10) Pageable pageable,
                           @RequestParam(required = false) Map<String, String> params,
                           @RequestParam(required = false) String sort,
                           @RequestParam(required = false) String dir,
+                          @RequestParam(required = false) String cursor,
+                          ServletWebRequest webRequest,
                           Model model) {
-        Page<Todo> page = todoService.findOverduePageByMyBatis(LocalDate.now(), pageable, sort, dir);
+        if (isListNotModified(webRequest, "overdue")) {
+            return null;
+        }
+        Page<Todo> page = todoService.findOverduePageByMyBatis(LocalDate.now(), pageable, sort, dir, cursor);
         applyPagingModel(model, page, pageable);
+        applyCursorModel(model, page, sort, dir);
+        applyDeadlineModel(model);
         model.addAttribute("todos", page.getContent());
         model.addAttribute("overdueMode", true);
+        model.addAttribute("archived", false);
         model.addAttribute("queryParams", sanitizeQueryParams(params));
         model.addAttribute("sort", sort);
         model.addAttribute("dir", dir);
         return "todo/list";
     }
 
+    @GetMapping("/todos/search")
+    public String search(@RequestParam(name = "q", required = false) String q,
+                         @RequestParam(defaultValue = "false") boolean archived,
+                         @PageableDefault(size = 10) Pageable pageable,
+                         Model model) {
+        Page<TodoSearchHit> page = todoService.search(q, pageable, archived);
+        applyPagingModel(model, page, pageable);
+        model.addAttribute("hits", page.getContent());
+        model.addAttribute("q", q);
+        model.addAttribute("archived", archived);
+        return "todo/search";
+    }
+
     @GetMapping("/todos/new")
     public String createForm() {
         return "todo/form";
     }
 
     @GetMapping("/todos/{id}")
-    public String detail(@PathVariable("id") Long id, Model model) {
+    public String detail(@PathVariable("id") Long id, ServletWebRequest webRequest, Model model) {
         Todo todo = todoService.findById(id);
+        if (todo == null) {
+            todo = todoService.findArchivedById(id);
+        }
         if (todo == null) {
             return "redirect:/todos";
         }
+        // The row comes from TodoCache, so a revalidation usually runs no SQL at all.
+        String etag = ConditionalGet.weakEtag("detail", id, todo.getVersion(), todo.isArchived(), LocalDate.now(),
+                ConditionalGet.sessionTag(webRequest));
+        long lastModified = todo.getUpdatedAt() == null
+                ? -1L
+                : todo.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        if (ConditionalGet.isNotModified(webRequest, etag, lastModified)) {
+            return null;
+        }
         model.addAttribute("todo", todo);
         return "todo/detail";
     }
@@ -187,39 +226,160 @@ public class TodoController {
     }
 
     @PostMapping("/todos/bulk-delete")
-    public String bulkDelete(@RequestParam(name = "ids", required = false) List<Long> ids,
+    public Object bulkDelete(@RequestParam(name = "ids", required = false) List<Long> ids,
+                             @RequestParam(required = false) String scope,
+                             @RequestParam(required = false) String confirmScope,
+                             @ModelAttribute TodoFilter filter,
+                             @RequestHeader(value = "X-Requested-With", required = false) String requestedWith,
                              RedirectAttributes redirectAttributes) {
+        if (isAllScope(scope)) {
+            if (!isAllScopeConfirmed(confirmScope)) {
+                return allScopeNotConfirmed(redirectAttributes);
+            }
+            filter.resolveOverdueDate(LocalDate.now());
+            return bulkResponse(todoBulkService.deleteByFilter(filter), "削除しました", requestedWith, redirectAttributes);
+        }
         if (ids == null || ids.isEmpty()) {
             redirectAttributes.addFlashAttribute("errorMessage", "削除する項目を選択してください");
             return "redirect:/todos";
         }
-        int deleted = todoService.deleteByIds(ids);
-        redirectAttributes.addFlashAttribute("successMessage", "選択した項目を削除しました（" + deleted + "件）");
-        return "redirect:/todos";
+        return bulkResponse(todoBulkService.deleteByIds(ids), "選択した項目を削除しました", requestedWith, redirectAttributes);
+    }
+
+    @PostMapping("/todos/bulk-complete")
+    public Object bulkComplete(@RequestParam(name = "ids", required = false) List<Long> ids,
+                               @RequestParam(required = false) String scope,
+                               @RequestParam(required = false) String confirmScope,
+                               @RequestParam(name = "newCompleted", defaultValue = "true") boolean completed,
+                               @ModelAttribute TodoFilter filter,
+                               @RequestHeader(value = "X-Requested-With", required = false) String requestedWith,
+                               RedirectAttributes redirectAttributes) {
+        String message = completed ? "完了にしました" : "未完了に戻しました";
+        return bulkUpdate(ids, scope, confirmScope, filter, BulkAction.complete(completed), message, requestedWith,
+                redirectAttributes);
+    }
+
+    @PostMapping("/todos/bulk-reassign")
+    public Object bulkReassign(@RequestParam(name = "ids", required = false) List<Long> ids,
+                               @RequestParam(required = false) String scope,
+                               @RequestParam(required = false) String confirmScope,
+                               @RequestParam(name = "newAuthor", required = false) String newAuthor,
+                               @ModelAttribute TodoFilter filter,
+                               @RequestHeader(value = "X-Requested-With", required = false) String requestedWith,
+                               RedirectAttributes redirectAttributes) {
+        try {
+            BulkAction action = BulkAction.reassign(newAuthor == null ? null : newAuthor.trim());
+            return bulkUpdate(ids, scope, confirmScope, filter, action, "作成者を変更しました", requestedWith,
+                    redirectAttributes);
+        } catch (IllegalArgumentException ex) {
+            redirectAttributes.addFlashAttribute("errorMessage", ex.getMessage());
+            return "redirect:/todos";
+        }
+    }
+
+    @PostMapping("/todos/bulk-priority")
+    public Object bulkPriority(@RequestParam(name = "ids", required = false) List<Long> ids,
+                               @RequestParam(required = false) String scope,
+                               @RequestParam(required = false) String confirmScope,
+                               @RequestParam(name = "newPriority", required = false) Integer newPriority,
+                               @ModelAttribute TodoFilter filter,
+                               @RequestHeader(value = "X-Requested-With", required = false) String requestedWith,
+                               RedirectAttributes redirectAttributes) {
+        try {
+            BulkAction action = BulkAction.changePriority(newPriority);
+            return bulkUpdate(ids, scope, confirmScope, filter, action, "優先度を変更しました", requestedWith,
+                    redirectAttributes);
+        } catch (IllegalArgumentException ex) {
+            redirectAttributes.addFlashAttribute("errorMessage", ex.getMessage());
+            return "redirect:/todos";
+        }
     }
 
     @PostMapping("/todos/{id}/toggle")
     public Object toggle(@PathVariable("id") Long id,
+                         @RequestParam(required = false) Long version,
+                         @RequestParam(required = false) Boolean completed,
                          @RequestHeader(value = "X-Requested-With", required = false) String requestedWith,
                          RedirectAttributes redirectAttributes) {
         boolean isAjax = "XMLHttpRequest".equalsIgnoreCase(requestedWith);
         try {
-            Todo updated = todoService.toggleCompleted(id);
+            Todo updated = todoService.toggleCompleted(id, version, completed);
             if (isAjax) {
-                return ResponseEntity.ok().body(new ToggleResponse(updated.getId(), updated.getCompleted()));
+                return ResponseEntity.ok().body(
+                        new ToggleResponse(updated.getId(), updated.getCompleted(), updated.getVersion()));
             }
             redirectAttributes.addFlashAttribute("successMessage", "完了状態を更新しました");
             return "redirect:/todos";
         } catch (jakarta.persistence.EntityNotFoundException ex) {
             if (isAjax) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ToggleResponse(id, null));
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ToggleResponse(id, null, null));
             }
             redirectAttributes.addFlashAttribute("errorMessage", "更新に失敗しました");
             return "redirect:/todos";
+        } catch (jakarta.persistence.OptimisticLockException ex) {
+            if (isAjax) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(new ToggleResponse(id, null, null));
+            }
+            redirectAttributes.addFlashAttribute("errorMessage", "他のユーザーにより更新されました。再読み込みしてください。");
+            return "redirect:/todos";
         }
     }
 
-    private void applyPagingModel(Model model, Page<Todo> page, Pageable pageable) {
+    private Object bulkUpdate(List<Long> ids, String scope, String confirmScope, TodoFilter filter, BulkAction action,
+                              String message, String requestedWith, RedirectAttributes redirectAttributes) {
+        if (isAllScope(scope)) {
+            if (!isAllScopeConfirmed(confirmScope)) {
+                return allScopeNotConfirmed(redirectAttributes);
+            }
+            filter.resolveOverdueDate(LocalDate.now());
+            return bulkResponse(todoBulkService.updateByFilter(filter, action), message, requestedWith, redirectAttributes);
+        }
+        if (ids == null || ids.isEmpty()) {
+            redirectAttributes.addFlashAttribute("errorMessage", "対象の項目を選択してください");
+            return "redirect:/todos";
+        }
+        return bulkResponse(todoBulkService.updateByIds(ids, action), message, requestedWith, redirectAttributes);
+    }
+
+    private Object bulkResponse(BulkResult result, String message, String requestedWith,
+                                RedirectAttributes redirectAttributes) {
+        if ("XMLHttpRequest".equalsIgnoreCase(requestedWith)) {
+            return ResponseEntity.ok().body(result);
+        }
+        redirectAttributes.addFlashAttribute("successMessage",
+                message + "（" + result.getTotal() + "件 / " + result.getChunks() + "回に分けて処理）");
+        return "redirect:/todos";
+    }
+
+    private boolean isAllScope(String scope) {
+        return "all".equals(scope);
+    }
+
+    /**
+     * 絞り込み条件全体への一括操作が確認済みか判定します。一覧画面は確認ダイアログで了承された場合だけ
+     * {@code confirmScope=all} を送るため、Enterキーなどによる意図しない送信では実行しません。
+     */
+    private boolean isAllScopeConfirmed(String confirmScope) {
+        return "all".equals(confirmScope);
+    }
+
+    private Object allScopeNotConfirmed(RedirectAttributes redirectAttributes) {
+        redirectAttributes.addFlashAttribute("errorMessage", "すべての項目が対象の操作は確認のうえ実行してください");
+        return "redirect:/todos";
+    }
+
+    /**
+     * 一覧の条件付きGETを判定します。ページの取得や描画の前に、所有者の変更スタンプだけで判定します。
+     * 期限切れの強調表示が日付で変わるため、基準日もETagに含めます。
+     */
+    private boolean isListNotModified(ServletWebRequest webRequest, String view) {
+        Long ownerId = currentOwner.getId();
+        String etag = ConditionalGet.weakEtag(view, ownerId, todoChangeStamp.token(ownerId), LocalDate.now(),
+                ConditionalGet.sessionTag(webRequest));
+        return ConditionalGet.isNotModified(webRequest, etag, todoChangeStamp.getLastModified(ownerId));
+    }
+
+    private void applyPagingModel(Model model, Page<?> page, Pageable pageable) {
         model.addAttribute("page", page);
         model.addAttribute("currentPage", page.getNumber());
         model.addAttribute("totalPages", page.getTotalPages());
@@ -232,6 +392,17 @@ public class TodoController {
         model.addAttribute("pageSize", pageable.getPageSize());
     }
 
+    private void applyDeadlineModel(Model model) {
+        Map<DeadlineStatus, Long> counts = todoService.countByDeadline();
+        model.addAttribute("overdueCount", counts.get(DeadlineStatus.OVERDUE));
+        model.addAttribute("dueSoonCount", counts.get(DeadlineStatus.DUE_SOON));
+    }
+
+    private void applyCursorModel(Model model, Page<Todo> page, String sort, String dir) {
+        model.addAttribute("prevCursor", todoService.previousCursor(page, sort, dir));
+        model.addAttribute("nextCursor", todoService.nextCursor(page, sort, dir));
+    }
+
     private Map<String, String> sanitizeQueryParams(Map<String, String> params) {
         if (params == null || params.isEmpty()) {
             return java.util.Collections.emptyMap();
@@ -241,37 +412,9 @@ public class TodoController {
         cleaned.remove("size");
         cleaned.remove("sort");
         cleaned.remove("dir");
+        cleaned.remove("cursor");
         return cleaned;
     }
 
-    private String buildCsv(List<Todo> todos) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("ID,タイトル,登録者,ステータス,作成日\n");
-        DateTimeFormatter fmt = DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm");
-        for (Todo todo : todos) {
-            String status = Boolean.TRUE.equals(todo.getCompleted()) ? "完了" : "未完了";
-            sb.append(escapeCsv(String.valueOf(todo.getId()))).append(",");
-            sb.append(escapeCsv(nullToEmpty(todo.getTitle()))).append(",");
-            sb.append(escapeCsv(nullToEmpty(todo.getAuthor()))).append(",");
-            sb.append(escapeCsv(status)).append(",");
-            sb.append(escapeCsv(todo.getCreatedAt() == null ? "" : todo.getCreatedAt().format(fmt)));
-            sb.append("\n");
-        }
-        return sb.toString();
-    }
-
-    private String escapeCsv(String value) {
-        if (value == null) {
-            return "";
-        }
-        boolean needsQuote = value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r");
-        String escaped = value.replace("\"", "\"\"");
-        return needsQuote ? "\"" + escaped + "\"" : escaped;
-    }
-
-    private String nullToEmpty(String value) {
-        return value == null ? "" : value;
-    }
-
-    public record ToggleResponse(Long id, Boolean completed) { }
+    public record ToggleResponse(Long id, Boolean completed, Long version) { }
 }
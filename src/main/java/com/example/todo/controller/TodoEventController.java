@@ -0,0 +1,38 @@
+package com.example.todo.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.todo.event.TodoEventBroadcaster;
+import com.example.todo.security.CurrentOwner;
+
+/**
+ * 一覧画面のライブ更新（Server-Sent Events）のコントローラ。
+ *
+ * <p>イベント名は {@code created} / {@code updated} / {@code deleted} / {@code invalidated} / {@code resync} で、
+ * データは {@link com.example.todo.event.TodoChangeEvent} のJSONです。</p>
+ */
+@Controller
+public class TodoEventController {
+
+    private final TodoEventBroadcaster todoEventBroadcaster;
+    private final CurrentOwner currentOwner;
+
+    public TodoEventController(TodoEventBroadcaster todoEventBroadcaster, CurrentOwner currentOwner) {
+        this.todoEventBroadcaster = todoEventBroadcaster;
+        this.currentOwner = currentOwner;
+    }
+
+    @GetMapping(path = "/todos/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events() {
+        SseEmitter emitter = todoEventBroadcaster.subscribe(currentOwner.getId());
+        if (emitter == null) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many live-update connections");
+        }
+        return emitter;
+    }
+}
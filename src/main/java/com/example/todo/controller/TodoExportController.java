@@ -0,0 +1,135 @@
+package com.example.todo.controller;
+
+import java.security.Principal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.example.todo.export.ExportFormat;
+import com.example.todo.export.ExportRange;
+import com.example.todo.form.TodoFilter;
+import com.example.todo.security.CurrentOwner;
+import com.example.todo.service.ExportJob;
+import com.example.todo.service.TodoChangeStamp;
+import com.example.todo.service.TodoExportJobService;
+import com.example.todo.service.TodoExportService;
+
+/**
+ * エクスポートに関するコントローラ。
+ *
+ * <p>件数が {@code todo.export.async-threshold} 以下の場合はレスポンスへ直接ストリーミングし、
+ * それを超える場合はバックグラウンドジョブとして実行して進捗画面へリダイレクトします。</p>
+ *
+ * <p>直接ダウンロードには所有者の {@link TodoChangeStamp} から作ったETagを付け、
+ * 変更がなければ件数の確認や出力を行わずに304を返します。</p>
+ */
+@Controller
+public class TodoExportController {
+
+    private final TodoExportService todoExportService;
+    private final TodoExportJobService todoExportJobService;
+    private final TodoChangeStamp todoChangeStamp;
+    private final CurrentOwner currentOwner;
+    private final long asyncThreshold;
+
+    public TodoExportController(TodoExportService todoExportService,
+                                TodoExportJobService todoExportJobService,
+                                TodoChangeStamp todoChangeStamp,
+                                CurrentOwner currentOwner,
+                                @Value("${todo.export.async-threshold:200000}") long asyncThreshold) {
+        this.todoExportService = todoExportService;
+        this.todoExportJobService = todoExportJobService;
+        this.todoChangeStamp = todoChangeStamp;
+        this.currentOwner = currentOwner;
+        this.asyncThreshold = asyncThreshold;
+    }
+
+    @GetMapping({"/todo/export", "/todos/export"})
+    public Object export(@ModelAttribute TodoFilter filter,
+                         @RequestParam(required = false) String format,
+                         Principal principal,
+                         ServletWebRequest webRequest) {
+        ExportFormat exportFormat = resolveFormat(format);
+        LocalDate today = LocalDate.now();
+        filter.resolveOverdueDate(today);
+        // The file name carries the date, so the day is part of the tag as well.
+        Long ownerId = currentOwner.getId();
+        String etag = ConditionalGet.weakEtag("export", ownerId, todoChangeStamp.token(ownerId), exportFormat, today,
+                filter);
+        if (ConditionalGet.isNotModified(webRequest, etag, todoChangeStamp.getLastModified(ownerId))) {
+            return null;
+        }
+        ExportRange range = todoExportService.plan(filter);
+
+        if (range.getTotal() > asyncThreshold) {
+            try {
+                ExportJob job = todoExportJobService.submit(filter, exportFormat, range, principal.getName());
+                return "redirect:/todos/exports/" + job.getId();
+            } catch (TaskRejectedException ex) {
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many export jobs", ex);
+            }
+        }
+
+        StreamingResponseBody body = out -> todoExportService.export(filter, exportFormat, range, out, written -> { });
+        return ResponseEntity.ok()
+                .headers(downloadHeaders(exportFormat))
+                .body(body);
+    }
+
+    @GetMapping("/todos/exports/{jobId}")
+    public String job(@PathVariable("jobId") String jobId, Principal principal, Model model) {
+        model.addAttribute("job", findJob(jobId, principal));
+        return "todo/export-job";
+    }
+
+    @GetMapping("/todos/exports/{jobId}/download")
+    public ResponseEntity<Resource> download(@PathVariable("jobId") String jobId, Principal principal) {
+        ExportJob job = findJob(jobId, principal);
+        if (job.getStatus() != ExportJob.Status.COMPLETED) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Export is not ready");
+        }
+        return ResponseEntity.ok()
+                .headers(downloadHeaders(job.getFormat()))
+                .body(new FileSystemResource(job.getFile()));
+    }
+
+    private ExportJob findJob(String jobId, Principal principal) {
+        ExportJob job = todoExportJobService.find(jobId, principal.getName());
+        if (job == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Export job not found");
+        }
+        return job;
+    }
+
+    private ExportFormat resolveFormat(String format) {
+        try {
+            return ExportFormat.from(format);
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage(), ex);
+        }
+    }
+
+    private HttpHeaders downloadHeaders(ExportFormat format) {
+        String filename = "todo_" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE) + "." + format.getExtension();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(format.getMediaType());
+        headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"");
+        return headers;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.todo.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.example.todo.importer.ImportFormat;
+import com.example.todo.security.CurrentOwner;
+import com.example.todo.service.ImportResult;
+import com.example.todo.service.TodoImportService;
+
+/**
+ * インポートに関するコントローラ。
+ *
+ * <p>アップロードされたファイルを1件ずつ読み込んで登録し、登録件数と登録できなかった行を同じ画面に表示します。
+ * 登録したToDoはログインユーザーの所有者のものになります。</p>
+ */
+@Controller
+public class TodoImportController {
+
+    private final TodoImportService todoImportService;
+    private final CurrentOwner currentOwner;
+
+    public TodoImportController(TodoImportService todoImportService, CurrentOwner currentOwner) {
+        this.todoImportService = todoImportService;
+        this.currentOwner = currentOwner;
+    }
+
+    @GetMapping("/todos/import")
+    public String form() {
+        return "todo/import";
+    }
+
+    @PostMapping("/todos/import")
+    public String importTodos(@RequestParam("file") MultipartFile file,
+                              @RequestParam(name = "format", required = false) String format,
+                              Model model) throws IOException {
+        if (file.isEmpty()) {
+            model.addAttribute("errorMessage", "ファイルを選択してください。");
+            return "todo/import";
+        }
+        try (InputStream in = file.getInputStream()) {
+            ImportFormat importFormat = ImportFormat.from(format, file.getOriginalFilename());
+            ImportResult result = todoImportService.importTodos(currentOwner.getId(), in, importFormat,
+                    imported -> { });
+            model.addAttribute("result", result);
+            model.addAttribute("filename", file.getOriginalFilename());
+        } catch (IllegalArgumentException ex) {
+            model.addAttribute("errorMessage", ex.getMessage());
+        }
+        return "todo/import";
+    }
+}
@@ -4,6 +4,8 @@
  * <p>主なクラス:</p>
  * <ul>
  *   <li>{@link com.example.todo.controller.TodoController}</li>
+ *   <li>{@link com.example.todo.controller.TodoExportController}</li>
+ *   <li>{@link com.example.todo.controller.TodoImportController}</li>
  * </ul>
  *
  * @since 1.0
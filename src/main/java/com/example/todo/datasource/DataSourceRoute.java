@@ -0,0 +1,145 @@
+package com.example.todo.datasource;
+
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * 現在のスレッドの振り分け状態。
+ *
+ * <p>{@link ReadYourWritesFilter} がリクエストの開始時に状態を割り当てます。
+ * 書き込みを行ったリクエストは、以降の読み取りもプライマリへ送ります。
+ * また、直前に書き込みを行ったセッションのリクエストは、最初からプライマリに固定します。
+ * 最初の書き込みの時点で、開始時に渡された処理（セッションへの記録）を呼び出します。
+ * リクエスト外のバッチ処理は {@link #onPrimary(Supplier)} で読み取りをプライマリへ送ります。</p>
+ */
+public final class DataSourceRoute {
+
+    private static final ThreadLocal<RequestState> REQUEST = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> READ = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> PRIMARY = new ThreadLocal<>();
+
+    private DataSourceRoute() {
+    }
+
+    /**
+     * リクエストの振り分け状態を開始します。
+     *
+     * @param pinnedToPrimary すべての読み取りをプライマリへ送る場合はtrue
+     */
+    public static void beginRequest(boolean pinnedToPrimary) {
+        beginRequest(pinnedToPrimary, null);
+    }
+
+    /**
+     * リクエストの振り分け状態を開始します。
+     *
+     * @param pinnedToPrimary すべての読み取りをプライマリへ送る場合はtrue
+     * @param onFirstWrite 最初の書き込みの時点で呼び出す処理（任意）
+     */
+    public static void beginRequest(boolean pinnedToPrimary, Runnable onFirstWrite) {
+        REQUEST.set(new RequestState(pinnedToPrimary, onFirstWrite));
+    }
+
+    /**
+     * リクエストの振り分け状態を終了します。
+     *
+     * @return リクエスト中に書き込みがあった場合はtrue
+     */
+    public static boolean endRequest() {
+        RequestState state = REQUEST.get();
+        REQUEST.remove();
+        return state != null && state.written;
+    }
+
+    /**
+     * 書き込みを記録します。リクエスト外では何もしません。
+     * リクエストで最初の書き込みであれば、{@link #beginRequest(boolean, Runnable)} に渡された処理を呼び出します。
+     */
+    public static void markWrite() {
+        RequestState state = REQUEST.get();
+        if (state == null || state.written) {
+            return;
+        }
+        state.written = true;
+        if (state.onFirstWrite != null) {
+            state.onFirstWrite.run();
+        }
+    }
+
+    /**
+     * 読み取りをプライマリへ固定するか判定します。
+     *
+     * @return 書き込み済み、書き込み直後のセッション、または {@link #onPrimary(Supplier)} の内側の場合はtrue
+     */
+    public static boolean isPinnedToPrimary() {
+        if (Boolean.TRUE.equals(PRIMARY.get())) {
+            return true;
+        }
+        RequestState state = REQUEST.get();
+        return state != null && (state.pinned || state.written);
+    }
+
+    /**
+     * 処理を読み取り専用として実行します（トランザクション外の参照SQL用）。
+     *
+     * @param action 処理
+     * @param <T> 戻り値の型
+     * @return 処理の戻り値
+     * @throws Exception 処理が投げた例外
+     */
+    public static <T> T read(Callable<T> action) throws Exception {
+        Boolean previous = READ.get();
+        READ.set(Boolean.TRUE);
+        try {
+            return action.call();
+        } finally {
+            if (previous == null) {
+                READ.remove();
+            } else {
+                READ.set(previous);
+            }
+        }
+    }
+
+    /**
+     * 処理中の読み取りをすべてプライマリへ送ります。遅延したレプリカから処理済みの行を読まないための、
+     * 読み取りと書き込みを繰り返すバッチ処理用です。リクエストの振り分け状態は変更しません。
+     *
+     * @param action 処理
+     * @param <T> 戻り値の型
+     * @return 処理の戻り値
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        Boolean previous = PRIMARY.get();
+        PRIMARY.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY.remove();
+            } else {
+                PRIMARY.set(previous);
+            }
+        }
+    }
+
+    /**
+     * 読み取り専用として実行中か判定します。
+     *
+     * @return {@link #read(Callable)} の内側の場合はtrue
+     */
+    public static boolean isReadRequested() {
+        return Boolean.TRUE.equals(READ.get());
+    }
+
+    private static final class RequestState {
+        private final boolean pinned;
+        private final Runnable onFirstWrite;
+        private boolean written;
+
+        private RequestState(boolean pinned, Runnable onFirstWrite) {
+            this.pinned = pinned;
+            this.onFirstWrite = onFirstWrite;
+        }
+    }
+}
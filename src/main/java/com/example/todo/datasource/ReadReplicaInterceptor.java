@@ -0,0 +1,37 @@
+package com.example.todo.datasource;
+
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+/**
+ * MyBatisの参照SQLをレプリカ向けとして実行し、更新SQLを書き込みとして記録します。
+ *
+ * <p>トランザクション外では、MyBatisは最初のSQLの実行時にコネクションを取得するため、
+ * 参照SQLはレプリカ、更新SQLはプライマリのコネクションを使います。
+ * トランザクション内ではトランザクション開始時のコネクションをそのまま使います。</p>
+ */
+@Intercepts({
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "queryCursor",
+                args = {MappedStatement.class, Object.class, RowBounds.class}),
+        @Signature(type = Executor.class, method = "update",
+                args = {MappedStatement.class, Object.class})
+})
+public class ReadReplicaInterceptor implements Interceptor {
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        if ("update".equals(invocation.getMethod().getName())) {
+            DataSourceRoute.markWrite();
+            return invocation.proceed();
+        }
+        return DataSourceRoute.read(invocation::proceed);
+    }
+}
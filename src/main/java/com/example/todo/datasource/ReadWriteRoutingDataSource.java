@@ -0,0 +1,65 @@
+package com.example.todo.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 参照をレプリカへ、書き込みをプライマリへ振り分けるデータソース。
+ *
+ * <p>次の場合にレプリカを使用します（利用できるレプリカがない場合はプライマリ）。</p>
+ * <ul>
+ *   <li>読み取り専用トランザクション（{@code @Transactional(readOnly = true)}、Spring Dataの参照メソッド）</li>
+ *   <li>トランザクション外のMyBatisの参照SQL（{@link ReadReplicaInterceptor}）</li>
+ * </ul>
+ * <p>ただし、同じリクエストまたは同じセッションで直前に書き込みがあった場合はプライマリを使います
+ * （{@link DataSourceRoute#isPinnedToPrimary()}）。</p>
+ *
+ * <p>振り分けはコネクション取得時に決まるため、トランザクションの属性が確定してから
+ * 実際のコネクションを取得するよう {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}
+ * で包んで使用します。</p>
+ */
+public class ReadWriteRoutingDataSource extends DelegatingDataSource {
+
+    private final ReplicaPool replicaPool;
+
+    public ReadWriteRoutingDataSource(DataSource primary, ReplicaPool replicaPool) {
+        super(primary);
+        this.replicaPool = replicaPool;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (routesToReplica()) {
+            Connection replica = replicaPool.getConnection();
+            if (replica != null) {
+                return replica;
+            }
+        }
+        return super.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        // Explicit credentials always address the primary.
+        return super.getConnection(username, password);
+    }
+
+    private boolean routesToReplica() {
+        if (DataSourceRoute.isPinnedToPrimary()) {
+            return false;
+        }
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return true;
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            DataSourceRoute.markWrite();
+            return false;
+        }
+        return DataSourceRoute.isReadRequested();
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.todo.datasource;
+
+import java.io.IOException;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 書き込みを行ったセッションの読み取りを、一定時間プライマリへ固定します。
+ *
+ * <p>{@code TodoService.update} などで保存した直後のリダイレクト先（一覧・詳細）が、
+ * まだ反映されていないレプリカから読まれないようにするためです。
+ * 書き込みの時刻をセッションに記録し、{@code todo.datasource.routing.read-your-writes-window}
+ * の間は同じセッションのリクエストをプライマリに固定します。</p>
+ *
+ * <p>記録は応答の後ではなく、振り分け層が書き込みを検知した時点（{@link DataSourceRoute#markWrite()}）で行います。
+ * 応答（リダイレクト）を受け取ったブラウザの次のリクエストが、記録より先に届くことがないようにするためです。</p>
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String LAST_WRITE_ATTRIBUTE = ReadYourWritesFilter.class.getName() + ".LAST_WRITE";
+
+    private final long windowMillis;
+
+    public ReadYourWritesFilter(RoutingProperties properties) {
+        this.windowMillis = properties.getReadYourWritesWindow().toMillis();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        DataSourceRoute.beginRequest(isWithinWindow(request.getSession(false)), () -> recordWrite(request));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            DataSourceRoute.endRequest();
+        }
+    }
+
+    private void recordWrite(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            session.setAttribute(LAST_WRITE_ATTRIBUTE, System.currentTimeMillis());
+        }
+    }
+
+    private boolean isWithinWindow(HttpSession session) {
+        if (session == null) {
+            return false;
+        }
+        Object lastWrite = session.getAttribute(LAST_WRITE_ATTRIBUTE);
+        return lastWrite instanceof Long at && System.currentTimeMillis() - at < windowMillis;
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.todo.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+import com.example.todo.config.BulkheadFullException;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * 参照用レプリカのコネクションプール群。
+ *
+ * <p>正常なレプリカから順番に（ラウンドロビンで）コネクションを払い出します。
+ * 接続に失敗したレプリカは直ちに除外し、定期的な死活・遅延確認（{@link #checkHealth()}）で
+ * 回復したものを戻します。正常なレプリカがない場合は {@code null} を返し、呼び出し側はプライマリを使います。</p>
+ */
+public class ReplicaPool implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaPool.class);
+
+    private final List<Replica> replicas = new ArrayList<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private final RoutingProperties properties;
+
+    public ReplicaPool(RoutingProperties properties) {
+        this.properties = properties;
+        int index = 0;
+        for (RoutingProperties.Replica config : properties.getReplicas()) {
+            String name = StringUtils.hasText(config.getName()) ? config.getName() : "replica-" + index;
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("todo-" + name);
+            dataSource.setJdbcUrl(config.getUrl());
+            dataSource.setUsername(config.getUsername());
+            dataSource.setPassword(config.getPassword());
+            dataSource.setMaximumPoolSize(config.getMaximumPoolSize());
+            dataSource.setConnectionTimeout(config.getConnectionTimeout().toMillis());
+            dataSource.setReadOnly(true);
+            // Do not fail application startup when a replica is down; the health check will pick it up.
+            dataSource.setInitializationFailTimeout(-1);
+            replicas.add(new Replica(name, dataSource));
+            index++;
+        }
+    }
+
+    /**
+     * 各レプリカのコネクションの取得元を、プールを包んだものに差し替えます（バルクヘッドなど）。
+     * 死活確認は差し替え前のプールを直接使います。
+     *
+     * @param decorator プールを受け取り、コネクションの取得元を返す関数
+     */
+    public void decorate(Function<HikariDataSource, DataSource> decorator) {
+        replicas.forEach(replica -> replica.connections = decorator.apply(replica.dataSource));
+    }
+
+    /**
+     * 正常なレプリカのコネクションを取得します。
+     *
+     * @return コネクション。正常なレプリカがない場合は {@code null}
+     */
+    public Connection getConnection() {
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                return replica.connections.getConnection();
+            } catch (BulkheadFullException ex) {
+                // Busy, not down: try the next replica and leave the health state alone.
+                continue;
+            } catch (SQLException ex) {
+                markDown(replica, ex.getMessage());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 各レプリカの死活と遅延を確認し、正常・除外を切り替えます。
+     */
+    @Scheduled(fixedDelayString = "${todo.datasource.routing.health-check-interval-ms:5000}")
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            String problem = probe(replica);
+            if (problem == null) {
+                if (!replica.healthy) {
+                    replica.healthy = true;
+                    log.info("Replica {} is back in rotation", replica.name);
+                }
+            } else {
+                markDown(replica, problem);
+            }
+        }
+    }
+
+    /**
+     * 正常なレプリカの数を返します。
+     *
+     * @return 正常なレプリカの数
+     */
+    public int getHealthyCount() {
+        return (int) replicas.stream().filter(replica -> replica.healthy).count();
+    }
+
+    /**
+     * 構成されたレプリカの数を返します。
+     *
+     * @return レプリカの数
+     */
+    public int size() {
+        return replicas.size();
+    }
+
+    @Override
+    public void destroy() {
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    private String probe(Replica replica) {
+        int timeoutSeconds = (int) Math.max(1, properties.getValidationTimeout().toSeconds());
+        try (Connection connection = replica.dataSource.getConnection()) {
+            if (!connection.isValid(timeoutSeconds)) {
+                return "connection is not valid";
+            }
+            if (!StringUtils.hasText(properties.getLagQuery())) {
+                return null;
+            }
+            Long lagSeconds = queryLag(connection, timeoutSeconds);
+            if (lagSeconds == null) {
+                return "replication is not running";
+            }
+            if (lagSeconds > properties.getMaxLag().toSeconds()) {
+                return "lagging " + lagSeconds + "s behind the primary";
+            }
+            return null;
+        } catch (SQLException ex) {
+            return ex.getMessage();
+        }
+    }
+
+    private Long queryLag(Connection connection, int timeoutSeconds) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(timeoutSeconds);
+            try (ResultSet rs = statement.executeQuery(properties.getLagQuery())) {
+                if (!rs.next()) {
+                    return null;
+                }
+                long lag = StringUtils.hasText(properties.getLagColumn())
+                        ? rs.getLong(properties.getLagColumn())
+                        : rs.getLong(1);
+                return rs.wasNull() ? null : lag;
+            }
+        }
+    }
+
+    private void markDown(Replica replica, String reason) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            log.warn("Replica {} removed from rotation: {}", replica.name, reason);
+        }
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final HikariDataSource dataSource;
+        private volatile DataSource connections;
+        private volatile boolean healthy = true;
+
+        private Replica(String name, HikariDataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.connections = dataSource;
+        }
+    }
+}
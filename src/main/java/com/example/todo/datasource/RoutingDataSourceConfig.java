@@ -0,0 +1,92 @@
+package com.example.todo.datasource;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.PriorityOrdered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 読み書き分離の設定。
+ *
+ * <p>{@code todo.datasource.routing.enabled=true} の場合のみ有効です。
+ * {@code spring.datasource.*} のデータソース（プライマリ）を {@link ReadWriteRoutingDataSource} で包み、
+ * さらに {@link LazyConnectionDataSourceProxy} で包みます。
+ * メトリクス用のプロキシより内側に置くため、他のデータソース後処理より先に適用します。
+ * ただしバルクヘッド（{@code DataSourceBulkheadConfig}）はプールごとに置くため、振り分けより内側になるよう先に適用されます。</p>
+ *
+ * <p>正常なレプリカの数は {@code todo.datasource.replicas.healthy} で確認できます。</p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "todo.datasource.routing.enabled", havingValue = "true")
+@EnableConfigurationProperties(RoutingProperties.class)
+public class RoutingDataSourceConfig {
+
+    @Bean
+    public ReplicaPool replicaPool(RoutingProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        ReplicaPool pool = new ReplicaPool(properties);
+        meterRegistry.ifAvailable(registry -> {
+            Gauge.builder("todo.datasource.replicas.healthy", pool, ReplicaPool::getHealthyCount)
+                    .description("Replicas currently in read rotation")
+                    .register(registry);
+            Gauge.builder("todo.datasource.replicas.configured", pool, ReplicaPool::size)
+                    .description("Configured read replicas")
+                    .register(registry);
+        });
+        return pool;
+    }
+
+    @Bean
+    public static BeanPostProcessor routingDataSourcePostProcessor(ObjectProvider<ReplicaPool> replicaPool) {
+        return new RoutingDataSourcePostProcessor(replicaPool);
+    }
+
+    @Bean
+    public ReadReplicaInterceptor readReplicaInterceptor() {
+        return new ReadReplicaInterceptor();
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(RoutingProperties properties) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(properties));
+        // Before Spring Security, so that the user lookup and re-hash on login are routed too.
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+
+    private static final class RoutingDataSourcePostProcessor implements BeanPostProcessor, PriorityOrdered {
+
+        private final ObjectProvider<ReplicaPool> replicaPool;
+
+        private RoutingDataSourcePostProcessor(ObjectProvider<ReplicaPool> replicaPool) {
+            this.replicaPool = replicaPool;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!"dataSource".equals(beanName) || !(bean instanceof DataSource primary)
+                    || bean instanceof LazyConnectionDataSourceProxy) {
+                return bean;
+            }
+            return new LazyConnectionDataSourceProxy(
+                    new ReadWriteRoutingDataSource(primary, replicaPool.getObject()));
+        }
+
+        @Override
+        public int getOrder() {
+            // Just after the per-pool bulkhead, which must sit on the primary pool itself.
+            return Ordered.HIGHEST_PRECEDENCE + 1;
+        }
+    }
+}
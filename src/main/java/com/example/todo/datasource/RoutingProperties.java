@@ -0,0 +1,62 @@
+package com.example.todo.datasource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * 読み書き分離の設定（{@code todo.datasource.routing.*}）。
+ *
+ * <p>プライマリは通常の {@code spring.datasource.*} を使用し、レプリカはここに列挙します。</p>
+ */
+@Data
+@ConfigurationProperties("todo.datasource.routing")
+public class RoutingProperties {
+
+    /** 読み書き分離を有効にする場合はtrue。 */
+    private boolean enabled;
+
+    /** 書き込み後、同じセッションの読み取りをプライマリへ送る時間。 */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    /** この時間以上遅れているレプリカは使用しません。 */
+    private Duration maxLag = Duration.ofSeconds(10);
+
+    /** 遅延（秒）を取得するSQL。空の場合は遅延を確認しません。 */
+    private String lagQuery = "";
+
+    /** {@link #lagQuery} の結果のうち遅延（秒）を持つ列名。空の場合は先頭列。 */
+    private String lagColumn = "";
+
+    /** 死活確認のタイムアウト。 */
+    private Duration validationTimeout = Duration.ofSeconds(2);
+
+    /** レプリカの接続先。 */
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * レプリカ1台分の接続設定。
+     */
+    @Data
+    public static class Replica {
+
+        /** ログ・メトリクスに出す名前（省略時は replica-N）。 */
+        private String name;
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        /** コネクションプールの最大数。 */
+        private int maximumPoolSize = 10;
+
+        /** コネクション取得の待ち時間。超えた場合はこのレプリカを除外して次を試します。 */
+        private Duration connectionTimeout = Duration.ofSeconds(2);
+    }
+}
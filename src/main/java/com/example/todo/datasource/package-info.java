@@ -0,0 +1,13 @@
+/**
+ * 読み書き分離（レプリカへの参照振り分け）のパッケージ。
+ *
+ * <p>主なクラス:</p>
+ * <ul>
+ *   <li>{@link com.example.todo.datasource.ReadWriteRoutingDataSource}</li>
+ *   <li>{@link com.example.todo.datasource.ReplicaPool}</li>
+ *   <li>{@link com.example.todo.datasource.DataSourceRoute}</li>
+ * </ul>
+ *
+ * @since 1.1
+ */
+package com.example.todo.datasource;
@@ -0,0 +1,60 @@
+package com.example.todo.entity;
+
+import java.time.LocalDate;
+
+/**
+ * 期限日から見たToDoの区分。{@code todos.deadline_status} に保存します。
+ *
+ * <p>区分は基準日（本日）に依存するため、書き込み時に設定し、日付が変わったら
+ * {@link com.example.todo.service.TodoDeadlineService} がまとめて更新します。
+ * 時間の経過で区分は {@link #LATER} → {@link #DUE_SOON} → {@link #OVERDUE} の方向にのみ変わります。</p>
+ *
+ * @since 1.1
+ */
+public enum DeadlineStatus {
+
+    /** 期限切れ（期限日が基準日以前）。期限切れ一覧の対象です。 */
+    OVERDUE,
+
+    /** 期限間近（期限日が基準日の翌日から {@value #SOON_DAYS} 日以内）。 */
+    DUE_SOON,
+
+    /** 期限まで余裕がある。 */
+    LATER,
+
+    /** 期限日なし。 */
+    NONE;
+
+    /** 期限間近とする日数。 */
+    public static final int SOON_DAYS = 3;
+
+    /**
+     * 期限日の区分を判定します。
+     *
+     * @param dueDate 期限日（任意）
+     * @param today 基準日
+     * @return 区分
+     */
+    public static DeadlineStatus of(LocalDate dueDate, LocalDate today) {
+        if (dueDate == null) {
+            return NONE;
+        }
+        if (!dueDate.isAfter(today)) {
+            return OVERDUE;
+        }
+        if (!dueDate.isAfter(soonLimit(today))) {
+            return DUE_SOON;
+        }
+        return LATER;
+    }
+
+    /**
+     * 期限間近とする最終日を返します。
+     *
+     * @param today 基準日
+     * @return 基準日の {@value #SOON_DAYS} 日後
+     */
+    public static LocalDate soonLimit(LocalDate today) {
+        return today.plusDays(SOON_DAYS);
+    }
+}
@@ -1,16 +1,20 @@
 package com.example.todo.entity;
 
+import java.io.Serializable;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -39,13 +43,18 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class Todo {
+public class Todo implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     /** 主キー。 */
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    /** 所有者（ユーザーまたはチーム）ID。一覧・件数・エクスポートはすべてこの値で絞り込みます。 */
+    private Long ownerId;
+
     /** タイトル（必須、最大100文字）。 */
     @Column(nullable = false, length = 100)
     private String title;
@@ -77,10 +86,19 @@ public class Todo {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    /** 期限日の区分（書き込み時と日付の切り替わり時に更新）。 */
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10)
+    private DeadlineStatus deadlineStatus;
+
     /** 楽観的ロック用バージョン。 */
     @jakarta.persistence.Version
     private Long version;
 
+    /** アーカイブ済み（{@code todos_archive} から読み込んだ行）。アーカイブ済みのToDoは参照のみ可能です。 */
+    @Transient
+    private boolean archived;
+
     /**
      * 作成時に日時とデフォルト値を設定します。
      *
@@ -91,6 +109,7 @@ public class Todo {
         LocalDateTime now = LocalDateTime.now();
         createdAt = now;
         updatedAt = now;
+        deadlineStatus = DeadlineStatus.of(dueDate, now.toLocalDate());
         if (priority == null) {
             priority = 1;
         }
@@ -107,6 +126,7 @@ public class Todo {
     @PreUpdate
     public void preUpdate() {
         updatedAt = LocalDateTime.now();
+        deadlineStatus = DeadlineStatus.of(dueDate, updatedAt.toLocalDate());
         if (priority == null) {
             priority = 1;
         }
@@ -118,25 +138,25 @@ public class Todo {
     /**
      * 期限切れ判定。
      *
-     * @return 期限日が今日より前の場合はtrue
+     * @return 期限日が今日以前の場合はtrue
      */
     public boolean isOverdue() {
-        if (dueDate == null) {
-            return false;
-        }
-        return dueDate.isBefore(LocalDate.now());
+        return currentDeadlineStatus() == DeadlineStatus.OVERDUE;
     }
 
     /**
-     * 期限が近いか判定（今日〜3日以内、かつ期限切れではない）。
+     * 期限が近いか判定（明日〜3日以内）。
      *
      * @return 期限が近い場合はtrue
      */
     public boolean isNearDeadline() {
-        if (dueDate == null) {
-            return false;
-        }
-        LocalDate today = LocalDate.now();
-        return !dueDate.isBefore(today) && !dueDate.isAfter(today.plusDays(3));
+        return currentDeadlineStatus() == DeadlineStatus.DUE_SOON;
+    }
+
+    /**
+     * 保存済みの区分を返します。区分を読み込んでいない場合のみ本日を基準に判定します。
+     */
+    private DeadlineStatus currentDeadlineStatus() {
+        return deadlineStatus != null ? deadlineStatus : DeadlineStatus.of(dueDate, LocalDate.now());
     }
 }
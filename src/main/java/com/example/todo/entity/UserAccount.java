@@ -34,4 +34,16 @@ public class UserAccount {
 
     @Column(nullable = false, length = 50)
     private String role;
+
+    /** 所有者（チーム）ID。同じ値のユーザー同士でToDoを共有します。未設定の場合は自分のIDです。 */
+    private Long ownerId;
+
+    /**
+     * ToDoの所有者IDを返します。
+     *
+     * @return 所有者ID（未設定の場合はユーザーID）
+     */
+    public Long resolveOwnerId() {
+        return ownerId != null ? ownerId : id;
+    }
 }
@@ -0,0 +1,22 @@
+package com.example.todo.event;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.example.todo.entity.DeadlineStatus;
+import com.example.todo.entity.Todo;
+
+/**
+ * 期限のリマインダー。日付の切り替わりで期限区分が進んだ未完了のToDoを、
+ * {@link com.example.todo.service.TodoDeadlineService} がまとめて（{@code todo.deadline.batch-size} 件ずつ）発行します。
+ *
+ * <p>通知先（メールやチャットなど）は、このイベントを {@code @EventListener} で受け取って実装します。
+ * 1件ずつではなくまとまりで届くため、送信先ごとに集約して送れます。</p>
+ *
+ * @param status 新しい区分（{@link DeadlineStatus#DUE_SOON} または {@link DeadlineStatus#OVERDUE}）
+ * @param date 基準日
+ * @param todos 対象のToDo
+ * @since 1.1
+ */
+public record DeadlineReminderEvent(DeadlineStatus status, LocalDate date, List<Todo> todos) {
+}
@@ -0,0 +1,43 @@
+package com.example.todo.event;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.example.todo.entity.Todo;
+
+/**
+ * {@link DeadlineReminderEvent} をログに出力します。
+ *
+ * <p>メールやチャットなどの通知先を実装するまでの既定の受け手です。所有者ごとの件数をINFOで、
+ * 対象のToDo（ID・期限日・タイトル）をDEBUGで出力します。ログの出力先は {@code com.example.todo.reminder} です。</p>
+ */
+@Component
+public class DeadlineReminderLogger {
+
+    private static final Logger log = LoggerFactory.getLogger("com.example.todo.reminder");
+
+    @EventListener
+    public void onReminder(DeadlineReminderEvent event) {
+        Map<Long, Integer> perOwner = new TreeMap<>();
+        for (Todo todo : event.todos()) {
+            perOwner.merge(todo.getOwnerId() == null ? 0L : todo.getOwnerId(), 1, Integer::sum);
+        }
+        log.atInfo()
+                .addKeyValue("status", event.status())
+                .addKeyValue("date", event.date())
+                .addKeyValue("todos", event.todos().size())
+                .log("Deadline reminder {} on {}: {} todos by owner {}",
+                        event.status(), event.date(), event.todos().size(), perOwner);
+        if (log.isDebugEnabled()) {
+            for (Todo todo : event.todos()) {
+                log.debug("Deadline reminder {}: #{} due {} owner {} \"{}\"",
+                        event.status(), todo.getId(), todo.getDueDate(), todo.getOwnerId(), todo.getTitle());
+            }
+        }
+    }
+}
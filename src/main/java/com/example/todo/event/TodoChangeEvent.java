@@ -0,0 +1,161 @@
+package com.example.todo.event;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.example.todo.entity.Todo;
+import com.example.todo.service.BulkAction;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * ToDoの変更イベント。書き込みを行ったサービスがSpringのアプリケーションイベントとして発行します。
+ *
+ * <p>{@link Type#UPDATED} は変わった項目だけを {@code changes} に持ち、一覧画面は該当行をその場で書き換えます。
+ * 行の位置や件数が変わり得る変更（作成、絞り込み条件での一括操作、インポート）は
+ * {@link Type#INVALIDATED} などとして通知し、画面には再読み込みを促します。</p>
+ *
+ * <p>イベントは所有者のToDoを表示している接続にだけ配信します（所有者IDと変更者は送信しません）。
+ * 変更者は監査ログ（{@code TodoAuditRecorder}）が記録します。</p>
+ *
+ * @param ownerId 所有者ID
+ * @param type 種別
+ * @param ids 対象のID（分からない場合は空）
+ * @param changes 変更後の値（プロパティ名と値）。{@code versionDelta} はバージョンの増分
+ * @param actor 変更したユーザー名（ログインしていないスレッドで発行した場合はnull）
+ * @since 1.1
+ */
+public record TodoChangeEvent(@JsonIgnore Long ownerId, Type type, List<Long> ids, Map<String, Object> changes,
+                              @JsonIgnore String actor) {
+
+    /** 変更の種別。 */
+    public enum Type {
+        CREATED, UPDATED, DELETED, INVALIDATED
+    }
+
+    /**
+     * 作成を表すイベントを作成します。
+     *
+     * @param ownerId 所有者ID
+     * @param todo 作成したToDo
+     * @return イベント
+     */
+    public static TodoChangeEvent created(Long ownerId, Todo todo) {
+        return new TodoChangeEvent(ownerId, Type.CREATED, List.of(todo.getId()), values(todo), currentActor());
+    }
+
+    /**
+     * 1件の更新を表すイベントを作成します。
+     *
+     * @param ownerId 所有者ID
+     * @param todo 更新後の値（{@code null} の項目は変更なしとして扱います）
+     * @return イベント
+     */
+    public static TodoChangeEvent updated(Long ownerId, Todo todo) {
+        return new TodoChangeEvent(ownerId, Type.UPDATED, List.of(todo.getId()), values(todo), currentActor());
+    }
+
+    /**
+     * 編集画面・APIからの更新を表すイベントを作成します。空にできる説明・期限日は {@code null} でも通知します。
+     *
+     * @param ownerId 所有者ID
+     * @param todo 更新後の値
+     * @return イベント
+     */
+    public static TodoChangeEvent edited(Long ownerId, Todo todo) {
+        TodoChangeEvent event = updated(ownerId, todo);
+        event.changes().put("description", todo.getDescription());
+        event.changes().put("dueDate", todo.getDueDate());
+        if (todo.getVersion() == null) {
+            // Updated without the optimistic check: the row's version still moved on by one.
+            event.changes().put("versionDelta", 1);
+        }
+        return event;
+    }
+
+    /**
+     * ID指定の一括更新を表すイベントを作成します。バージョンは各行で1つ進みます。
+     *
+     * @param ownerId 所有者ID
+     * @param ids 対象のID
+     * @param action 更新内容
+     * @return イベント
+     */
+    public static TodoChangeEvent updated(Long ownerId, Collection<Long> ids, BulkAction action) {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        putIfPresent(changes, "completed", action.getCompleted());
+        putIfPresent(changes, "author", action.getAuthor());
+        putIfPresent(changes, "priority", action.getPriority());
+        changes.put("versionDelta", 1);
+        return new TodoChangeEvent(ownerId, Type.UPDATED, List.copyOf(ids), changes, currentActor());
+    }
+
+    /**
+     * 削除を表すイベントを作成します。
+     *
+     * @param ownerId 所有者ID
+     * @param ids 削除したToDoのID
+     * @return イベント
+     */
+    public static TodoChangeEvent deleted(Long ownerId, Collection<Long> ids) {
+        return new TodoChangeEvent(ownerId, Type.DELETED, List.copyOf(ids), Map.of(), currentActor());
+    }
+
+    /**
+     * 対象を特定できない変更を表すイベントを作成します。
+     *
+     * @param ownerId 所有者ID
+     * @return イベント
+     */
+    public static TodoChangeEvent invalidated(Long ownerId) {
+        return new TodoChangeEvent(ownerId, Type.INVALIDATED, List.of(), Map.of(), currentActor());
+    }
+
+    /**
+     * 変更者を差し替えたイベントを返します。リクエストの後で別スレッドから発行する場合に使用します。
+     *
+     * @param actor 変更したユーザー名
+     * @return イベント
+     */
+    public TodoChangeEvent withActor(String actor) {
+        return new TodoChangeEvent(ownerId, type, ids, changes, actor);
+    }
+
+    /**
+     * 現在のスレッドのログインユーザー名を返します。
+     *
+     * @return ユーザー名。ログインしていない場合はnull
+     */
+    public static String currentActor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null || !authentication.isAuthenticated() ? null : authentication.getName();
+    }
+
+    /**
+     * ToDoの値のうち {@code null} でない項目を取り出します。
+     */
+    private static Map<String, Object> values(Todo todo) {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        putIfPresent(changes, "title", todo.getTitle());
+        putIfPresent(changes, "description", todo.getDescription());
+        putIfPresent(changes, "author", todo.getAuthor());
+        putIfPresent(changes, "dueDate", todo.getDueDate());
+        putIfPresent(changes, "deadlineStatus", todo.getDeadlineStatus());
+        putIfPresent(changes, "priority", todo.getPriority());
+        putIfPresent(changes, "completed", todo.getCompleted());
+        putIfPresent(changes, "version", todo.getVersion());
+        putIfPresent(changes, "updatedAt", todo.getUpdatedAt());
+        return changes;
+    }
+
+    private static void putIfPresent(Map<String, Object> changes, String name, Object value) {
+        if (value != null) {
+            changes.put(name, value);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.example.todo.event;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * {@link TodoChangeEvent} を、一覧画面のSSE接続（{@code /todos/events}）へ配信します。
+ *
+ * <p>接続は Servlet の非同期処理で保持するため、待機中の接続はスレッドを使いません。
+ * イベントは発行時に1回だけJSONへ変換し、接続ごとの送信待ちに積みます。
+ * 送信は少数の送信スレッド（{@code todo.events.sender-threads}）で行い、1つの接続を同時に
+ * 送信するスレッドは1つだけです。遅いクライアントは送信スレッドを1つ占有するだけで、他の接続の配信は止まりません。</p>
+ *
+ * <p>送信待ちが {@code todo.events.queue-capacity} を超えた接続は、溜まったイベントを捨てて
+ * {@code resync}（再読み込みの要求）を1件送ります。プロキシによる切断を防ぐため、
+ * {@code todo.events.heartbeat-interval-ms} ごとにコメント行を送ります。</p>
+ *
+ * <p>接続は所有者ごとに登録し、イベントは同じ所有者の接続にだけ配信します。</p>
+ *
+ * <p>接続数は {@code todo.events.subscribers} で確認できます。</p>
+ */
+@Component
+public class TodoEventBroadcaster implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(TodoEventBroadcaster.class);
+
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("ping").build();
+    private static final Set<DataWithMediaType> RESYNC = SseEmitter.event().name("resync").data("{}").build();
+
+    private final Set<Subscriber> subscribers = new CopyOnWriteArraySet<>();
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolTaskExecutor sender;
+    private final long timeoutMillis;
+    private final int maxSubscribers;
+    private final int queueCapacity;
+
+    public TodoEventBroadcaster(ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry,
+                                @Value("${todo.events.sender-threads:4}") int senderThreads,
+                                @Value("${todo.events.timeout:30m}") Duration timeout,
+                                @Value("${todo.events.max-subscribers:5000}") int maxSubscribers,
+                                @Value("${todo.events.queue-capacity:100}") int queueCapacity) {
+        this.objectMapper = objectMapper;
+        this.timeoutMillis = timeout.toMillis();
+        this.maxSubscribers = maxSubscribers;
+        this.queueCapacity = queueCapacity;
+        this.sender = new ThreadPoolTaskExecutor();
+        sender.setThreadNamePrefix("todo-events-");
+        sender.setCorePoolSize(senderThreads);
+        sender.setMaxPoolSize(senderThreads);
+        sender.initialize();
+        Gauge.builder("todo.events.subscribers", subscribers, Set::size)
+                .description("Open live-update (SSE) connections")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 新しい接続を登録します。
+     *
+     * @param ownerId 接続したユーザーの所有者ID
+     * @return 接続のエミッタ。接続数が上限に達している場合は {@code null}
+     */
+    public SseEmitter subscribe(Long ownerId) {
+        if (subscribers.size() >= maxSubscribers) {
+            return null;
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(ownerId, emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(ex -> subscriber.close());
+        subscribers.add(subscriber);
+        // Send something right away so that the browser sees the stream as open.
+        subscriber.offer(HEARTBEAT);
+        return emitter;
+    }
+
+    /**
+     * 変更イベントを同じ所有者の接続へ配信します。
+     *
+     * @param event 変更イベント
+     */
+    @EventListener
+    public void onChange(TodoChangeEvent event) {
+        if (subscribers.stream().noneMatch(subscriber -> subscriber.ownerId.equals(event.ownerId()))) {
+            return;
+        }
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException ex) {
+            log.warn("Could not serialize {}", event, ex);
+            return;
+        }
+        Set<DataWithMediaType> message = SseEmitter.event()
+                .name(event.type().name().toLowerCase(Locale.ROOT))
+                .data(json)
+                .build();
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.ownerId.equals(event.ownerId())) {
+                subscriber.offer(message);
+            }
+        }
+    }
+
+    /**
+     * 全接続へハートビートを送ります。
+     */
+    @Scheduled(fixedDelayString = "${todo.events.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        subscribers.forEach(subscriber -> subscriber.offer(HEARTBEAT));
+    }
+
+    /**
+     * 接続数を返します。
+     *
+     * @return 接続数
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @Override
+    public void destroy() {
+        subscribers.forEach(Subscriber::close);
+        sender.shutdown();
+    }
+
+    /**
+     * 1接続分の送信待ち。{@link #scheduled} により、同時に送信するスレッドは1つだけです。
+     */
+    private final class Subscriber implements Runnable {
+
+        private final Long ownerId;
+        private final SseEmitter emitter;
+        private final Queue<Set<DataWithMediaType>> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean overflowed = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscriber(Long ownerId, SseEmitter emitter) {
+            this.ownerId = ownerId;
+            this.emitter = emitter;
+        }
+
+        void offer(Set<DataWithMediaType> message) {
+            if (closed) {
+                return;
+            }
+            if (queued.incrementAndGet() > queueCapacity) {
+                queued.decrementAndGet();
+                overflowed.set(true);
+            } else {
+                queue.add(message);
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (closed || !scheduled.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                sender.execute(this);
+            } catch (RejectedExecutionException ex) {
+                scheduled.set(false);
+                close();
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                if (overflowed.getAndSet(false)) {
+                    queue.clear();
+                    queued.set(0);
+                    emitter.send(RESYNC);
+                }
+                Set<DataWithMediaType> next;
+                while (!closed && (next = queue.poll()) != null) {
+                    queued.decrementAndGet();
+                    emitter.send(next);
+                }
+            } catch (IOException | IllegalStateException ex) {
+                // Client went away (or the async request already completed).
+                close();
+            } finally {
+                scheduled.set(false);
+            }
+            if (!queue.isEmpty() || overflowed.get()) {
+                schedule();
+            }
+        }
+
+        void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            subscribers.remove(this);
+            queue.clear();
+            try {
+                emitter.complete();
+            } catch (IllegalStateException ex) {
+                // Already completed.
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+/**
+ * ToDoの変更イベント・期限のリマインダーと、一覧画面へのライブ配信（Server-Sent Events）のパッケージ。
+ *
+ * <p>主なクラス:</p>
+ * <ul>
+ *   <li>{@link com.example.todo.event.TodoChangeEvent}</li>
+ *   <li>{@link com.example.todo.event.DeadlineReminderEvent}</li>
+ *   <li>{@link com.example.todo.event.DeadlineReminderLogger}</li>
+ *   <li>{@link com.example.todo.event.TodoEventBroadcaster}</li>
+ * </ul>
+ *
+ * @since 1.1
+ */
+package com.example.todo.event;
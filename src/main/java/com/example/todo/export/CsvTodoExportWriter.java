@@ -0,0 +1,77 @@
+package com.example.todo.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+
+import com.example.todo.entity.Todo;
+
+/**
+ * Excel互換CSV（BOM付きUTF-8）のライター。
+ *
+ * <p>列構成は {@code ID,タイトル,登録者,ステータス,作成日} です。</p>
+ *
+ * @since 1.1
+ */
+public class CsvTodoExportWriter implements TodoExportWriter {
+
+    private static final byte[] UTF8_BOM = new byte[] {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm");
+
+    private final OutputStream out;
+    private final Writer writer;
+
+    public CsvTodoExportWriter(OutputStream out) {
+        this.out = out;
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void writeHeader() throws IOException {
+        out.write(UTF8_BOM);
+        writer.write("ID,タイトル,登録者,ステータス,作成日\n");
+    }
+
+    @Override
+    public void write(Todo todo) throws IOException {
+        String status = Boolean.TRUE.equals(todo.getCompleted()) ? "完了" : "未完了";
+        writer.write(escapeCsv(String.valueOf(todo.getId())));
+        writer.write(",");
+        writer.write(escapeCsv(nullToEmpty(todo.getTitle())));
+        writer.write(",");
+        writer.write(escapeCsv(nullToEmpty(todo.getAuthor())));
+        writer.write(",");
+        writer.write(escapeCsv(status));
+        writer.write(",");
+        writer.write(escapeCsv(todo.getCreatedAt() == null ? "" : todo.getCreatedAt().format(DATE_FORMAT)));
+        writer.write("\n");
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    /**
+     * CSVの1項目をエスケープします。
+     *
+     * @param value 値
+     * @return カンマ・引用符・改行を含む場合は引用符で囲んだ値
+     */
+    public static String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        boolean needsQuote = value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r");
+        String escaped = value.replace("\"", "\"\"");
+        return needsQuote ? "\"" + escaped + "\"" : escaped;
+    }
+
+    private String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.todo.export;
+
+import java.io.OutputStream;
+
+import org.springframework.http.MediaType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * エクスポート形式。
+ *
+ * @since 1.1
+ */
+public enum ExportFormat {
+
+    /** Excel互換CSV（BOM付きUTF-8）。 */
+    CSV("csv", new MediaType("text", "csv", java.nio.charset.StandardCharsets.UTF_8)),
+
+    /** 1行1JSONオブジェクト。 */
+    NDJSON("ndjson", MediaType.parseMediaType("application/x-ndjson")),
+
+    /** Excelブック（ストリーミング書き込み）。 */
+    XLSX("xlsx", MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"));
+
+    private final String extension;
+    private final MediaType mediaType;
+
+    ExportFormat(String extension, MediaType mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * 出力先に対応するライターを作成します。
+     *
+     * @param out 出力先
+     * @param objectMapper NDJSON出力に使用するマッパー
+     * @return ライター
+     */
+    public TodoExportWriter createWriter(OutputStream out, ObjectMapper objectMapper) {
+        switch (this) {
+            case NDJSON:
+                return new NdjsonTodoExportWriter(out, objectMapper);
+            case XLSX:
+                return new XlsxTodoExportWriter(out);
+            default:
+                return new CsvTodoExportWriter(out);
+        }
+    }
+
+    /**
+     * リクエストパラメータから形式を解決します。
+     *
+     * @param value パラメータ値（未指定の場合はCSV）
+     * @return 形式
+     * @throws IllegalArgumentException 未対応の形式の場合
+     */
+    public static ExportFormat from(String value) {
+        if (value == null || value.isBlank()) {
+            return CSV;
+        }
+        for (ExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported export format: " + value);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.todo.export;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * エクスポート対象の件数とID範囲。
+ *
+ * @since 1.1
+ */
+@Data
+@NoArgsConstructor
+public class ExportRange {
+
+    /** 対象件数。 */
+    private long total;
+
+    /** 最小ID（対象がない場合は {@code null}）。 */
+    private Long minId;
+
+    /** 最大ID（対象がない場合は {@code null}）。 */
+    private Long maxId;
+}
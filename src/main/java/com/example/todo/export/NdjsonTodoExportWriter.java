@@ -0,0 +1,56 @@
+package com.example.todo.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.example.todo.entity.Todo;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * NDJSON（1行1オブジェクト）のライター。
+ *
+ * <p>エンティティをシリアライズせず、{@link JsonGenerator} で項目を直接書き出します。</p>
+ *
+ * @since 1.1
+ */
+public class NdjsonTodoExportWriter implements TodoExportWriter {
+
+    private final JsonGenerator generator;
+
+    public NdjsonTodoExportWriter(OutputStream out, ObjectMapper objectMapper) {
+        try {
+            this.generator = objectMapper.getFactory().createGenerator(out);
+        } catch (IOException ex) {
+            throw new java.io.UncheckedIOException(ex);
+        }
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.generator.setRootValueSeparator(null);
+    }
+
+    @Override
+    public void writeHeader() {
+        // NDJSON has no header line.
+    }
+
+    @Override
+    public void write(Todo todo) throws IOException {
+        generator.writeStartObject();
+        generator.writeObjectField("id", todo.getId());
+        generator.writeStringField("title", todo.getTitle());
+        generator.writeStringField("author", todo.getAuthor());
+        generator.writeStringField("description", todo.getDescription());
+        generator.writeStringField("dueDate", todo.getDueDate() == null ? null : todo.getDueDate().toString());
+        generator.writeObjectField("priority", todo.getPriority());
+        generator.writeObjectField("completed", todo.getCompleted());
+        generator.writeStringField("createdAt", todo.getCreatedAt() == null ? null : todo.getCreatedAt().toString());
+        generator.writeStringField("updatedAt", todo.getUpdatedAt() == null ? null : todo.getUpdatedAt().toString());
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void finish() throws IOException {
+        generator.flush();
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.todo.export;
+
+import java.io.IOException;
+
+import com.example.todo.entity.Todo;
+
+/**
+ * ToDoを1件ずつ出力するライター。
+ *
+ * <p>実装は行をバッファに溜め込まず、出力先へ順次書き出します。
+ * 出力先のクローズは呼び出し側の責務です。</p>
+ *
+ * @since 1.1
+ */
+public interface TodoExportWriter {
+
+    /**
+     * ヘッダを出力します。
+     *
+     * @throws IOException 書き込みに失敗した場合
+     */
+    void writeHeader() throws IOException;
+
+    /**
+     * 1件出力します。
+     *
+     * @param todo ToDo
+     * @throws IOException 書き込みに失敗した場合
+     */
+    void write(Todo todo) throws IOException;
+
+    /**
+     * 未出力のデータを書き出して終了します。
+     *
+     * @throws IOException 書き込みに失敗した場合
+     */
+    void finish() throws IOException;
+}
@@ -0,0 +1,92 @@
+package com.example.todo.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import com.example.todo.entity.Todo;
+
+/**
+ * XLSXのライター。
+ *
+ * <p>{@link SXSSFWorkbook} を使用し、メモリ上には直近 {@value #ROW_WINDOW} 行のみ保持します
+ * （それ以前の行は一時ファイルへ書き出されます）。1シートの行数上限に達した場合は次のシートへ続けます。</p>
+ *
+ * @since 1.1
+ */
+public class XlsxTodoExportWriter implements TodoExportWriter {
+
+    private static final int ROW_WINDOW = 100;
+    private static final String[] HEADERS = {"ID", "タイトル", "登録者", "説明", "期限日", "優先度", "ステータス", "作成日"};
+
+    private final OutputStream out;
+    private final SXSSFWorkbook workbook;
+    private final CellStyle dateStyle;
+    private final CellStyle dateTimeStyle;
+    private Sheet sheet;
+    private int rowIndex;
+
+    public XlsxTodoExportWriter(OutputStream out) {
+        this.out = out;
+        this.workbook = new SXSSFWorkbook(ROW_WINDOW);
+        this.workbook.setCompressTempFiles(true);
+        this.dateStyle = workbook.createCellStyle();
+        this.dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("yyyy/mm/dd"));
+        this.dateTimeStyle = workbook.createCellStyle();
+        this.dateTimeStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("yyyy/mm/dd hh:mm"));
+    }
+
+    @Override
+    public void writeHeader() {
+        sheet = workbook.createSheet("todos");
+        rowIndex = 0;
+        Row header = sheet.createRow(rowIndex++);
+        for (int i = 0; i < HEADERS.length; i++) {
+            header.createCell(i).setCellValue(HEADERS[i]);
+        }
+    }
+
+    @Override
+    public void write(Todo todo) {
+        if (rowIndex >= SpreadsheetVersion.EXCEL2007.getMaxRows()) {
+            sheet = workbook.createSheet("todos" + (workbook.getNumberOfSheets() + 1));
+            rowIndex = 0;
+        }
+        Row row = sheet.createRow(rowIndex++);
+        row.createCell(0).setCellValue(todo.getId() == null ? 0 : todo.getId());
+        row.createCell(1).setCellValue(todo.getTitle());
+        row.createCell(2).setCellValue(todo.getAuthor());
+        row.createCell(3).setCellValue(todo.getDescription());
+        if (todo.getDueDate() != null) {
+            Cell due = row.createCell(4);
+            due.setCellValue(todo.getDueDate());
+            due.setCellStyle(dateStyle);
+        }
+        if (todo.getPriority() != null) {
+            row.createCell(5).setCellValue(todo.getPriority());
+        }
+        row.createCell(6).setCellValue(Boolean.TRUE.equals(todo.getCompleted()) ? "完了" : "未完了");
+        if (todo.getCreatedAt() != null) {
+            Cell created = row.createCell(7);
+            created.setCellValue(todo.getCreatedAt());
+            created.setCellStyle(dateTimeStyle);
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        try {
+            workbook.write(out);
+            out.flush();
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+}
@@ -0,0 +1,12 @@
+/**
+ * エクスポート形式ごとのライターのパッケージ。
+ *
+ * <p>主なクラス:</p>
+ * <ul>
+ *   <li>{@link com.example.todo.export.ExportFormat}</li>
+ *   <li>{@link com.example.todo.export.TodoExportWriter}</li>
+ * </ul>
+ *
+ * @since 1.1
+ */
+package com.example.todo.export;
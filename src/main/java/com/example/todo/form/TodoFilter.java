@@ -0,0 +1,89 @@
+package com.example.todo.form;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * 一覧・エクスポートで共通に使用する絞り込み条件。
+ *
+ * <p>未指定の項目は条件に含めません。所有者IDだけは必須で、リクエストの値からは設定できません
+ * （サービスがログインユーザーの所有者で {@link #scopeTo(Long)} します）。</p>
+ *
+ * @since 1.1
+ */
+@Data
+@NoArgsConstructor
+public class TodoFilter {
+
+    /** 所有者ID（{@link #scopeTo(Long)} でのみ設定）。 */
+    @Setter(AccessLevel.NONE)
+    @JsonIgnore
+    private Long ownerId;
+
+    /** 期限切れのみ（trueの場合、{@link #overdueDate} 未指定なら本日を基準日とします）。 */
+    private Boolean overdue;
+
+    /** 期限切れ判定の基準日（この日付以前が対象）。 */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate overdueDate;
+
+    /** 完了状態。 */
+    private Boolean completed;
+
+    /** 作成者（完全一致）。 */
+    private String author;
+
+    /** 優先度の下限。 */
+    private Integer priorityMin;
+
+    /** 優先度の上限。 */
+    private Integer priorityMax;
+
+    /** アーカイブ済みのToDoも含める（エクスポートのみ。一括操作では無視します）。 */
+    private Boolean archived;
+
+    /** ソート項目（一覧画面と同じ値）。 */
+    private String sort;
+
+    /** ソート方向（asc/desc）。 */
+    private String dir;
+
+    /**
+     * 期限切れ条件の基準日を確定します。
+     *
+     * @param today 本日
+     */
+    public void resolveOverdueDate(LocalDate today) {
+        if (Boolean.TRUE.equals(overdue) && overdueDate == null) {
+            overdueDate = today;
+        }
+    }
+
+    /**
+     * 対象を指定した所有者のToDoに限定します。
+     *
+     * @param ownerId 所有者ID
+     * @return このインスタンス
+     */
+    public TodoFilter scopeTo(Long ownerId) {
+        this.ownerId = ownerId;
+        return this;
+    }
+
+    /**
+     * ソート項目が指定されているか判定します。
+     *
+     * @return 指定されている場合はtrue
+     */
+    public boolean hasSort() {
+        return sort != null && !sort.isBlank();
+    }
+}
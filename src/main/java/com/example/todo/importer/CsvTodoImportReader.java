@@ -0,0 +1,156 @@
+package com.example.todo.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CSVのリーダー。
+ *
+ * <p>1行目の列見出しで項目を判定します。エクスポートの列構成
+ * {@code ID,タイトル,登録者,ステータス,作成日} に加え、{@code 詳細,期限日,優先度} と
+ * NDJSONと同じキー名（{@code title} など）を受け付けます。{@code ID} 列は無視し、新しいIDで登録します。</p>
+ *
+ * <p>引用符で囲まれた項目内のカンマ・引用符（{@code ""}）・改行に対応します。</p>
+ *
+ * @since 1.1
+ */
+public class CsvTodoImportReader implements TodoImportReader {
+
+    private static final Map<String, String> HEADERS = new HashMap<>();
+
+    static {
+        HEADERS.put("タイトル", "title");
+        HEADERS.put("登録者", "author");
+        HEADERS.put("詳細", "description");
+        HEADERS.put("期限日", "dueDate");
+        HEADERS.put("優先度", "priority");
+        HEADERS.put("ステータス", "completed");
+        HEADERS.put("作成日", "createdAt");
+        for (String key : List.copyOf(HEADERS.values())) {
+            HEADERS.put(key, key);
+        }
+    }
+
+    private final Reader reader;
+    private final StringBuilder field = new StringBuilder();
+
+    /** 列位置ごとの項目名（対象外の列はnull）。 */
+    private String[] columns;
+
+    /** 次に読む文字の物理行番号。 */
+    private long currentLine = 1;
+
+    public CsvTodoImportReader(InputStream in) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        if (columns == null) {
+            readHeader();
+        }
+        while (true) {
+            long line = currentLine;
+            List<String> values = readRecord();
+            if (values == null) {
+                return null;
+            }
+            if (values.size() == 1 && values.get(0).isEmpty()) {
+                continue;
+            }
+            ImportRow row = new ImportRow(line);
+            for (int i = 0; i < values.size() && i < columns.length; i++) {
+                if (columns[i] != null) {
+                    row.set(columns[i], values.get(i));
+                }
+            }
+            if (values.size() != columns.length) {
+                row.reject("列数が見出しと一致しません（" + values.size() + "列）");
+            }
+            return row;
+        }
+    }
+
+    private void readHeader() throws IOException {
+        reader.mark(1);
+        if (reader.read() != '\uFEFF') {
+            reader.reset();
+        }
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new IllegalArgumentException("CSVが空です。");
+        }
+        columns = new String[header.size()];
+        for (int i = 0; i < header.size(); i++) {
+            columns[i] = HEADERS.get(header.get(i).trim());
+        }
+        List<String> found = List.of(columns);
+        if (!found.contains("title") || !found.contains("author")) {
+            throw new IllegalArgumentException("CSVの見出しに「タイトル」と「登録者」の列が必要です。");
+        }
+    }
+
+    /**
+     * 1レコード分の項目を読み込みます。
+     *
+     * @return 項目のリスト。終端に達した場合は {@code null}
+     */
+    private List<String> readRecord() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> values = new ArrayList<>();
+        boolean quoted = false;
+        field.setLength(0);
+        while (c != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int following = reader.read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        reader.reset();
+                    }
+                } else {
+                    if (c == '\n') {
+                        currentLine++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                }
+                currentLine++;
+                break;
+            } else {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("CSVの引用符が閉じられていません（" + currentLine + "行目）。");
+        }
+        values.add(field.toString());
+        return values;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.todo.importer;
+
+import java.io.InputStream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * インポート形式。
+ *
+ * @since 1.1
+ */
+public enum ImportFormat {
+
+    /** エクスポートと同じ列見出しのCSV（UTF-8、BOM可）。 */
+    CSV("csv"),
+
+    /** 1行1JSONオブジェクト。 */
+    NDJSON("ndjson");
+
+    private final String extension;
+
+    ImportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * 入力元に対応するリーダーを作成します。
+     *
+     * @param in 入力元
+     * @param objectMapper NDJSON読み込みに使用するマッパー
+     * @return リーダー
+     */
+    public TodoImportReader createReader(InputStream in, ObjectMapper objectMapper) {
+        switch (this) {
+            case NDJSON:
+                return new NdjsonTodoImportReader(in, objectMapper);
+            default:
+                return new CsvTodoImportReader(in);
+        }
+    }
+
+    /**
+     * 指定値、またはファイル名の拡張子から形式を解決します。
+     *
+     * @param value 形式の指定（未指定の場合はファイル名から判定）
+     * @param filename ファイル名（不明な場合はnull）
+     * @return 形式
+     * @throws IllegalArgumentException 未対応の形式の場合
+     */
+    public static ImportFormat from(String value, String filename) {
+        String name = value;
+        if ((name == null || name.isBlank()) && filename != null && filename.lastIndexOf('.') >= 0) {
+            name = filename.substring(filename.lastIndexOf('.') + 1);
+        }
+        if (name == null || name.isBlank()) {
+            return CSV;
+        }
+        for (ImportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(name)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported import format: " + name);
+    }
+}
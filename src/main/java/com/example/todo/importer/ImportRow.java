@@ -0,0 +1,117 @@
+package com.example.todo.importer;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+import com.example.todo.form.TodoForm;
+
+import lombok.Data;
+
+/**
+ * インポートファイルの1件。
+ *
+ * <p>入力値は {@link TodoForm} に詰め替え、フォームにない完了状態と作成日時は別に保持します。
+ * 値の変換に失敗した場合は {@link #getError()} に理由を設定します。</p>
+ *
+ * @since 1.1
+ */
+@Data
+public class ImportRow {
+
+    private static final DateTimeFormatter SLASH_DATE = DateTimeFormatter.ofPattern("yyyy/M/d");
+    private static final DateTimeFormatter SLASH_DATE_TIME = DateTimeFormatter.ofPattern("yyyy/M/d H:mm");
+
+    /** ファイル上の行番号（1始まり、見出し行を含む）。 */
+    private final long line;
+
+    /** 入力値。 */
+    private final TodoForm form = new TodoForm();
+
+    /** 完了状態（未指定の場合はnull）。 */
+    private Boolean completed;
+
+    /** 作成日時（未指定の場合はnull）。 */
+    private LocalDateTime createdAt;
+
+    /** 変換エラー（正常な場合はnull）。 */
+    private String error;
+
+    /**
+     * 項目名を指定して値を設定します。未知の項目は無視します。
+     *
+     * @param field 項目名（NDJSONのキー名）
+     * @param value 値（空文字は未指定として扱います）
+     */
+    public void set(String field, String value) {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        try {
+            switch (field) {
+                case "title":
+                    form.setTitle(value);
+                    break;
+                case "author":
+                    form.setAuthor(value);
+                    break;
+                case "description":
+                    form.setDescription(value);
+                    break;
+                case "dueDate":
+                    form.setDueDate(parseDate(value));
+                    break;
+                case "priority":
+                    form.setPriority(Integer.valueOf(value.trim()));
+                    break;
+                case "completed":
+                    completed = parseCompleted(value);
+                    break;
+                case "createdAt":
+                    createdAt = parseDateTime(value);
+                    break;
+                default:
+                    break;
+            }
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            reject(field + ": 値を解釈できません（" + value + "）");
+        }
+    }
+
+    /**
+     * 行を不正として記録します。最初の理由のみ保持します。
+     *
+     * @param message 理由
+     */
+    public void reject(String message) {
+        if (error == null) {
+            error = message;
+        }
+    }
+
+    private static LocalDate parseDate(String value) {
+        String trimmed = value.trim();
+        return trimmed.contains("/") ? LocalDate.parse(trimmed, SLASH_DATE) : LocalDate.parse(trimmed);
+    }
+
+    private static LocalDateTime parseDateTime(String value) {
+        String trimmed = value.trim();
+        return trimmed.contains("/") ? LocalDateTime.parse(trimmed, SLASH_DATE_TIME) : LocalDateTime.parse(trimmed);
+    }
+
+    private static Boolean parseCompleted(String value) {
+        switch (value.trim().toLowerCase()) {
+            case "完了":
+            case "true":
+            case "1":
+                return Boolean.TRUE;
+            case "未完了":
+            case "false":
+            case "0":
+                return Boolean.FALSE;
+            default:
+                throw new IllegalArgumentException("Unsupported status: " + value);
+        }
+    }
+}
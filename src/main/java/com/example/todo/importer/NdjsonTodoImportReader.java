@@ -0,0 +1,67 @@
+package com.example.todo.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * NDJSON（1行1オブジェクト）のリーダー。
+ *
+ * <p>キー名はエクスポートと同じです（{@code id} と {@code updatedAt} は無視します）。
+ * JSONとして解釈できない行は、その行のみエラーとして扱います。</p>
+ *
+ * @since 1.1
+ */
+public class NdjsonTodoImportReader implements TodoImportReader {
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private long currentLine;
+
+    public NdjsonTodoImportReader(InputStream in, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        String text;
+        while ((text = reader.readLine()) != null) {
+            currentLine++;
+            if (!text.isBlank()) {
+                return parse(text);
+            }
+        }
+        return null;
+    }
+
+    private ImportRow parse(String text) {
+        ImportRow row = new ImportRow(currentLine);
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(text);
+        } catch (JsonProcessingException ex) {
+            row.reject("JSONとして解釈できません: " + ex.getOriginalMessage());
+            return row;
+        }
+        if (!node.isObject()) {
+            row.reject("JSONオブジェクトではありません");
+            return row;
+        }
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> entry = fields.next();
+            JsonNode value = entry.getValue();
+            row.set(entry.getKey(), value.isNull() ? null : value.asText());
+        }
+        return row;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.todo.importer;
+
+import java.io.IOException;
+
+/**
+ * インポートファイルを1件ずつ読み込むリーダー。
+ *
+ * <p>ファイル全体をメモリに載せず、呼び出しごとに次の1件を返します。入力元は呼び出し側で閉じます。</p>
+ *
+ * @since 1.1
+ */
+public interface TodoImportReader {
+
+    /**
+     * 次の1件を読み込みます。
+     *
+     * @return 読み込んだ行。終端に達した場合は {@code null}
+     * @throws IOException 読み込みに失敗した場合
+     * @throws IllegalArgumentException ファイルの形式が不正で、以降を読めない場合
+     */
+    ImportRow next() throws IOException;
+}
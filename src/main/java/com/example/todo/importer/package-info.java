@@ -0,0 +1,12 @@
+/**
+ * インポート形式ごとのリーダーのパッケージ。
+ *
+ * <p>主なクラス:</p>
+ * <ul>
+ *   <li>{@link com.example.todo.importer.ImportFormat}</li>
+ *   <li>{@link com.example.todo.importer.TodoImportReader}</li>
+ * </ul>
+ *
+ * @since 1.1
+ */
+package com.example.todo.importer;
@@ -0,0 +1,24 @@
+package com.example.todo.mapper;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
+import com.example.todo.audit.TodoAuditEntry;
+
+@Mapper
+public interface TodoAuditMapper {
+
+    int insertAll(@Param("entries") List<TodoAuditEntry> entries);
+
+    List<TodoAuditEntry> selectHistory(@Param("ownerId") Long ownerId,
+                                       @Param("todoId") Long todoId,
+                                       @Param("beforeAt") LocalDateTime beforeAt,
+                                       @Param("beforeId") Long beforeId,
+                                       @Param("limit") int limit);
+
+    Cursor<TodoAuditEntry> selectForExport(@Param("ownerId") Long ownerId,
+                                           @Param("from") LocalDateTime from,
+                                           @Param("to") LocalDateTime to);
+}
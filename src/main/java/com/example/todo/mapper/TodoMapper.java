@@ -1,32 +1,179 @@
 package com.example.todo.mapper;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
+import com.example.todo.entity.DeadlineStatus;
 import com.example.todo.entity.Todo;
+import com.example.todo.export.ExportRange;
+import com.example.todo.form.TodoFilter;
+import com.example.todo.form.TodoForm;
+import com.example.todo.service.BulkAction;
+import com.example.todo.service.DeadlineCount;
+import com.example.todo.service.TodoPendingWrite;
+import com.example.todo.service.TodoSearchHit;
+import com.example.todo.service.TodoView;
 
 @Mapper
 public interface TodoMapper {
 
-    List<Todo> selectPage(@Param("limit") int limit,
+    List<Todo> selectPage(@Param("ownerId") Long ownerId,
+                          @Param("limit") int limit,
                           @Param("offset") int offset,
                           @Param("sortColumn") String sortColumn,
                           @Param("sortDir") String sortDir);
 
-    long countAll();
+    List<Todo> selectPageAfter(@Param("ownerId") Long ownerId,
+                               @Param("limit") int limit,
+                               @Param("sortColumn") String sortColumn,
+                               @Param("scanAsc") boolean scanAsc,
+                               @Param("cursorValue") Object cursorValue,
+                               @Param("cursorId") Long cursorId);
 
-    List<Todo> selectOverduePage(@Param("date") LocalDate date,
+    long countAll(@Param("ownerId") Long ownerId);
+
+    List<Todo> selectPageWithArchive(@Param("ownerId") Long ownerId,
+                                     @Param("limit") int limit,
+                                     @Param("offset") int offset,
+                                     @Param("sortColumn") String sortColumn,
+                                     @Param("sortDir") String sortDir);
+
+    List<Todo> selectPageAfterWithArchive(@Param("ownerId") Long ownerId,
+                                          @Param("limit") int limit,
+                                          @Param("sortColumn") String sortColumn,
+                                          @Param("scanAsc") boolean scanAsc,
+                                          @Param("cursorValue") Object cursorValue,
+                                          @Param("cursorId") Long cursorId);
+
+    long countArchived(@Param("ownerId") Long ownerId);
+
+    Todo selectArchivedById(@Param("ownerId") Long ownerId,
+                            @Param("id") Long id);
+
+    List<Todo> selectArchiveCandidates(@Param("before") LocalDateTime before,
+                                       @Param("limit") int limit);
+
+    int copyToArchive(@Param("ids") List<Long> ids,
+                      @Param("before") LocalDateTime before,
+                      @Param("archivedAt") LocalDateTime archivedAt);
+
+    int deleteArchived(@Param("ids") List<Long> ids,
+                       @Param("before") LocalDateTime before);
+
+    List<Todo> selectOverduePage(@Param("ownerId") Long ownerId,
+                                 @Param("date") LocalDate date,
+                                 @Param("materialized") boolean materialized,
                                  @Param("limit") int limit,
                                  @Param("offset") int offset,
                                  @Param("sortColumn") String sortColumn,
                                  @Param("sortDir") String sortDir);
 
-    long countOverdue(@Param("date") LocalDate date);
+    List<Todo> selectOverduePageAfter(@Param("ownerId") Long ownerId,
+                                      @Param("date") LocalDate date,
+                                      @Param("materialized") boolean materialized,
+                                      @Param("limit") int limit,
+                                      @Param("sortColumn") String sortColumn,
+                                      @Param("scanAsc") boolean scanAsc,
+                                      @Param("cursorValue") Object cursorValue,
+                                      @Param("cursorId") Long cursorId);
+
+    long countOverdue(@Param("ownerId") Long ownerId,
+                      @Param("date") LocalDate date,
+                      @Param("materialized") boolean materialized);
+
+    List<Todo> selectOverdue(@Param("ownerId") Long ownerId,
+                             @Param("date") LocalDate date);
+
+    List<DeadlineCount> countByDeadlineStatus(@Param("ownerId") Long ownerId);
+
+    List<Todo> selectDeadlineTransitions(@Param("from") DeadlineStatus from,
+                                         @Param("dueOnOrBefore") LocalDate dueOnOrBefore,
+                                         @Param("limit") int limit);
+
+    int updateDeadlineStatus(@Param("ids") List<Long> ids,
+                             @Param("from") DeadlineStatus from,
+                             @Param("to") DeadlineStatus to,
+                             @Param("dueOnOrBefore") LocalDate dueOnOrBefore);
+
+    int fillDeadlineStatus(@Param("today") LocalDate today,
+                           @Param("soonLimit") LocalDate soonLimit,
+                           @Param("limit") int limit);
+
+    List<TodoSearchHit> search(@Param("ownerId") Long ownerId,
+                               @Param("archived") boolean archived,
+                               @Param("fulltext") boolean fulltext,
+                               @Param("booleanQuery") String booleanQuery,
+                               @Param("terms") List<String> terms,
+                               @Param("limit") int limit,
+                               @Param("offset") int offset);
+
+    long countSearch(@Param("ownerId") Long ownerId,
+                     @Param("archived") boolean archived,
+                     @Param("fulltext") boolean fulltext,
+                     @Param("booleanQuery") String booleanQuery,
+                     @Param("terms") List<String> terms);
+
+    ExportRange selectExportRange(@Param("filter") TodoFilter filter);
+
+    Cursor<Todo> selectForExport(@Param("filter") TodoFilter filter,
+                                 @Param("sortColumn") String sortColumn,
+                                 @Param("sortDir") String sortDir);
+
+    List<Long> selectExportChunkTops(@Param("filter") TodoFilter filter,
+                                     @Param("chunkSize") long chunkSize);
+
+    List<Todo> selectForExportByIdRange(@Param("filter") TodoFilter filter,
+                                        @Param("fromId") long fromId,
+                                        @Param("toId") long toId);
+
+    Todo selectById(@Param("ownerId") Long ownerId,
+                    @Param("id") Long id);
+
+    List<TodoView> selectViews(@Param("columns") List<String> columns,
+                               @Param("filter") TodoFilter filter,
+                               @Param("limit") int limit,
+                               @Param("sortColumn") String sortColumn,
+                               @Param("scanAsc") boolean scanAsc,
+                               @Param("cursorValue") Object cursorValue,
+                               @Param("cursorId") Long cursorId);
+
+    TodoView selectViewById(@Param("ownerId") Long ownerId,
+                            @Param("id") Long id,
+                            @Param("columns") List<String> columns);
+
+    int toggleCompleted(@Param("ownerId") Long ownerId,
+                        @Param("id") Long id,
+                        @Param("version") Long version,
+                        @Param("completed") Boolean completed,
+                        @Param("updatedAt") LocalDateTime updatedAt);
+
+    int updateFields(@Param("ownerId") Long ownerId,
+                     @Param("id") Long id,
+                     @Param("form") TodoForm form,
+                     @Param("deadlineStatus") DeadlineStatus deadlineStatus,
+                     @Param("updatedAt") LocalDateTime updatedAt);
+
+    int applyPendingWrite(@Param("write") TodoPendingWrite write);
+
+    int bulkUpdateByIds(@Param("ownerId") Long ownerId,
+                        @Param("ids") List<Long> ids,
+                        @Param("action") BulkAction action,
+                        @Param("updatedAt") LocalDateTime updatedAt);
+
+    List<Long> selectOwnedIdsForUpdate(@Param("ownerId") Long ownerId,
+                                       @Param("ids") List<Long> ids);
+
+    List<Long> selectIdsByFilterForUpdate(@Param("filter") TodoFilter filter,
+                                          @Param("afterId") Long afterId,
+                                          @Param("limit") int limit);
 
-    List<Todo> selectOverdue(@Param("date") LocalDate date);
+    int deleteByIds(@Param("ownerId") Long ownerId,
+                    @Param("ids") List<Long> ids);
 
-    int deleteByIds(@Param("ids") List<Long> ids);
+    int insertBatch(@Param("todos") List<Todo> todos);
 }
@@ -0,0 +1,15 @@
+package com.example.todo.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernateが発行するSQL文を {@link StatementCounter} へ数えます。SQLは変更しません。
+ */
+public class HibernateStatementCounter implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        StatementCounter.onHibernateStatement();
+        return sql;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.todo.metrics;
+
+import java.util.Map;
+
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * MyBatisの各SQL文の処理時間を計測し、リクエストごとの実行回数を数えます。
+ *
+ * <p>メトリクス名は {@code todo.mapper} で、タグは {@code statement}（マッパーのメソッド名）、
+ * {@code sort}、{@code dir}、{@code pageSize} です。値はマッパー引数の {@code sortColumn}、
+ * {@code sortDir}（キーセット方式では {@code scanAsc}）、{@code limit} から取得します。</p>
+ *
+ * <p>カーソル（{@code queryCursor}）は取得開始までの時間、BATCH実行の更新文は送信待ちに積むまでの時間です。</p>
+ */
+@Component
+@Intercepts({
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "queryCursor",
+                args = {MappedStatement.class, Object.class, RowBounds.class}),
+        @Signature(type = Executor.class, method = "update",
+                args = {MappedStatement.class, Object.class})
+})
+public class MapperMetricsInterceptor implements Interceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    public MapperMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement statement = (MappedStatement) invocation.getArgs()[0];
+        Object parameter = invocation.getArgs()[1];
+        StatementCounter.onMyBatisStatement();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return invocation.proceed();
+        } finally {
+            sample.stop(Timer.builder("todo.mapper")
+                    .description("TodoMapper statement latency")
+                    .tag("statement", shortId(statement.getId()))
+                    .tag("sort", stringParam(parameter, "sortColumn"))
+                    .tag("dir", dir(parameter))
+                    .tag("pageSize", MetricTags.pageSize(intParam(parameter, "limit")))
+                    .register(meterRegistry));
+        }
+    }
+
+    private static String shortId(String id) {
+        return id.substring(id.lastIndexOf('.') + 1);
+    }
+
+    private static String dir(Object parameter) {
+        String dir = stringParam(parameter, "sortDir");
+        if (!MetricTags.NONE.equals(dir)) {
+            return dir;
+        }
+        Object scanAsc = param(parameter, "scanAsc");
+        if (scanAsc instanceof Boolean asc) {
+            return asc ? "ASC" : "DESC";
+        }
+        return MetricTags.NONE;
+    }
+
+    private static String stringParam(Object parameter, String name) {
+        Object value = param(parameter, name);
+        return value == null ? MetricTags.NONE : value.toString();
+    }
+
+    private static Integer intParam(Object parameter, String name) {
+        Object value = param(parameter, name);
+        return value instanceof Integer number ? number : null;
+    }
+
+    /** ParamMap は存在しないキーで例外を投げるため、先に containsKey で確認します。 */
+    private static Object param(Object parameter, String name) {
+        if (parameter instanceof Map<?, ?> map && map.containsKey(name)) {
+            return map.get(name);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.todo.metrics;
+
+import java.util.Set;
+
+/**
+ * メトリクスのタグ値。
+ *
+ * <p>タグの値の種類が増えすぎないよう、画面で選べるページサイズ以外は {@code other} にまとめます。</p>
+ */
+final class MetricTags {
+
+    /** 該当する引数がない場合の値。 */
+    static final String NONE = "none";
+
+    private static final Set<Integer> PAGE_SIZES = Set.of(5, 10, 20, 50);
+
+    private MetricTags() {
+    }
+
+    static String pageSize(Integer size) {
+        if (size == null) {
+            return NONE;
+        }
+        return PAGE_SIZES.contains(size) ? String.valueOf(size) : "other";
+    }
+}
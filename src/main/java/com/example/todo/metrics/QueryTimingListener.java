@@ -0,0 +1,87 @@
+package com.example.todo.metrics;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+/**
+ * JDBCの全SQL（JPA・MyBatisとも）の実行回数と時間を {@link StatementCounter} へ記録し、低速SQLをログに出力します。
+ *
+ * <p>低速SQLはロガー {@code com.example.todo.sql.slow} へ、SQL・バインド値・経過時間・呼び出し元を
+ * キー値（構造化ログの項目）として出力します。呼び出し元のスタック走査は低速SQLの場合のみ行います。</p>
+ */
+public class QueryTimingListener implements QueryExecutionListener {
+
+    private static final Logger slowLog = LoggerFactory.getLogger("com.example.todo.sql.slow");
+    private static final int MAX_VALUE_LENGTH = 100;
+    private static final String APP_PACKAGE = "com.example.todo.";
+    private static final String METRICS_PACKAGE = "com.example.todo.metrics.";
+
+    private final SqlBudgetProperties properties;
+
+    public QueryTimingListener(SqlBudgetProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        // Timing is taken from ExecutionInfo after execution.
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsedMillis = execInfo.getElapsedTime();
+        StatementCounter.onJdbcStatement(elapsedMillis);
+        if (elapsedMillis < properties.getSlowThreshold().toMillis()) {
+            return;
+        }
+        slowLog.atWarn()
+                .addKeyValue("elapsedMs", elapsedMillis)
+                .addKeyValue("sql", queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; ")))
+                .addKeyValue("params", params(queryInfoList))
+                .addKeyValue("batchSize", execInfo.getBatchSize())
+                .addKeyValue("success", execInfo.isSuccess())
+                .addKeyValue("callSite", callSite())
+                .log("Slow SQL ({} ms)", elapsedMillis);
+    }
+
+    private static String params(List<QueryInfo> queryInfoList) {
+        return queryInfoList.stream()
+                .flatMap(query -> query.getParametersList().stream())
+                .map(QueryTimingListener::formatParams)
+                .collect(Collectors.joining(" "));
+    }
+
+    private static String formatParams(List<ParameterSetOperation> operations) {
+        return operations.stream()
+                .map(operation -> {
+                    Object[] args = operation.getArgs();
+                    return args.length > 1 ? truncate(String.valueOf(args[1])) : "";
+                })
+                .collect(Collectors.joining(",", "[", "]"));
+    }
+
+    private static String truncate(String value) {
+        return value.length() <= MAX_VALUE_LENGTH ? value : value.substring(0, MAX_VALUE_LENGTH) + "...";
+    }
+
+    /**
+     * アプリケーション内で最も内側の呼び出し元（計測コード自身とCGLIBプロキシを除く）。
+     */
+    private static String callSite() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(APP_PACKAGE))
+                .filter(frame -> !frame.getClassName().startsWith(METRICS_PACKAGE))
+                .filter(frame -> !frame.getClassName().contains("$$"))
+                .findFirst()
+                .map(frame -> frame.getClassName() + "." + frame.getMethodName() + ":" + frame.getLineNumber())
+                .orElse("unknown"));
+    }
+}
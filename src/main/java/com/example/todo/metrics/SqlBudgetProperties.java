@@ -0,0 +1,42 @@
+package com.example.todo.metrics;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * リクエストごとのSQL実行回数の上限と、低速SQLの閾値。
+ *
+ * <p>上限はハンドラのURLパターン（例: {@code /todos/{id}}）ごとに
+ * {@code todo.sql-budget.endpoints.[/todos]=3} の形式で指定し、未指定のパターンには
+ * {@link #defaultBudget} を使用します。0は上限なしです。</p>
+ *
+ * @since 1.1
+ */
+@Data
+@ConfigurationProperties(prefix = "todo.sql-budget")
+public class SqlBudgetProperties {
+
+    /** パターン別の上限がない場合の上限（0は上限なし）。 */
+    private int defaultBudget = 20;
+
+    /** URLパターンごとの上限。 */
+    private Map<String, Integer> endpoints = new LinkedHashMap<>();
+
+    /** この時間以上かかったSQLを低速SQLとしてログに出力します。 */
+    private Duration slowThreshold = Duration.ofMillis(200);
+
+    /**
+     * URLパターンに対する上限を取得します。
+     *
+     * @param pattern ハンドラのURLパターン
+     * @return 上限（0は上限なし）
+     */
+    public int budgetFor(String pattern) {
+        return endpoints.getOrDefault(pattern, defaultBudget);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.todo.metrics;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * HTTPリクエストごとのSQL実行回数を記録し、上限（{@link SqlBudgetProperties}）と照合します。
+ *
+ * <p>メトリクス名は {@code todo.db.statements} で、タグは {@code uri}（ハンドラのURLパターン）、
+ * {@code method}、{@code source}（{@code mybatis} / {@code hibernate} / {@code jdbc}）です。
+ * {@code jdbc} はデータソースのプロキシで数えた全SQLで、その合計時間を {@code todo.db.time} に記録します。
+ * ログイン時のユーザー検索も含めるため、Spring Securityより前で動作します。
+ * 静的リソースなどハンドラに対応しないリクエストは記録しません。</p>
+ *
+ * <p>{@code jdbc} の回数が上限を超えた場合は警告ログを出力します。応答は変えません。
+ * 回数はリクエスト属性 {@link #STATEMENTS_ATTRIBUTE} にも設定するため、テストはMockMvcの結果から上限と照合できます。</p>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class StatementCountFilter extends OncePerRequestFilter {
+
+    /** リクエストで実行したJDBCの文の数（{@link Integer}）を保持するリクエスト属性の名前。 */
+    public static final String STATEMENTS_ATTRIBUTE = StatementCountFilter.class.getName() + ".statements";
+
+    private static final Logger log = LoggerFactory.getLogger(StatementCountFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final SqlBudgetProperties budget;
+
+    public StatementCountFilter(MeterRegistry meterRegistry, SqlBudgetProperties budget) {
+        this.meterRegistry = meterRegistry;
+        this.budget = budget;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        StatementCounter counter = StatementCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            StatementCounter.stop();
+        }
+        request.setAttribute(STATEMENTS_ATTRIBUTE, counter.getJdbc());
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern != null) {
+            complete(pattern.toString(), request.getMethod(), counter);
+        }
+    }
+
+    private void complete(String uri, String method, StatementCounter counter) {
+        record(uri, method, "mybatis", counter.getMyBatis());
+        record(uri, method, "hibernate", counter.getHibernate());
+        record(uri, method, "jdbc", counter.getJdbc());
+        Timer.builder("todo.db.time")
+                .description("Total SQL execution time per HTTP request")
+                .tag("uri", uri)
+                .tag("method", method)
+                .register(meterRegistry)
+                .record(counter.getJdbcMillis(), TimeUnit.MILLISECONDS);
+        log.debug("{} {}: {} statements in {} ms (mybatis={}, hibernate={})", method, uri,
+                counter.getJdbc(), counter.getJdbcMillis(), counter.getMyBatis(), counter.getHibernate());
+
+        int limit = budget.budgetFor(uri);
+        if (limit > 0 && counter.getJdbc() > limit) {
+            log.atWarn()
+                    .addKeyValue("uri", uri)
+                    .addKeyValue("method", method)
+                    .addKeyValue("statements", counter.getJdbc())
+                    .addKeyValue("budget", limit)
+                    .log("SQL budget exceeded: {} {} ran {} statements (budget {})",
+                            method, uri, counter.getJdbc(), limit);
+        }
+    }
+
+    private void record(String uri, String method, String source, int count) {
+        DistributionSummary.builder("todo.db.statements")
+                .description("SQL statements executed per HTTP request")
+                .baseUnit("statements")
+                .tag("uri", uri)
+                .tag("method", method)
+                .tag("source", source)
+                .register(meterRegistry)
+                .record(count);
+    }
+}
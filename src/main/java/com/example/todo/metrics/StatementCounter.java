@@ -0,0 +1,79 @@
+package com.example.todo.metrics;
+
+/**
+ * 処理中のリクエストで実行したSQL文の回数。
+ *
+ * <p>{@link StatementCountFilter} がリクエストの開始時にスレッドへ割り当て、終了時に取り外します。
+ * リクエスト外（スケジュール処理や非同期スレッド）で実行された文は数えません。</p>
+ */
+public final class StatementCounter {
+
+    private static final ThreadLocal<StatementCounter> CURRENT = new ThreadLocal<>();
+
+    private int myBatis;
+    private int hibernate;
+    private int jdbc;
+    private long jdbcMillis;
+
+    private StatementCounter() {
+    }
+
+    static StatementCounter start() {
+        StatementCounter counter = new StatementCounter();
+        CURRENT.set(counter);
+        return counter;
+    }
+
+    static void stop() {
+        CURRENT.remove();
+    }
+
+    /**
+     * MyBatisで実行した文を数えます。
+     */
+    public static void onMyBatisStatement() {
+        StatementCounter counter = CURRENT.get();
+        if (counter != null) {
+            counter.myBatis++;
+        }
+    }
+
+    /**
+     * Hibernateで実行した文を数えます。
+     */
+    public static void onHibernateStatement() {
+        StatementCounter counter = CURRENT.get();
+        if (counter != null) {
+            counter.hibernate++;
+        }
+    }
+
+    /**
+     * JDBCで実行した文（JPA・MyBatisの区別なし）を数えます。
+     *
+     * @param elapsedMillis 実行時間（ミリ秒）
+     */
+    public static void onJdbcStatement(long elapsedMillis) {
+        StatementCounter counter = CURRENT.get();
+        if (counter != null) {
+            counter.jdbc++;
+            counter.jdbcMillis += elapsedMillis;
+        }
+    }
+
+    int getMyBatis() {
+        return myBatis;
+    }
+
+    int getHibernate() {
+        return hibernate;
+    }
+
+    int getJdbc() {
+        return jdbc;
+    }
+
+    long getJdbcMillis() {
+        return jdbcMillis;
+    }
+}
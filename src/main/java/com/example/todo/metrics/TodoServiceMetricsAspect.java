@@ -0,0 +1,69 @@
+package com.example.todo.metrics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import com.example.todo.service.TodoService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * {@link TodoService} の公開メソッドの処理時間を計測します。
+ *
+ * <p>メトリクス名は {@code todo.service} で、タグは {@code method}、{@code sort}（DB列名）、
+ * {@code dir}、{@code pageSize}、{@code exception} です。ソート・ページ指定のないメソッドは {@code none} になります。</p>
+ */
+@Aspect
+@Component
+public class TodoServiceMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    public TodoServiceMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * com.example.todo.service.TodoService.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        Tags tags = tags(signature, joinPoint.getArgs());
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = MetricTags.NONE;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            exception = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            sample.stop(Timer.builder("todo.service")
+                    .description("TodoService method latency")
+                    .tags(tags)
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+
+    private Tags tags(MethodSignature signature, Object[] args) {
+        String[] names = signature.getParameterNames();
+        String sort = MetricTags.NONE;
+        String dir = MetricTags.NONE;
+        Integer pageSize = null;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i] instanceof Pageable pageable && pageable.isPaged()) {
+                pageSize = pageable.getPageSize();
+            } else if (names != null && "sort".equals(names[i])) {
+                sort = TodoService.mapSortColumn((String) args[i]);
+            } else if (names != null && "dir".equals(names[i])) {
+                dir = TodoService.mapSortDir((String) args[i]);
+            }
+        }
+        return Tags.of("method", signature.getName(), "sort", sort, "dir", dir,
+                "pageSize", MetricTags.pageSize(pageSize));
+    }
+}
@@ -0,0 +1,13 @@
+/**
+ * メトリクス計測のパッケージ。
+ *
+ * <p>主なクラス:</p>
+ * <ul>
+ *   <li>{@link com.example.todo.metrics.TodoServiceMetricsAspect}</li>
+ *   <li>{@link com.example.todo.metrics.MapperMetricsInterceptor}</li>
+ *   <li>{@link com.example.todo.metrics.StatementCountFilter}</li>
+ * </ul>
+ *
+ * @since 1.1
+ */
+package com.example.todo.metrics;
@@ -2,6 +2,7 @@ package com.example.todo.repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -10,6 +11,12 @@ import com.example.todo.entity.Todo;
 
 public interface TodoRepository extends JpaRepository<Todo, Long> {
 
+    // Todos of one owner, newest first (idx_todos_owner_created_at).
+    List<Todo> findByOwnerIdOrderByCreatedAtDesc(Long ownerId);
+
+    // Lookup by id within one owner; another owner's id is treated as not found.
+    Optional<Todo> findByIdAndOwnerId(Long id, Long ownerId);
+
     // Filter by completion status.
     List<Todo> findByCompleted(Boolean completed);
 
@@ -0,0 +1,45 @@
+package com.example.todo.security;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+/**
+ * ログイン時のユーザー情報のキャッシュ。
+ *
+ * <p>ログインのたびに {@code users} テーブルを検索しないよう、Spring の {@link CacheManager} の
+ * {@value #CACHE_NAME} キャッシュ（件数上限・有効期限付き）へ保持します。</p>
+ *
+ * <p>認証後に Spring Security が資格情報を消去（{@code eraseCredentials}）しても
+ * キャッシュ内のパスワードハッシュが消えないよう、格納時と取得時にコピーを作成します。</p>
+ */
+@Component
+public class CachingUserCache implements UserCache {
+
+    /** キャッシュ名。 */
+    public static final String CACHE_NAME = "users";
+
+    private final Cache cache;
+
+    public CachingUserCache(CacheManager cacheManager) {
+        this.cache = cacheManager.getCache(CACHE_NAME);
+    }
+
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        UserDetails cached = cache.get(username, UserDetails.class);
+        return cached == null ? null : TodoUserDetails.copyOf(cached, cached.getPassword());
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        cache.put(user.getUsername(), TodoUserDetails.copyOf(user, user.getPassword()));
+    }
+
+    @Override
+    public void removeUserFromCache(String username) {
+        cache.evict(username);
+    }
+}
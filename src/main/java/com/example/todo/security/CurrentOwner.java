@@ -0,0 +1,31 @@
+package com.example.todo.security;
+
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 現在のリクエストのToDo所有者。
+ *
+ * <p>ToDoのサービスは、読み書きの対象をこの所有者のデータに限定します。
+ * ログインしていないスレッド（コマンドラインのインポート、スケジュール処理など）では所有者を決められないため、
+ * 呼び出し側で所有者IDを明示してください。</p>
+ */
+@Component
+public class CurrentOwner {
+
+    /**
+     * 現在のユーザーの所有者IDを返します。
+     *
+     * @return 所有者ID
+     * @throws AccessDeniedException ログインしていない場合
+     */
+    public Long getId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof TodoUserDetails user) {
+            return user.getOwnerId();
+        }
+        throw new AccessDeniedException("No todo owner for the current request");
+    }
+}
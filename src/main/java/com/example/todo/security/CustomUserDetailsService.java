@@ -1,31 +1,56 @@
 package com.example.todo.security;
 
 import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.todo.entity.UserAccount;
 import com.example.todo.repository.UserAccountRepository;
 
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserAccountRepository userAccountRepository;
+    private final UserCache userCache;
 
-    public CustomUserDetailsService(UserAccountRepository userAccountRepository) {
+    public CustomUserDetailsService(UserAccountRepository userAccountRepository, UserCache userCache) {
         this.userAccountRepository = userAccountRepository;
+        this.userCache = userCache;
     }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         UserAccount user = userAccountRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
-        return User.withUsername(user.getUsername())
+
+        UserDetails details = User.withUsername(user.getUsername())
                 .password(user.getPassword())
                 .roles(normalizeRole(user.getRole()))
                 .build();
+        return new TodoUserDetails(details, user.resolveOwnerId());
+    }
+
+    /**
+     * ログイン成功時、保存済みハッシュの強度が現在の設定より低い場合に呼ばれ、新しいハッシュで置き換えます。
+     *
+     * @param user ログインしたユーザー
+     * @param newPassword 現在の設定で計算したハッシュ
+     * @return 新しいハッシュを持つユーザー情報
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userAccountRepository.findByUsername(user.getUsername()).ifPresent(account -> {
+            account.setPassword(newPassword);
+            userAccountRepository.save(account);
+        });
+        userCache.removeUserFromCache(user.getUsername());
+        return TodoUserDetails.copyOf(user, newPassword);
     }
 
     private String normalizeRole(String role) {
@@ -1,22 +1,50 @@
 package com.example.todo.security;
 
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
 
 @Configuration
 public class SecurityConfig {
 
+    /**
+     * REST API（{@code /api/**}）のセキュリティ設定。
+     *
+     * <p>外部連携はHTTP Basic認証で呼び出します。認証結果はセッションにも保存するため、
+     * Cookieを保持するクライアントはリクエストごとのBCrypt計算を省けます。
+     * APIはJSON/CBOR/Smileの本文しか受け付けず、フォーム送信によるリクエスト偽造は成立しないため、
+     * CSRFトークンは要求しません。</p>
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain apiSecurityFilterChain(HttpSecurity http) throws Exception {
+        http
+            .securityMatcher("/api/**")
+            .authorizeHttpRequests(auth -> auth.anyRequest().authenticated())
+            .httpBasic(basic -> basic.securityContextRepository(new HttpSessionSecurityContextRepository()))
+            .csrf(csrf -> csrf.disable());
+        return http.build();
+    }
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/css/**", "/js/**", "/images/**", "/webjars/**").permitAll()
                 .requestMatchers("/login").permitAll()
+                .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
                 .anyRequest().authenticated()
             )
             .formLogin(form -> form
@@ -34,8 +62,49 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * BCryptのパスワードエンコーダ。計算は {@link #passwordHashExecutor} で実行します。
+     *
+     * <p>強度（{@code todo.security.bcrypt-strength}）を上げると、既存のハッシュは
+     * 次回ログイン時に {@link CustomUserDetailsService#updatePassword} で新しい強度へ置き換わります。</p>
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder(ThreadPoolTaskExecutor passwordHashExecutor,
+                                           @Value("${todo.security.bcrypt-strength:10}") int strength,
+                                           @Value("${todo.security.hash-timeout:5s}") Duration timeout) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), passwordHashExecutor, timeout);
+    }
+
+    /**
+     * パスワードのハッシュ計算に使用するプール。ログイン集中時も、ここで使うCPUはスレッド数までに抑えます。
+     *
+     * @param concurrency 同時に計算するスレッド数
+     * @param queueCapacity 待機できる計算数（超えた分のログインは失敗します）
+     * @return スレッドプール
+     */
+    @Bean
+    public ThreadPoolTaskExecutor passwordHashExecutor(
+            @Value("${todo.security.hash-concurrency:2}") int concurrency,
+            @Value("${todo.security.hash-queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(queueCapacity);
+        return executor;
+    }
+
+    /**
+     * ユーザー情報のキャッシュとハッシュの置き換えを有効にした認証プロバイダ。
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public DaoAuthenticationProvider authenticationProvider(CustomUserDetailsService userDetailsService,
+                                                            PasswordEncoder passwordEncoder,
+                                                            UserCache userCache) {
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(userDetailsService);
+        provider.setPasswordEncoder(passwordEncoder);
+        provider.setUserDetailsPasswordService(userDetailsService);
+        provider.setUserCache(userCache);
+        return provider;
     }
 }
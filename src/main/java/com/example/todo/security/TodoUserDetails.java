@@ -0,0 +1,44 @@
+package com.example.todo.security;
+
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * ToDoの所有者IDを持つログインユーザー。
+ *
+ * <p>認証後はセッションやユーザーキャッシュに保持されるため、所有者IDを毎回 {@code users} から引きません。
+ * 複製する場合は、所有者IDを失わないよう {@link #copyOf(UserDetails, String)} を使用します。</p>
+ */
+public class TodoUserDetails extends User {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Long ownerId;
+
+    public TodoUserDetails(UserDetails user, Long ownerId) {
+        super(user.getUsername(), user.getPassword(), user.isEnabled(), user.isAccountNonExpired(),
+                user.isCredentialsNonExpired(), user.isAccountNonLocked(), user.getAuthorities());
+        this.ownerId = ownerId;
+    }
+
+    /**
+     * ToDoの所有者IDを返します。
+     *
+     * @return 所有者（ユーザーまたはチーム）ID
+     */
+    public Long getOwnerId() {
+        return ownerId;
+    }
+
+    /**
+     * パスワードを指定してユーザー情報を複製します。
+     *
+     * @param user 複製元
+     * @param password パスワード（ハッシュ）
+     * @return 複製。複製元が {@link TodoUserDetails} の場合は所有者IDも引き継ぎます
+     */
+    public static UserDetails copyOf(UserDetails user, String password) {
+        UserDetails copy = User.withUserDetails(user).password(password).build();
+        return user instanceof TodoUserDetails todoUser ? new TodoUserDetails(copy, todoUser.ownerId) : copy;
+    }
+}
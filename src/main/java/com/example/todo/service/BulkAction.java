@@ -0,0 +1,75 @@
+package com.example.todo.service;
+
+/**
+ * 一括更新の内容。
+ *
+ * <p>設定された項目のみ更新します（1回の操作で更新するのは1項目です）。</p>
+ *
+ * @since 1.1
+ * @see TodoBulkService
+ */
+public final class BulkAction {
+
+    private final Boolean completed;
+    private final String author;
+    private final Integer priority;
+
+    private BulkAction(Boolean completed, String author, Integer priority) {
+        this.completed = completed;
+        this.author = author;
+        this.priority = priority;
+    }
+
+    /**
+     * 完了状態を変更します。
+     *
+     * @param completed 変更後の完了状態
+     * @return 更新内容
+     */
+    public static BulkAction complete(boolean completed) {
+        return new BulkAction(completed, null, null);
+    }
+
+    /**
+     * 作成者を付け替えます。
+     *
+     * @param author 変更後の作成者（必須、最大50文字）
+     * @return 更新内容
+     * @throws IllegalArgumentException 作成者が不正な場合
+     */
+    public static BulkAction reassign(String author) {
+        if (author == null || author.isBlank()) {
+            throw new IllegalArgumentException("作成者は必須です。");
+        }
+        if (author.length() > 50) {
+            throw new IllegalArgumentException("作成者は50文字以内で入力してください。");
+        }
+        return new BulkAction(null, author, null);
+    }
+
+    /**
+     * 優先度を変更します。
+     *
+     * @param priority 変更後の優先度（1〜5）
+     * @return 更新内容
+     * @throws IllegalArgumentException 優先度が範囲外の場合
+     */
+    public static BulkAction changePriority(Integer priority) {
+        if (priority == null || priority < 1 || priority > 5) {
+            throw new IllegalArgumentException("優先度は1〜5で指定してください。");
+        }
+        return new BulkAction(null, null, priority);
+    }
+
+    public Boolean getCompleted() {
+        return completed;
+    }
+
+    public String getAuthor() {
+        return author;
+    }
+
+    public Integer getPriority() {
+        return priority;
+    }
+}
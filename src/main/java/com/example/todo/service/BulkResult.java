@@ -0,0 +1,51 @@
+package com.example.todo.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 一括操作の結果。
+ *
+ * <p>チャンク（1回のSQLで処理した単位）ごとの件数を実行順に保持します。</p>
+ *
+ * @since 1.1
+ * @see TodoBulkService
+ */
+public class BulkResult {
+
+    private final List<Integer> chunkCounts = new ArrayList<>();
+    private long total;
+
+    void addChunk(int count) {
+        chunkCounts.add(count);
+        total += count;
+    }
+
+    /**
+     * 処理件数の合計を取得します。
+     *
+     * @return 合計件数
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * チャンクごとの処理件数を取得します。
+     *
+     * @return 実行順の件数
+     */
+    public List<Integer> getChunkCounts() {
+        return Collections.unmodifiableList(chunkCounts);
+    }
+
+    /**
+     * 実行したチャンク数を取得します。
+     *
+     * @return チャンク数
+     */
+    public int getChunks() {
+        return chunkCounts.size();
+    }
+}
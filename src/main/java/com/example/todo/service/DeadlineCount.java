@@ -0,0 +1,23 @@
+package com.example.todo.service;
+
+import com.example.todo.entity.DeadlineStatus;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 期限区分ごとの件数（集計結果の1行）。
+ *
+ * @since 1.1
+ * @see TodoCountCache#countByDeadline(Long)
+ */
+@Data
+@NoArgsConstructor
+public class DeadlineCount {
+
+    /** 区分（未設定の行は {@code null}）。 */
+    private DeadlineStatus status;
+
+    /** 件数。 */
+    private long total;
+}
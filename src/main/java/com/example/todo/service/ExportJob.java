@@ -0,0 +1,111 @@
+package com.example.todo.service;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.example.todo.export.ExportFormat;
+
+/**
+ * 非同期エクスポートジョブの状態。
+ *
+ * @since 1.1
+ * @see TodoExportJobService
+ */
+public class ExportJob {
+
+    /** ジョブの状態。 */
+    public enum Status {
+        /** 実行中（待機中を含む）。 */
+        RUNNING,
+        /** 完了。 */
+        COMPLETED,
+        /** 失敗。 */
+        FAILED
+    }
+
+    private final String id;
+    private final String owner;
+    private final ExportFormat format;
+    private final long total;
+    private final Path file;
+    private final LocalDateTime createdAt;
+    private final AtomicLong written = new AtomicLong();
+    private volatile Status status = Status.RUNNING;
+    private volatile LocalDateTime finishedAt;
+
+    ExportJob(String id, String owner, ExportFormat format, long total, Path file) {
+        this.id = id;
+        this.owner = owner;
+        this.format = format;
+        this.total = total;
+        this.file = file;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    void setWritten(long count) {
+        written.set(count);
+    }
+
+    void complete() {
+        finishedAt = LocalDateTime.now();
+        status = Status.COMPLETED;
+    }
+
+    void fail() {
+        finishedAt = LocalDateTime.now();
+        status = Status.FAILED;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public ExportFormat getFormat() {
+        return format;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public long getWritten() {
+        return written.get();
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public boolean isFinished() {
+        return status != Status.RUNNING;
+    }
+
+    /**
+     * 進捗率を取得します。
+     *
+     * @return 0〜100の進捗率
+     */
+    public int getProgressPercent() {
+        if (status == Status.COMPLETED || total == 0) {
+            return status == Status.COMPLETED ? 100 : 0;
+        }
+        return (int) Math.min(99, written.get() * 100 / total);
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.todo.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * インポートの結果。
+ *
+ * <p>登録件数と、登録できなかった行の一覧を保持します。保持するエラーは
+ * {@code todo.import.max-errors} 件までで、それを超えた分は件数のみ数えます。</p>
+ *
+ * @since 1.1
+ * @see TodoImportService
+ */
+public class ImportResult {
+
+    private final int maxErrors;
+    private final List<RowError> errors = new ArrayList<>();
+    private long read;
+    private long imported;
+    private long errorCount;
+    private long elapsedMillis;
+
+    ImportResult(int maxErrors) {
+        this.maxErrors = maxErrors;
+    }
+
+    void addRead() {
+        read++;
+    }
+
+    void addImported(int count) {
+        imported += count;
+    }
+
+    void addError(long line, String message) {
+        errorCount++;
+        if (errors.size() < maxErrors) {
+            errors.add(new RowError(line, message));
+        }
+    }
+
+    void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * 読み込んだ件数を取得します。
+     *
+     * @return 読み込み件数（空行を除く）
+     */
+    public long getRead() {
+        return read;
+    }
+
+    /**
+     * 登録した件数を取得します。
+     *
+     * @return 登録件数
+     */
+    public long getImported() {
+        return imported;
+    }
+
+    /**
+     * 登録できなかった件数を取得します。
+     *
+     * @return エラー件数
+     */
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    /**
+     * 登録できなかった行を取得します。
+     *
+     * @return 行番号順のエラー（上限件数まで）
+     */
+    public List<RowError> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    /**
+     * エラーの一部を省略したか判定します。
+     *
+     * @return 上限を超えたエラーがある場合はtrue
+     */
+    public boolean isErrorsTruncated() {
+        return errorCount > errors.size();
+    }
+
+    /**
+     * 処理時間を取得します。
+     *
+     * @return 処理時間（ミリ秒）
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * 1秒あたりの登録件数を取得します。
+     *
+     * @return 登録件数/秒
+     */
+    public long getRowsPerSecond() {
+        return elapsedMillis == 0 ? imported : imported * 1000 / elapsedMillis;
+    }
+
+    /**
+     * 登録できなかった行。
+     *
+     * @param line ファイル上の行番号
+     * @param message 理由
+     */
+    public record RowError(long line, String message) {
+    }
+}
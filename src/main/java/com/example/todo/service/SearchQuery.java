@@ -0,0 +1,121 @@
+package com.example.todo.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.web.util.HtmlUtils;
+
+/**
+ * 検索キーワードの解析と強調表示。
+ *
+ * <p>空白（全角を含む）で区切った語をすべて含む行を検索します。
+ * MySQLではFULLTEXTのBOOLEAN MODE式へ、H2ではLIKE条件の語リストへ変換します。
+ * LIKE条件の語は {@code %}・{@code _} を文字どおりに扱うよう {@code !} でエスケープします（{@code ESCAPE '!'}）。</p>
+ *
+ * @since 1.1
+ */
+public final class SearchQuery {
+
+    /** BOOLEAN MODEで演算子として解釈される文字。 */
+    private static final Pattern OPERATORS = Pattern.compile("[+\\-<>()~*\"@]");
+
+    /** LIKEのワイルドカードとエスケープ文字。 */
+    private static final Pattern LIKE_SPECIALS = Pattern.compile("[!%_]");
+
+    private final List<String> terms;
+
+    private SearchQuery(List<String> terms) {
+        this.terms = terms;
+    }
+
+    /**
+     * 入力されたキーワードを解析します。
+     *
+     * @param keyword 入力値
+     * @return 検索語。有効な語がない場合は空
+     */
+    public static SearchQuery parse(String keyword) {
+        if (keyword == null) {
+            return new SearchQuery(Collections.emptyList());
+        }
+        List<String> terms = new ArrayList<>();
+        for (String token : keyword.split("[\\s\\u3000]+")) {
+            String term = OPERATORS.matcher(token).replaceAll("");
+            if (!term.isEmpty() && !terms.contains(term)) {
+                terms.add(term);
+            }
+        }
+        return new SearchQuery(List.copyOf(terms));
+    }
+
+    public boolean isEmpty() {
+        return terms.isEmpty();
+    }
+
+    public List<String> getTerms() {
+        return terms;
+    }
+
+    /**
+     * LIKE条件用の検索語を返します。{@code !}・{@code %}・{@code _} の前に {@code !} を付けます。
+     *
+     * @return エスケープ済みの検索語（SQL側は {@code ESCAPE '!'}）
+     */
+    public List<String> getLikeTerms() {
+        return terms.stream().map(term -> LIKE_SPECIALS.matcher(term).replaceAll("!$0")).toList();
+    }
+
+    /**
+     * FULLTEXTのBOOLEAN MODE式を作成します（全語を必須のフレーズとして指定）。
+     *
+     * @return 例: {@code +"請求書" +"送付"}
+     */
+    public String toBooleanMode() {
+        StringBuilder sb = new StringBuilder();
+        for (String term : terms) {
+            if (sb.length() > 0) {
+                sb.append(' ');
+            }
+            sb.append("+\"").append(term).append('"');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 検索語を {@code <mark>} で囲んだHTMLを作成します。
+     *
+     * <p>検索語はエスケープ前の文字列で探し、区間ごとにエスケープしてから囲みます。
+     * エスケープ後の文字列で探すと、{@code amp} などの語が実体参照の内側に一致してしまうためです。</p>
+     *
+     * @param text 元の文字列
+     * @return HTMLエスケープ済みの文字列。{@code text} が {@code null} の場合は {@code null}
+     */
+    public String highlight(String text) {
+        if (text == null) {
+            return null;
+        }
+        if (terms.isEmpty()) {
+            return HtmlUtils.htmlEscape(text);
+        }
+        StringBuilder alternation = new StringBuilder();
+        for (String term : terms) {
+            if (alternation.length() > 0) {
+                alternation.append('|');
+            }
+            alternation.append(Pattern.quote(term));
+        }
+        Pattern pattern = Pattern.compile(alternation.toString(), Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+        Matcher matcher = pattern.matcher(text);
+        StringBuilder html = new StringBuilder(text.length() + 32);
+        int last = 0;
+        while (matcher.find()) {
+            html.append(HtmlUtils.htmlEscape(text.substring(last, matcher.start())))
+                    .append("<mark>").append(HtmlUtils.htmlEscape(matcher.group())).append("</mark>");
+            last = matcher.end();
+        }
+        return html.append(HtmlUtils.htmlEscape(text.substring(last))).toString();
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.todo.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.todo.datasource.DataSourceRoute;
+import com.example.todo.entity.Todo;
+import com.example.todo.mapper.TodoMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 完了から一定期間が過ぎたToDoをアーカイブ（{@code todos_archive}）へ移します。
+ *
+ * <p>最終更新から {@code todo.archive.after-days} 日を過ぎた完了済みのToDoを、
+ * {@code todo.archive.batch-size} 件ずつコピーして削除します。1バッチを1つの短いトランザクションで処理し、
+ * バッチの間は {@code todo.archive.pause-ms} だけ待つため、行ロックを長く持たず、通常の書き込みを妨げません。
+ * 1回の実行で移すのは {@code todo.archive.max-batches} バッチまでで、残りは次回（{@code todo.archive.interval-ms} 後）に続けます
+ * （スケジューラのスレッドを長く占有しないため）。</p>
+ *
+ * <p>コピーと削除はどちらも「完了済みかつ基準日時より前に更新」の条件を繰り返すため、
+ * 途中で未完了に戻された・編集された行はどちらにも含まれません。複数ノードで実行しても、
+ * 後から実行したノードのバッチは0件になるだけです。</p>
+ *
+ * <p>通常の一覧・件数はアーカイブを含まないため、ホットな表とインデックスは現役のToDoの件数に比例します。
+ * アーカイブ済みのToDoは一覧・検索・エクスポートで「アーカイブを含む」を指定したときだけ読み込み、参照のみ可能です。</p>
+ *
+ * @since 1.1
+ */
+@Service
+public class TodoArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(TodoArchiveService.class);
+
+    private final TodoMapper todoMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final TodoCountCache todoCountCache;
+    private final TodoCache todoCache;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int afterDays;
+    private final int batchSize;
+    private final int maxBatches;
+    private final long pauseMillis;
+
+    public TodoArchiveService(TodoMapper todoMapper,
+                              PlatformTransactionManager transactionManager,
+                              TodoCountCache todoCountCache,
+                              TodoCache todoCache,
+                              MeterRegistry meterRegistry,
+                              @Value("${todo.archive.enabled:true}") boolean enabled,
+                              @Value("${todo.archive.after-days:30}") int afterDays,
+                              @Value("${todo.archive.batch-size:500}") int batchSize,
+                              @Value("${todo.archive.max-batches:20}") int maxBatches,
+                              @Value("${todo.archive.pause-ms:200}") long pauseMillis) {
+        this.todoMapper = todoMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.todoCountCache = todoCountCache;
+        this.todoCache = todoCache;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.afterDays = afterDays;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.pauseMillis = pauseMillis;
+    }
+
+    /**
+     * 期限を過ぎた完了済みのToDoをアーカイブへ移します。
+     */
+    @Scheduled(fixedDelayString = "${todo.archive.interval-ms:300000}",
+               initialDelayString = "${todo.archive.interval-ms:300000}")
+    public void archiveExpired() {
+        if (enabled) {
+            archive(LocalDateTime.now().minusDays(afterDays));
+        }
+    }
+
+    /**
+     * 基準日時より前に更新された完了済みのToDoをアーカイブへ移します。
+     *
+     * @param before 基準日時（この日時より前に更新された行が対象）
+     * @return 移した件数
+     */
+    public synchronized int archive(LocalDateTime before) {
+        long started = System.currentTimeMillis();
+        // Select and move on the primary; a lagging replica would return rows already moved.
+        Run run = DataSourceRoute.onPrimary(() -> moveBatches(before));
+        if (run.archived() > 0) {
+            meterRegistry.counter("todo.archive.moved").increment(run.archived());
+            log.info("Archived {} todos updated before {} in {} batches, {} ms",
+                    run.archived(), before, run.batches(), System.currentTimeMillis() - started);
+        }
+        return run.archived();
+    }
+
+    private Run moveBatches(LocalDateTime before) {
+        int archived = 0;
+        int batches = 0;
+        while (batches < maxBatches) {
+            List<Todo> batch = todoMapper.selectArchiveCandidates(before, batchSize);
+            if (batch.isEmpty()) {
+                break;
+            }
+            batches++;
+            int moved = move(batch, before);
+            archived += moved;
+            if (moved < batch.size()) {
+                // Some rows were reopened or edited in between, or another node moved them.
+                todoCountCache.reconcile();
+            } else {
+                countByOwner(batch).forEach(todoCountCache::onArchived);
+            }
+            evict(batch);
+            if (moved == 0 || batch.size() < batchSize || !pause()) {
+                break;
+            }
+        }
+        return new Run(archived, batches);
+    }
+
+    /**
+     * 1バッチをコピーして削除します。件数が一致しない場合はロールバックします。
+     */
+    private int move(List<Todo> batch, LocalDateTime before) {
+        List<Long> ids = batch.stream().map(Todo::getId).toList();
+        LocalDateTime now = LocalDateTime.now();
+        Integer moved = transactionTemplate.execute(status -> {
+            int copied = todoMapper.copyToArchive(ids, before, now);
+            int deleted = todoMapper.deleteArchived(ids, before);
+            if (copied != deleted) {
+                status.setRollbackOnly();
+                log.warn("Archive batch rolled back: {} copied, {} deleted", copied, deleted);
+                return 0;
+            }
+            return deleted;
+        });
+        return moved == null ? 0 : moved;
+    }
+
+    private void evict(List<Todo> batch) {
+        Map<Long, List<Long>> idsByOwner = new LinkedHashMap<>();
+        for (Todo todo : batch) {
+            idsByOwner.computeIfAbsent(todo.getOwnerId(), owner -> new ArrayList<>()).add(todo.getId());
+        }
+        idsByOwner.forEach(todoCache::onWritten);
+    }
+
+    private Map<Long, Integer> countByOwner(List<Todo> batch) {
+        Map<Long, Integer> counts = new LinkedHashMap<>();
+        for (Todo todo : batch) {
+            counts.merge(todo.getOwnerId(), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    private record Run(int archived, int batches) {
+    }
+
+    /**
+     * 次のバッチまで待ちます。
+     *
+     * @return 割り込まれた場合はfalse
+     */
+    private boolean pause() {
+        if (pauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
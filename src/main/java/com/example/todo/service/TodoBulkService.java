@@ -0,0 +1,236 @@
+package com.example.todo.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.todo.event.TodoChangeEvent;
+import com.example.todo.form.TodoFilter;
+import com.example.todo.mapper.TodoMapper;
+import com.example.todo.security.CurrentOwner;
+
+/**
+ * 一括操作（完了/未完了、作成者の付け替え、優先度変更、削除）を提供するサービス。
+ *
+ * <p>ID指定の場合は上限付きのIN句に分割し、JDBCバッチでまとめて送信します。
+ * 絞り込み条件指定の場合はIDを画面から受け取らず、一致する行をID順にチャンクずつ読んでから処理します。
+ * いずれもチャンクごとの処理件数を {@link BulkResult} で返し、実際に更新・削除したIDだけを
+ * {@link TodoChangeEvent} で通知します（件数にかかわらず、文の数はチャンク・区間ごとに一定です）。
+ * 対象はログインユーザーの所有者のToDoに限定し、ほかの所有者のIDは無視します。</p>
+ *
+ * @since 1.1
+ */
+@Service
+public class TodoBulkService {
+
+    private final TodoMapper todoMapper;
+    private final TodoMapper batchMapper;
+    private final SqlSessionTemplate batchSqlSession;
+    private final TransactionTemplate transactionTemplate;
+    private final TodoCountCache todoCountCache;
+    private final TodoCache todoCache;
+    private final CurrentOwner currentOwner;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final int chunksPerBatch;
+
+    public TodoBulkService(TodoMapper todoMapper,
+                           SqlSessionFactory sqlSessionFactory,
+                           PlatformTransactionManager transactionManager,
+                           TodoCountCache todoCountCache,
+                           TodoCache todoCache,
+                           CurrentOwner currentOwner,
+                           ApplicationEventPublisher eventPublisher,
+                           @Value("${todo.bulk.chunk-size:1000}") int chunkSize,
+                           @Value("${todo.bulk.chunks-per-batch:10}") int chunksPerBatch) {
+        this.todoMapper = todoMapper;
+        // Not a bean: a SqlSessionTemplate bean would replace the default (SIMPLE) one used by mapper scanning.
+        this.batchSqlSession = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+        this.batchMapper = batchSqlSession.getMapper(TodoMapper.class);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.todoCountCache = todoCountCache;
+        this.todoCache = todoCache;
+        this.currentOwner = currentOwner;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.chunksPerBatch = chunksPerBatch;
+    }
+
+    /**
+     * 指定IDのToDoを一括更新します。
+     *
+     * @param ids ToDoのIDリスト
+     * @param action 更新内容
+     * @return 処理結果
+     */
+    public BulkResult updateByIds(List<Long> ids, BulkAction action) {
+        Long ownerId = currentOwner.getId();
+        LocalDateTime now = LocalDateTime.now();
+        return executeBatched(ownerId, ids,
+                chunk -> batchMapper.bulkUpdateByIds(ownerId, chunk, action, now),
+                affected -> TodoChangeEvent.updated(ownerId, affected, action));
+    }
+
+    /**
+     * 指定IDのToDoを一括削除します。
+     *
+     * @param ids ToDoのIDリスト
+     * @return 処理結果
+     */
+    public BulkResult deleteByIds(List<Long> ids) {
+        Long ownerId = currentOwner.getId();
+        BulkResult result = executeBatched(ownerId, ids,
+                chunk -> batchMapper.deleteByIds(ownerId, chunk),
+                affected -> TodoChangeEvent.deleted(ownerId, affected));
+        todoCountCache.onBulkDeleted(ownerId, (int) result.getTotal());
+        return result;
+    }
+
+    /**
+     * 絞り込み条件に一致するToDoを一括更新します。
+     *
+     * @param filter 絞り込み条件（ログインユーザーの所有者に限定します）
+     * @param action 更新内容
+     * @return 処理結果
+     */
+    public BulkResult updateByFilter(TodoFilter filter, BulkAction action) {
+        Long ownerId = currentOwner.getId();
+        filter.scopeTo(ownerId);
+        // Archived todos are read-only.
+        filter.setArchived(null);
+        LocalDateTime now = LocalDateTime.now();
+        return executeByKeyset(ownerId, filter,
+                chunk -> todoMapper.bulkUpdateByIds(ownerId, chunk, action, now),
+                affected -> TodoChangeEvent.updated(ownerId, affected, action));
+    }
+
+    /**
+     * 絞り込み条件に一致するToDoを一括削除します。
+     *
+     * @param filter 絞り込み条件（ログインユーザーの所有者に限定します）
+     * @return 処理結果
+     */
+    public BulkResult deleteByFilter(TodoFilter filter) {
+        Long ownerId = currentOwner.getId();
+        filter.scopeTo(ownerId);
+        // Archived todos are read-only.
+        filter.setArchived(null);
+        BulkResult result = executeByKeyset(ownerId, filter,
+                chunk -> todoMapper.deleteByIds(ownerId, chunk),
+                affected -> TodoChangeEvent.deleted(ownerId, affected));
+        todoCountCache.onBulkDeleted(ownerId, (int) result.getTotal());
+        return result;
+    }
+
+    /**
+     * IDリストをチャンクに分け、{@code chunksPerBatch} 個ずつ1トランザクション・1回のJDBCバッチで実行します。
+     *
+     * <p>各トランザクションでは、まずチャンクごとに所有者の行を {@code FOR UPDATE} で読み、
+     * 読めたIDだけを更新します。コミットしたトランザクションごとに、そのIDだけを通知します。
+     * 途中で失敗した場合は、コミット済みの分を通知したうえで対象を特定しない通知を行います。</p>
+     */
+    private BulkResult executeBatched(Long ownerId, List<Long> ids, Function<List<Long>, Integer> statement,
+                                      Function<List<Long>, TodoChangeEvent> event) {
+        BulkResult result = new BulkResult();
+        if (ids == null || ids.isEmpty()) {
+            return result;
+        }
+        List<Long> distinct = ids.stream().distinct().toList();
+        int batchRows = chunkSize * chunksPerBatch;
+        boolean succeeded = false;
+        try {
+            for (int start = 0; start < distinct.size(); start += batchRows) {
+                List<Long> batch = distinct.subList(start, Math.min(start + batchRows, distinct.size()));
+                List<List<Long>> affected = new ArrayList<>();
+                List<BatchResult> flushed = transactionTemplate.execute(status -> {
+                    // All SELECTs first: a query on the BATCH executor would flush the statements queued so far.
+                    for (int i = 0; i < batch.size(); i += chunkSize) {
+                        affected.add(batchMapper.selectOwnedIdsForUpdate(ownerId,
+                                batch.subList(i, Math.min(i + chunkSize, batch.size()))));
+                    }
+                    for (List<Long> chunk : affected) {
+                        if (!chunk.isEmpty()) {
+                            statement.apply(chunk);
+                        }
+                    }
+                    return batchSqlSession.flushStatements();
+                });
+                if (flushed != null) {
+                    for (BatchResult batchResult : flushed) {
+                        for (int count : batchResult.getUpdateCounts()) {
+                            result.addChunk(Math.max(count, 0));
+                        }
+                    }
+                }
+                committed(ownerId, affected.stream().flatMap(List::stream).toList(), event);
+            }
+            succeeded = true;
+            return result;
+        } finally {
+            if (!succeeded) {
+                eventPublisher.publishEvent(TodoChangeEvent.invalidated(ownerId));
+            }
+        }
+    }
+
+    /**
+     * 条件に一致する行をID順に {@code chunkSize} 件ずつ（キーセット方式で）読み、チャンクごとに1トランザクションで実行します。
+     * チャンクの行を {@code FOR UPDATE} で読み、そのIDを指定して1文で更新・削除します。
+     * 文の数はチャンクごとに2つで、トランザクション数は表全体のIDの幅ではなく、一致する件数 / chunkSize です。
+     */
+    private BulkResult executeByKeyset(Long ownerId, TodoFilter filter, Function<List<Long>, Integer> statement,
+                                       Function<List<Long>, TodoChangeEvent> event) {
+        BulkResult result = new BulkResult();
+        boolean succeeded = false;
+        try {
+            Long afterId = null;
+            while (true) {
+                Long seekFrom = afterId;
+                List<Long> affected = transactionTemplate.execute(status -> {
+                    List<Long> chunk = todoMapper.selectIdsByFilterForUpdate(filter, seekFrom, chunkSize);
+                    if (!chunk.isEmpty()) {
+                        statement.apply(chunk);
+                    }
+                    return chunk;
+                });
+                if (affected == null || affected.isEmpty()) {
+                    break;
+                }
+                result.addChunk(affected.size());
+                committed(ownerId, affected, event);
+                if (affected.size() < chunkSize) {
+                    break;
+                }
+                // By id, not by filter: rows the update moved out of the filter are not revisited or skipped.
+                afterId = affected.get(affected.size() - 1);
+            }
+            succeeded = true;
+            return result;
+        } finally {
+            if (!succeeded) {
+                eventPublisher.publishEvent(TodoChangeEvent.invalidated(ownerId));
+            }
+        }
+    }
+
+    /**
+     * コミットした行のキャッシュを破棄し、そのIDだけを通知します（監査ログは通知したIDごとに記録します）。
+     */
+    private void committed(Long ownerId, List<Long> affected, Function<List<Long>, TodoChangeEvent> event) {
+        if (!affected.isEmpty()) {
+            todoCache.onWritten(ownerId, affected);
+            eventPublisher.publishEvent(event.apply(affected));
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.example.todo.service;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.todo.entity.Todo;
+
+/**
+ * ToDoの読み取り結果のキャッシュ。
+ *
+ * <p>ID指定の1件（{@value #TODOS}）と、一覧・期限切れ一覧のページ（{@value #PAGES}）を保持します。
+ * キャッシュの実装は Spring の {@link CacheManager} で切り替えられ、既定はプロセス内のCaffeineです。</p>
+ *
+ * <p>書き込み時は、IDが分かる場合はその1件を、分からない場合は1件キャッシュ全体を破棄します。
+ * ページのキーには所有者と {@link TodoChangeStamp#version(Long)} を含めるため、書き込むとその所有者のページだけが
+ * 参照されなくなります（古いエントリは有効期限や容量で追い出されます）。ほかの所有者のページは破棄しません。
+ * 他ノードでの書き込みは検知できないため、有効期限（{@code todo.cache.*.ttl}）までの古い表示を許容します。
+ * 版はノードごとの値で起動のたびに0から数え直すため、ページのキーにはノードの識別子（{@link TodoChangeStamp#nodeId()}）も
+ * 含めます。Redisなどの共有キャッシュでも、ページは各ノードが自分で読み込んだものだけを使います。</p>
+ *
+ * <p>トランザクション内の書き込みでは、破棄と版の更新をコミット後にもう一度行います。
+ * コミット前に別のリクエストがキャッシュにない行を読み込むと、コミット前の内容を保持してしまうためです。</p>
+ *
+ * <p>1件キャッシュはIDだけをキーにするため、取得時に所有者を照合し、ほかの所有者のToDoは存在しないものとして扱います。</p>
+ *
+ * <p>キャッシュした {@link Todo} は複数リクエストで共有されるため、呼び出し側で変更しないでください。</p>
+ *
+ * @since 1.1
+ */
+@Component
+public class TodoCache {
+
+    /** ID指定の1件のキャッシュ名。 */
+    public static final String TODOS = "todos";
+
+    /** 一覧ページのキャッシュ名。 */
+    public static final String PAGES = "todoPages";
+
+    private final Cache todos;
+    private final Cache pages;
+    private final TodoChangeStamp changeStamp;
+
+    public TodoCache(CacheManager cacheManager, TodoChangeStamp changeStamp) {
+        this.todos = cacheManager.getCache(TODOS);
+        this.pages = cacheManager.getCache(PAGES);
+        this.changeStamp = changeStamp;
+    }
+
+    /**
+     * ID指定の1件を取得します。キャッシュにない場合は読み込んで保持します（存在しない場合は保持しません）。
+     *
+     * @param ownerId 所有者ID
+     * @param id ToDoのID
+     * @param loader キャッシュにない場合の読み込み（所有者で絞り込むこと）
+     * @return ToDo。存在しないか、ほかの所有者のToDoの場合は {@code null}
+     */
+    public Todo getTodo(Long ownerId, Long id, Supplier<Todo> loader) {
+        Todo cached = todos.get(id, Todo.class);
+        if (cached != null) {
+            return Objects.equals(cached.getOwnerId(), ownerId) ? cached : null;
+        }
+        Todo loaded = loader.get();
+        if (loaded != null) {
+            todos.put(id, copyOf(loaded));
+        }
+        return loaded;
+    }
+
+    /**
+     * キャッシュ済みの1件を返します。キャッシュにない場合も読み込みません。
+     *
+     * @param ownerId 所有者ID
+     * @param id ToDoのID
+     * @return キャッシュ済みのToDo。ないか、ほかの所有者のToDoの場合は {@code null}
+     */
+    public Todo peek(Long ownerId, Long id) {
+        Todo cached = todos.get(id, Todo.class);
+        return cached != null && Objects.equals(cached.getOwnerId(), ownerId) ? cached : null;
+    }
+
+    /**
+     * 一覧ページを取得します。キャッシュにない場合は読み込んで保持します。
+     *
+     * @param ownerId 所有者ID
+     * @param key {@link #pageKey} で作成したキー
+     * @param pageable ページ情報
+     * @param loader キャッシュにない場合の読み込み
+     * @return ページ
+     */
+    public Page<Todo> getPage(Long ownerId, String key, Pageable pageable, Supplier<Page<Todo>> loader) {
+        String versionedKey = changeStamp.nodeId() + ":" + ownerId + "@" + changeStamp.version(ownerId) + "|" + key;
+        CachedPage cached = pages.get(versionedKey, CachedPage.class);
+        if (cached != null) {
+            return new PageImpl<>(cached.content(), pageable, cached.total());
+        }
+        Page<Todo> loaded = loader.get();
+        pages.put(versionedKey, new CachedPage(new ArrayList<>(loaded.getContent()), loaded.getTotalElements()));
+        return loaded;
+    }
+
+    /**
+     * 一覧ページのキーを作成します。
+     *
+     * @param overdueDate 期限切れ一覧の基準日（全件一覧はnull）
+     * @param archived アーカイブ済みのToDoを含む一覧か
+     * @param sortColumn ソート列（DB列名）
+     * @param sortDir ソート方向
+     * @param pageable ページ情報
+     * @param cursor カーソル（任意）
+     * @return キー
+     */
+    public static String pageKey(LocalDate overdueDate, boolean archived, String sortColumn, String sortDir,
+                                 Pageable pageable, String cursor) {
+        return (overdueDate == null ? "all" : "overdue:" + overdueDate) + (archived ? "+archived" : "")
+                + "|" + sortColumn + "|" + sortDir
+                + "|" + pageable.getPageNumber() + "|" + pageable.getPageSize()
+                + "|" + (cursor == null ? "" : cursor);
+    }
+
+    /**
+     * 1件の書き込みを反映します。
+     *
+     * @param ownerId 所有者ID
+     * @param id 書き込んだToDoのID
+     */
+    public void onWritten(Long ownerId, Long id) {
+        nowAndAfterCommit(() -> {
+            todos.evict(id);
+            changeStamp.touch(ownerId);
+        });
+    }
+
+    /**
+     * 複数件の書き込みを反映します。
+     *
+     * @param ownerId 所有者ID
+     * @param ids 書き込んだToDoのID
+     */
+    public void onWritten(Long ownerId, Collection<Long> ids) {
+        List<Long> written = new ArrayList<>(ids);
+        nowAndAfterCommit(() -> {
+            written.forEach(todos::evict);
+            changeStamp.touch(ownerId);
+        });
+    }
+
+    /**
+     * 既存のToDoに影響しない追加（新規作成・インポート）を反映します。
+     *
+     * @param ownerId 所有者ID
+     */
+    public void onCreated(Long ownerId) {
+        nowAndAfterCommit(() -> changeStamp.touch(ownerId));
+    }
+
+    /**
+     * 全所有者に及ぶ書き込み（期限区分の日次更新）を反映します。
+     */
+    public void onAllWritten() {
+        nowAndAfterCommit(() -> {
+            todos.clear();
+            pages.clear();
+            changeStamp.touchAll();
+        });
+    }
+
+    /**
+     * 破棄をすぐに行い、トランザクション中であればコミット後にも行います。
+     */
+    private static void nowAndAfterCommit(Runnable invalidation) {
+        invalidation.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidation.run();
+                }
+            });
+        }
+    }
+
+    /**
+     * 永続化コンテキストから切り離したコピーを作成します。
+     */
+    private static Todo copyOf(Todo todo) {
+        return Todo.builder()
+                .id(todo.getId())
+                .ownerId(todo.getOwnerId())
+                .title(todo.getTitle())
+                .author(todo.getAuthor())
+                .description(todo.getDescription())
+                .dueDate(todo.getDueDate())
+                .priority(todo.getPriority())
+                .completed(todo.getCompleted())
+                .createdAt(todo.getCreatedAt())
+                .updatedAt(todo.getUpdatedAt())
+                .version(todo.getVersion())
+                .deadlineStatus(todo.getDeadlineStatus())
+                .archived(todo.isArchived())
+                .build();
+    }
+
+    /**
+     * キャッシュするページの内容。分散キャッシュでも直列化できるよう、{@link PageImpl} ではなく内容と件数を保持します。
+     *
+     * @param content ページの内容
+     * @param total 全件数
+     */
+    record CachedPage(ArrayList<Todo> content, long total) implements Serializable {
+    }
+}
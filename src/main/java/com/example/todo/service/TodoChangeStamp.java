@@ -0,0 +1,113 @@
+package com.example.todo.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 所有者ごとのToDoの変更スタンプ。一覧・エクスポートのETag / Last-Modifiedと、一覧キャッシュのキーに使用します。
+ *
+ * <p>このノードでの書き込みのたびに {@link TodoCache} から {@link #touch(Long)} され、その所有者のリビジョンが進みます。
+ * 全所有者に及ぶ書き込み（期限区分の日次更新）は {@link #touchAll()} で全体の世代を進めます。
+ * 他ノードでの書き込みは検知できないため、一覧キャッシュの有効期限（{@code todo.cache.pages.ttl}）ごとに
+ * スタンプを切り替えます。これにより、他ノードの変更もキャッシュと同じ遅れで304から外れます。
+ * リビジョンは起動ごとに初期化されるため、起動時刻も含めます。</p>
+ *
+ * @since 1.1
+ */
+@Component
+public class TodoChangeStamp {
+
+    private final long startedAt = System.currentTimeMillis();
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<Long, Revision> revisions = new ConcurrentHashMap<>();
+    private final AtomicLong epoch = new AtomicLong();
+    private final long staleWindowMillis;
+
+    /** 全所有者に及ぶ書き込みの最終時刻（エポックミリ秒）。 */
+    private volatile long lastWrittenAt = startedAt;
+
+    public TodoChangeStamp(@Value("${todo.cache.pages.ttl:30s}") Duration staleWindow) {
+        this.staleWindowMillis = Math.max(1000L, staleWindow.toMillis());
+    }
+
+    /**
+     * 所有者の書き込みを記録します。
+     *
+     * @param ownerId 所有者ID
+     */
+    public void touch(Long ownerId) {
+        revisions.computeIfAbsent(ownerId, id -> new Revision()).touch();
+    }
+
+    /**
+     * 全所有者に及ぶ書き込みを記録します。
+     */
+    public void touchAll() {
+        epoch.incrementAndGet();
+        lastWrittenAt = System.currentTimeMillis();
+    }
+
+    /**
+     * このノード（プロセス）の識別子を返します。起動ごとに変わります。
+     * 版はノード内でのみ意味を持つため、共有キャッシュのキーでは版と組み合わせて使用します。
+     *
+     * @return 識別子
+     */
+    public String nodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 所有者のデータの版を返します。このノードで書き込むと値が変わります（一覧キャッシュのキー用）。
+     *
+     * @param ownerId 所有者ID
+     * @return 全体の世代と所有者のリビジョンを連結した文字列
+     */
+    public String version(Long ownerId) {
+        Revision revision = revisions.get(ownerId);
+        return epoch.get() + "." + (revision == null ? 0 : revision.count.get());
+    }
+
+    /**
+     * 所有者の現在のスタンプを返します。書き込みがあるか切り替え時刻を過ぎると値が変わります。
+     *
+     * @param ownerId 所有者ID
+     * @return 起動時刻・版・切り替え時刻を連結した文字列
+     */
+    public String token(Long ownerId) {
+        return startedAt + "-" + version(ownerId) + "-" + currentWindowStart();
+    }
+
+    /**
+     * 所有者の一覧の最終更新時刻を返します。
+     *
+     * @param ownerId 所有者ID
+     * @return 最後の書き込みと現在の切り替え時刻のうち新しい方（エポックミリ秒）
+     */
+    public long getLastModified(Long ownerId) {
+        Revision revision = revisions.get(ownerId);
+        long written = Math.max(lastWrittenAt, revision == null ? startedAt : revision.writtenAt);
+        return Math.max(written, currentWindowStart());
+    }
+
+    private long currentWindowStart() {
+        long now = System.currentTimeMillis();
+        return now - now % staleWindowMillis;
+    }
+
+    private static final class Revision {
+        private final AtomicLong count = new AtomicLong();
+        private volatile long writtenAt;
+
+        private void touch() {
+            count.incrementAndGet();
+            writtenAt = System.currentTimeMillis();
+        }
+    }
+}
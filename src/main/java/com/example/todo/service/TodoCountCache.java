@@ -0,0 +1,296 @@
+package com.example.todo.service;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.todo.entity.DeadlineStatus;
+import com.example.todo.entity.Todo;
+import com.example.todo.mapper.TodoMapper;
+
+/**
+ * 一覧画面の総件数を所有者ごとに保持するカウンタ。
+ *
+ * <p>一覧表示のたびに {@code COUNT(*)} を実行しないよう、{@link TodoService} の書き込みに合わせて
+ * 件数を増減させます。件数は所有者の行だけを数えるため、集計の費用は表全体ではなく所有者の件数に比例します。
+ * 他ノードからの更新や取りこぼしによるずれは、定期的な再集計（参照された所有者の破棄）で補正します。</p>
+ *
+ * <p>期限区分（{@link DeadlineStatus}）ごとの件数も保持します。区分は日付の切り替わりで一斉に変わるため、
+ * {@link TodoDeadlineService} の更新後は {@link #onDeadlineRefreshed()} で再集計します。
+ * メトリクス用に全所有者の区分ごとの件数（{@link #countAllByDeadline()}）も保持します。</p>
+ *
+ * <p>アーカイブ済みの件数（{@link #countArchived(Long)}）は、アーカイブを含む一覧の総件数に使用します。
+ * アーカイブへの移動は {@link TodoArchiveService} だけが行い、{@link #onArchived(Long, int)} で反映します。</p>
+ *
+ * @since 1.1
+ */
+@Component
+public class TodoCountCache {
+
+    private static final long UNKNOWN = -1L;
+
+    private final TodoMapper todoMapper;
+
+    /** 所有者ごとの件数（参照時に集計）。 */
+    private final Map<Long, Counts> owners = new ConcurrentHashMap<>();
+
+    /** 全所有者の期限区分ごとの件数（メトリクス用、未集計の場合はnull）。 */
+    private final AtomicReference<Map<DeadlineStatus, AtomicLong>> allDeadlineCounts = new AtomicReference<>();
+
+    public TodoCountCache(TodoMapper todoMapper) {
+        this.todoMapper = todoMapper;
+    }
+
+    /**
+     * 所有者の全件数を取得します。
+     *
+     * @param ownerId 所有者ID
+     * @return 全件数
+     */
+    public long countAll(Long ownerId) {
+        Counts counts = counts(ownerId);
+        long current = counts.total.get();
+        if (current != UNKNOWN) {
+            return current;
+        }
+        counts.total.compareAndSet(UNKNOWN, todoMapper.countAll(ownerId));
+        return counts.total.get();
+    }
+
+    /**
+     * 所有者のアーカイブ済みの件数を取得します。
+     *
+     * @param ownerId 所有者ID
+     * @return アーカイブ済みの件数
+     */
+    public long countArchived(Long ownerId) {
+        Counts counts = counts(ownerId);
+        long current = counts.archived.get();
+        if (current != UNKNOWN) {
+            return current;
+        }
+        counts.archived.compareAndSet(UNKNOWN, todoMapper.countArchived(ownerId));
+        return counts.archived.get();
+    }
+
+    /**
+     * 所有者の期限切れ件数を取得します。
+     *
+     * @param ownerId 所有者ID
+     * @param date 基準日（この日付以前が対象）
+     * @return 期限切れ件数
+     */
+    public long countOverdue(Long ownerId, LocalDate date) {
+        Counts counts = counts(ownerId);
+        OverdueCount current = counts.overdue.get();
+        if (current != null && current.date.equals(date)) {
+            return current.count.get();
+        }
+        OverdueCount loaded = new OverdueCount(date, todoMapper.countOverdue(ownerId, date, false));
+        counts.overdue.set(loaded);
+        return loaded.count.get();
+    }
+
+    /**
+     * 所有者の期限区分ごとの件数を取得します。
+     *
+     * @param ownerId 所有者ID
+     * @return 区分ごとの件数（該当がない区分は0）
+     */
+    public Map<DeadlineStatus, Long> countByDeadline(Long ownerId) {
+        return deadlineSnapshot(counts(ownerId).deadline, ownerId);
+    }
+
+    /**
+     * 全所有者の期限区分ごとの件数を取得します（メトリクス用）。
+     *
+     * @return 区分ごとの件数（該当がない区分は0）
+     */
+    public Map<DeadlineStatus, Long> countAllByDeadline() {
+        return deadlineSnapshot(allDeadlineCounts, null);
+    }
+
+    /**
+     * 作成されたToDoを件数へ反映します。
+     *
+     * @param created 作成されたToDo
+     */
+    public void onCreated(Todo created) {
+        Counts counts = counts(created.getOwnerId());
+        increment(counts.total, 1);
+        OverdueCount current = counts.overdue.get();
+        if (current != null && isOverdueOn(created, current.date)) {
+            current.count.incrementAndGet();
+        }
+        incrementDeadline(counts.deadline, created, 1);
+        incrementDeadline(allDeadlineCounts, created, 1);
+    }
+
+    /**
+     * 削除されたToDoを件数へ反映します。
+     *
+     * @param deleted 削除されたToDo
+     */
+    public void onDeleted(Todo deleted) {
+        Counts counts = counts(deleted.getOwnerId());
+        increment(counts.total, -1);
+        OverdueCount current = counts.overdue.get();
+        if (current != null && isOverdueOn(deleted, current.date)) {
+            current.count.decrementAndGet();
+        }
+        incrementDeadline(counts.deadline, deleted, -1);
+        incrementDeadline(allDeadlineCounts, deleted, -1);
+    }
+
+    /**
+     * 内容が分からない一括削除を件数へ反映します。期限切れ件数は次回参照時に再集計します。
+     *
+     * @param ownerId 所有者ID
+     * @param deletedCount 削除件数
+     */
+    public void onBulkDeleted(Long ownerId, int deletedCount) {
+        Counts counts = counts(ownerId);
+        increment(counts.total, -deletedCount);
+        counts.resetDeadline();
+        allDeadlineCounts.set(null);
+    }
+
+    /**
+     * 内容を保持しない一括登録を件数へ反映します。期限切れ件数は次回参照時に再集計します。
+     *
+     * @param ownerId 所有者ID
+     * @param createdCount 登録件数
+     */
+    public void onBulkCreated(Long ownerId, long createdCount) {
+        if (createdCount == 0) {
+            return;
+        }
+        Counts counts = counts(ownerId);
+        increment(counts.total, createdCount);
+        counts.resetDeadline();
+        allDeadlineCounts.set(null);
+    }
+
+    /**
+     * 期限日が変わった可能性がある更新を反映します。期限切れ件数は次回参照時に再集計します。
+     *
+     * @param ownerId 所有者ID
+     */
+    public void onDueDateChanged(Long ownerId) {
+        counts(ownerId).resetDeadline();
+        allDeadlineCounts.set(null);
+    }
+
+    /**
+     * アーカイブへ移したToDoを件数へ反映します。期限切れ件数は次回参照時に再集計します。
+     *
+     * @param ownerId 所有者ID
+     * @param archivedCount 移した件数
+     */
+    public void onArchived(Long ownerId, int archivedCount) {
+        Counts counts = counts(ownerId);
+        increment(counts.total, -archivedCount);
+        increment(counts.archived, archivedCount);
+        counts.resetDeadline();
+        allDeadlineCounts.set(null);
+    }
+
+    /**
+     * 日付の切り替わりで期限区分が更新されたことを反映します。件数は次回参照時に再集計します。
+     */
+    public void onDeadlineRefreshed() {
+        owners.values().forEach(Counts::resetDeadline);
+        allDeadlineCounts.set(null);
+    }
+
+    /**
+     * 件数をDBの値で補正します。所有者ごとの件数は破棄し、次回参照時に再集計します。
+     */
+    @Scheduled(fixedDelayString = "${todo.count.reconcile-interval-ms:60000}",
+               initialDelayString = "${todo.count.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        owners.clear();
+        Map<DeadlineStatus, AtomicLong> counts = allDeadlineCounts.get();
+        if (counts != null) {
+            allDeadlineCounts.compareAndSet(counts, loadDeadlineCounts(null));
+        }
+    }
+
+    private Counts counts(Long ownerId) {
+        return owners.computeIfAbsent(ownerId, id -> new Counts());
+    }
+
+    private Map<DeadlineStatus, Long> deadlineSnapshot(AtomicReference<Map<DeadlineStatus, AtomicLong>> ref,
+                                                       Long ownerId) {
+        Map<DeadlineStatus, AtomicLong> current = ref.get();
+        if (current == null) {
+            ref.compareAndSet(null, loadDeadlineCounts(ownerId));
+            current = ref.get();
+        }
+        Map<DeadlineStatus, Long> snapshot = new EnumMap<>(DeadlineStatus.class);
+        if (current != null) {
+            current.forEach((status, count) -> snapshot.put(status, count.get()));
+        }
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    private Map<DeadlineStatus, AtomicLong> loadDeadlineCounts(Long ownerId) {
+        Map<DeadlineStatus, AtomicLong> counts = new EnumMap<>(DeadlineStatus.class);
+        for (DeadlineStatus status : DeadlineStatus.values()) {
+            counts.put(status, new AtomicLong());
+        }
+        for (DeadlineCount row : todoMapper.countByDeadlineStatus(ownerId)) {
+            if (row.getStatus() != null) {
+                counts.get(row.getStatus()).set(row.getTotal());
+            }
+        }
+        return counts;
+    }
+
+    private void incrementDeadline(AtomicReference<Map<DeadlineStatus, AtomicLong>> ref, Todo todo, long delta) {
+        Map<DeadlineStatus, AtomicLong> counts = ref.get();
+        if (counts != null && todo != null && todo.getDeadlineStatus() != null) {
+            increment(counts.get(todo.getDeadlineStatus()), delta);
+        }
+    }
+
+    private void increment(AtomicLong counter, long delta) {
+        counter.getAndUpdate(value -> value == UNKNOWN ? UNKNOWN : Math.max(0, value + delta));
+    }
+
+    private boolean isOverdueOn(Todo todo, LocalDate date) {
+        return todo != null && todo.getDueDate() != null && !todo.getDueDate().isAfter(date);
+    }
+
+    /**
+     * 1所有者分の件数。
+     */
+    private static final class Counts {
+        private final AtomicLong total = new AtomicLong(UNKNOWN);
+        private final AtomicLong archived = new AtomicLong(UNKNOWN);
+        private final AtomicReference<OverdueCount> overdue = new AtomicReference<>();
+        private final AtomicReference<Map<DeadlineStatus, AtomicLong>> deadline = new AtomicReference<>();
+
+        private void resetDeadline() {
+            overdue.set(null);
+            deadline.set(null);
+        }
+    }
+
+    private static final class OverdueCount {
+        private final LocalDate date;
+        private final AtomicLong count;
+
+        private OverdueCount(LocalDate date, long count) {
+            this.date = date;
+            this.count = new AtomicLong(count);
+        }
+    }
+}
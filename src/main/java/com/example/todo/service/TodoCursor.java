@@ -0,0 +1,198 @@
+package com.example.todo.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.example.todo.entity.Todo;
+
+/**
+ * キーセット（シーク）方式ページングのカーソル。
+ *
+ * <p>直前に表示した行のソートキーと {@code id} を保持し、画面には不透明な文字列として渡します。
+ * 次ページは {@code (sort_col, id) > (?, ?)} の条件で取得するため、ページが深くなっても
+ * 読み飛ばす行が発生しません。</p>
+ *
+ * <p>カーソルは発行時のソート列・方向に紐づきます。ソート条件が変わった場合は
+ * {@link #matches(String, String)} が {@code false} を返し、呼び出し側はオフセット方式に戻ります。</p>
+ *
+ * @since 1.1
+ * @see TodoService#findPageByMyBatis(org.springframework.data.domain.Pageable, String, String, String)
+ */
+public final class TodoCursor {
+
+    private static final String SEPARATOR = "|";
+
+    /** ソート列（DB列名）。 */
+    private final String sortColumn;
+
+    /** ソート方向（ASC/DESC）。 */
+    private final String sortDir;
+
+    /** 次ページ方向ならtrue、前ページ方向ならfalse。 */
+    private final boolean forward;
+
+    /** 境界行のソートキー（NULLの場合あり）。 */
+    private final Object value;
+
+    /** 境界行のID。 */
+    private final Long id;
+
+    private TodoCursor(String sortColumn, String sortDir, boolean forward, Object value, Long id) {
+        this.sortColumn = sortColumn;
+        this.sortDir = sortDir;
+        this.forward = forward;
+        this.value = value;
+        this.id = id;
+    }
+
+    /**
+     * 指定行の次から読むカーソルを作成します。
+     *
+     * @param last 現在ページの最終行
+     * @param sortColumn ソート列（DB列名）
+     * @param sortDir ソート方向
+     * @return カーソル
+     */
+    public static TodoCursor after(Todo last, String sortColumn, String sortDir) {
+        return new TodoCursor(sortColumn, sortDir, true, sortValue(last, sortColumn), last.getId());
+    }
+
+    /**
+     * 指定した射影の次から読むカーソルを作成します。
+     *
+     * @param last 現在ページの最終行（ソート列を含むこと）
+     * @param sortColumn ソート列（DB列名）
+     * @param sortDir ソート方向
+     * @return カーソル
+     */
+    public static TodoCursor after(TodoView last, String sortColumn, String sortDir) {
+        return new TodoCursor(sortColumn, sortDir, true, last.sortValue(sortColumn), last.getId());
+    }
+
+    /**
+     * 指定行の手前を読むカーソルを作成します。
+     *
+     * @param first 現在ページの先頭行
+     * @param sortColumn ソート列（DB列名）
+     * @param sortDir ソート方向
+     * @return カーソル
+     */
+    public static TodoCursor before(Todo first, String sortColumn, String sortDir) {
+        return new TodoCursor(sortColumn, sortDir, false, sortValue(first, sortColumn), first.getId());
+    }
+
+    /**
+     * 画面から受け取った文字列をカーソルへ復元します。
+     *
+     * @param token エンコード済みカーソル
+     * @return カーソル。空または不正な値の場合は {@code null}
+     */
+    public static TodoCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, 5);
+            if (parts.length != 5) {
+                return null;
+            }
+            boolean forward = "n".equals(parts[0]);
+            String sortDir = parts[1];
+            String sortColumn = parts[2];
+            Long id = Long.valueOf(parts[3]);
+            Object value = parseValue(sortColumn, parts[4]);
+            return new TodoCursor(sortColumn, sortDir, forward, value, id);
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * 画面へ渡す文字列へエンコードします。
+     *
+     * @return URLセーフなBase64文字列
+     */
+    public String encode() {
+        String raw = (forward ? "n" : "p") + SEPARATOR
+                + sortDir + SEPARATOR
+                + sortColumn + SEPARATOR
+                + id + SEPARATOR
+                + (value == null ? "" : "v" + value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 現在のソート条件で発行されたカーソルか判定します。
+     *
+     * @param sortColumn ソート列（DB列名）
+     * @param sortDir ソート方向
+     * @return 一致する場合はtrue
+     */
+    public boolean matches(String sortColumn, String sortDir) {
+        return this.sortColumn.equals(sortColumn) && this.sortDir.equals(sortDir);
+    }
+
+    /**
+     * 実際に走査する方向が昇順か判定します（前ページ方向では表示順と逆になります）。
+     *
+     * @return 昇順で走査する場合はtrue
+     */
+    public boolean isScanAscending() {
+        return forward == "ASC".equals(sortDir);
+    }
+
+    public boolean isForward() {
+        return forward;
+    }
+
+    public Object getValue() {
+        return value;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    private static Object sortValue(Todo todo, String sortColumn) {
+        switch (sortColumn) {
+            case "title":
+                return todo.getTitle();
+            case "due_date":
+                return todo.getDueDate();
+            case "priority":
+                return todo.getPriority();
+            case "author":
+                return todo.getAuthor();
+            case "completed":
+                return todo.getCompleted();
+            default:
+                return todo.getCreatedAt();
+        }
+    }
+
+    private static Object parseValue(String sortColumn, String text) {
+        if (text.isEmpty()) {
+            return null;
+        }
+        String raw = text.substring(1);
+        switch (sortColumn) {
+            case "title":
+            case "author":
+                return raw;
+            case "due_date":
+                return LocalDate.parse(raw);
+            case "priority":
+                return Integer.valueOf(raw);
+            case "completed":
+                return Boolean.valueOf(raw);
+            case "created_at":
+                return LocalDateTime.parse(raw);
+            default:
+                throw new IllegalArgumentException("Unsupported sort column: " + sortColumn);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.todo.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.todo.datasource.DataSourceRoute;
+import com.example.todo.entity.DeadlineStatus;
+import com.example.todo.entity.Todo;
+import com.example.todo.event.DeadlineReminderEvent;
+import com.example.todo.mapper.TodoMapper;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 期限区分（{@code todos.deadline_status}）を日付の切り替わりに合わせて更新します。
+ *
+ * <p>区分は書き込み時にその日の日付で設定されるため、日付が変わったときに境界を越えた行だけを進めれば足ります。
+ * 区分は時間の経過で {@code LATER → DUE_SOON → OVERDUE} の方向にしか変わらないので、
+ * 対象は「区分 = X かつ期限日 &lt;= 境界日」の条件でインデックスから取り出せます。
+ * 基準日が変わったかは {@code todo.deadline.check-interval-ms} ごとに確認し、起動直後にも1回実行します。</p>
+ *
+ * <p>区分を進めた未完了のToDoについて、{@code todo.deadline.batch-size} 件ずつ
+ * {@link DeadlineReminderEvent} を発行します。複数ノードで動かす場合、リマインダーが重複しないよう
+ * 1ノード以外は {@code todo.deadline.reminders.enabled=false} にしてください
+ * （区分の更新は条件付きUPDATEのため、複数ノードで実行しても無害です）。</p>
+ *
+ * <p>区分の更新は所有者をまたいで行うため、対象の検索には {@code idx_todos_deadline}（区分が先頭列）を使用します。</p>
+ *
+ * <p>更新が済むまで（日付の切り替わり直後や起動直後）は、期限切れ一覧は期限日の比較で取得します
+ * （{@link #isRefreshed(LocalDate)}）。</p>
+ *
+ * @since 1.1
+ */
+@Service
+public class TodoDeadlineService {
+
+    private static final Logger log = LoggerFactory.getLogger(TodoDeadlineService.class);
+
+    private final TodoMapper todoMapper;
+    private final TodoCountCache todoCountCache;
+    private final TodoCache todoCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final boolean remindersEnabled;
+
+    /** 区分を更新済みの基準日（未更新の場合はnull）。 */
+    private volatile LocalDate refreshedDate;
+
+    public TodoDeadlineService(TodoMapper todoMapper,
+                               TodoCountCache todoCountCache,
+                               TodoCache todoCache,
+                               ApplicationEventPublisher eventPublisher,
+                               MeterRegistry meterRegistry,
+                               @Value("${todo.deadline.batch-size:500}") int batchSize,
+                               @Value("${todo.deadline.reminders.enabled:true}") boolean remindersEnabled) {
+        this.todoMapper = todoMapper;
+        this.todoCountCache = todoCountCache;
+        this.todoCache = todoCache;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.remindersEnabled = remindersEnabled;
+        for (DeadlineStatus status : DeadlineStatus.values()) {
+            Gauge.builder("todo.deadline.todos", todoCountCache, cache -> cache.countAllByDeadline().get(status))
+                    .description("Todos per deadline bucket")
+                    .tag("status", status.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 指定日の区分が更新済みか判定します。
+     *
+     * @param date 基準日
+     * @return 更新済みの場合はtrue（{@code deadline_status} で期限切れを判定できる）
+     */
+    public boolean isRefreshed(LocalDate date) {
+        return date != null && date.equals(refreshedDate);
+    }
+
+    /**
+     * 本日分の区分が未更新であれば更新します。
+     */
+    @Scheduled(fixedDelayString = "${todo.deadline.check-interval-ms:60000}")
+    public void refreshIfStale() {
+        LocalDate today = LocalDate.now();
+        if (!isRefreshed(today)) {
+            refresh(today);
+        }
+    }
+
+    /**
+     * 基準日に合わせて区分を更新し、リマインダーを発行します。
+     *
+     * @param today 基準日
+     * @return 区分を設定・変更した件数
+     */
+    public synchronized int refresh(LocalDate today) {
+        long started = System.currentTimeMillis();
+        LocalDate soonLimit = DeadlineStatus.soonLimit(today);
+        // Select the next batch from the primary; a lagging replica would return rows already advanced.
+        int filled = DataSourceRoute.onPrimary(() -> fillMissing(today, soonLimit));
+        int advanced = DataSourceRoute.onPrimary(() ->
+                advance(DeadlineStatus.DUE_SOON, DeadlineStatus.OVERDUE, today, today)
+                        + advance(DeadlineStatus.LATER, DeadlineStatus.OVERDUE, today, today)
+                        + advance(DeadlineStatus.LATER, DeadlineStatus.DUE_SOON, soonLimit, today));
+        if (filled + advanced > 0) {
+            todoCache.onAllWritten();
+            todoCountCache.onDeadlineRefreshed();
+        }
+        refreshedDate = today;
+        log.info("Deadline status refreshed for {}: {} filled, {} advanced in {} ms",
+                today, filled, advanced, System.currentTimeMillis() - started);
+        return filled + advanced;
+    }
+
+    /**
+     * 区分が未設定の行（移行直後や旧バージョンのノードが書き込んだ行）を設定します。
+     */
+    private int fillMissing(LocalDate today, LocalDate soonLimit) {
+        int filled = 0;
+        int updated;
+        do {
+            updated = todoMapper.fillDeadlineStatus(today, soonLimit, batchSize);
+            filled += updated;
+        } while (updated == batchSize);
+        return filled;
+    }
+
+    /**
+     * 期限日が境界日以前になった行の区分を進めます。
+     */
+    private int advance(DeadlineStatus from, DeadlineStatus to, LocalDate dueOnOrBefore, LocalDate today) {
+        int advanced = 0;
+        while (true) {
+            List<Todo> batch = todoMapper.selectDeadlineTransitions(from, dueOnOrBefore, batchSize);
+            if (batch.isEmpty()) {
+                return advanced;
+            }
+            List<Long> ids = batch.stream().map(Todo::getId).toList();
+            int updated = todoMapper.updateDeadlineStatus(ids, from, to, dueOnOrBefore);
+            advanced += updated;
+            if (updated > 0) {
+                remind(to, today, batch);
+            }
+            // Zero means another node took these rows; it also advances the rest.
+            if (updated == 0 || batch.size() < batchSize) {
+                return advanced;
+            }
+        }
+    }
+
+    private void remind(DeadlineStatus status, LocalDate today, List<Todo> batch) {
+        if (!remindersEnabled) {
+            return;
+        }
+        List<Todo> open = new ArrayList<>();
+        for (Todo todo : batch) {
+            if (!Boolean.TRUE.equals(todo.getCompleted())) {
+                todo.setDeadlineStatus(status);
+                open.add(todo);
+            }
+        }
+        if (open.isEmpty()) {
+            return;
+        }
+        eventPublisher.publishEvent(new DeadlineReminderEvent(status, today, open));
+        meterRegistry.counter("todo.deadline.reminders", "status", status.name()).increment(open.size());
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.todo.service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import com.example.todo.export.ExportFormat;
+import com.example.todo.export.ExportRange;
+import com.example.todo.form.TodoFilter;
+
+/**
+ * 件数の多いエクスポートをバックグラウンドで実行するサービス。
+ *
+ * <p>出力は一時ファイルへ書き出し、完了後にダウンロードできます。
+ * ジョブは依頼したユーザーのみ参照でき、保持期間を過ぎるとファイルごと削除されます。</p>
+ *
+ * @since 1.1
+ */
+@Service
+public class TodoExportJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(TodoExportJobService.class);
+
+    private final TodoExportService todoExportService;
+    private final ThreadPoolTaskExecutor jobExecutor;
+    private final long retentionMinutes;
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+
+    public TodoExportJobService(TodoExportService todoExportService,
+                                @Qualifier("exportJobExecutor") ThreadPoolTaskExecutor jobExecutor,
+                                @Value("${todo.export.job-retention-minutes:60}") long retentionMinutes) {
+        this.todoExportService = todoExportService;
+        this.jobExecutor = jobExecutor;
+        this.retentionMinutes = retentionMinutes;
+    }
+
+    /**
+     * エクスポートジョブを登録します。
+     *
+     * @param filter 絞り込み条件
+     * @param format 出力形式
+     * @param range 対象の件数とID範囲
+     * @param owner 依頼ユーザー名
+     * @return 登録したジョブ
+     * @throws TaskRejectedException 実行待ちが上限に達している場合
+     */
+    public ExportJob submit(TodoFilter filter, ExportFormat format, ExportRange range, String owner) {
+        Path file;
+        try {
+            file = Files.createTempFile("todo-export-", "." + format.getExtension());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        ExportJob job = new ExportJob(UUID.randomUUID().toString(), owner, format, range.getTotal(), file);
+        jobs.put(job.getId(), job);
+        try {
+            jobExecutor.execute(() -> run(job, filter, range));
+        } catch (TaskRejectedException ex) {
+            jobs.remove(job.getId());
+            deleteQuietly(file);
+            throw ex;
+        }
+        return job;
+    }
+
+    /**
+     * ジョブを取得します。
+     *
+     * @param id ジョブID
+     * @param owner 参照ユーザー名
+     * @return ジョブ。存在しない、または他ユーザーのジョブの場合は {@code null}
+     */
+    public ExportJob find(String id, String owner) {
+        ExportJob job = jobs.get(id);
+        if (job == null || !job.getOwner().equals(owner)) {
+            return null;
+        }
+        return job;
+    }
+
+    /**
+     * 保持期間を過ぎたジョブと出力ファイルを削除します。
+     */
+    @Scheduled(fixedDelayString = "${todo.export.job-purge-interval-ms:600000}")
+    public void purgeExpired() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(retentionMinutes);
+        jobs.values().removeIf(job -> {
+            if (!job.isFinished() || job.getFinishedAt().isAfter(threshold)) {
+                return false;
+            }
+            deleteQuietly(job.getFile());
+            return true;
+        });
+    }
+
+    private void run(ExportJob job, TodoFilter filter, ExportRange range) {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(job.getFile()))) {
+            todoExportService.export(filter, job.getFormat(), range, out, job::setWritten);
+            job.complete();
+        } catch (IOException | RuntimeException ex) {
+            log.error("Export job {} failed", job.getId(), ex);
+            job.fail();
+            deleteQuietly(job.getFile());
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            log.warn("Could not delete export file {}", file, ex);
+        }
+    }
+}
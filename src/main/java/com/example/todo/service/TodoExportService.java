@@ -0,0 +1,177 @@
+package com.example.todo.service;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.LongConsumer;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.todo.entity.Todo;
+import com.example.todo.export.ExportFormat;
+import com.example.todo.export.ExportRange;
+import com.example.todo.export.TodoExportWriter;
+import com.example.todo.form.TodoFilter;
+import com.example.todo.mapper.TodoMapper;
+import com.example.todo.security.CurrentOwner;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 絞り込み条件付きのエクスポートを提供するサービス。
+ *
+ * <p>ソート指定がある場合はその順、ない場合は件数にかかわらずID降順（登録の新しい順）で出力します。
+ * 読み出し方式は次の2通りです。</p>
+ * <ul>
+ *   <li>ソート指定あり、または件数が少ない場合: MyBatisの {@link Cursor} で1本のクエリを逐次読み出し</li>
+ *   <li>ソート指定なしで件数が多い場合: ID範囲ごとに並列で読み出し、範囲の降順に書き出し</li>
+ * </ul>
+ * <p>ID範囲は、条件に一致する行を {@code todo.export.chunk-size} 件ずつに区切った境界のIDから作ります。
+ * 所有者のIDが表全体に散らばっていても、範囲の数は所有者の件数 / chunk-size です。</p>
+ * <p>並列読み出しでも同時に保持するのは先読み中の範囲だけのため、メモリ使用量は件数に依存しません。</p>
+ * <p>対象はログインユーザーの所有者のToDoです。出力は別スレッド（エクスポートジョブ）でも行うため、
+ * 所有者はリクエストのスレッドで呼ぶ {@link #plan(TodoFilter)} が条件に設定します。</p>
+ *
+ * @since 1.1
+ */
+@Service
+public class TodoExportService {
+
+    private final TodoMapper todoMapper;
+    private final CurrentOwner currentOwner;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolTaskExecutor readExecutor;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int parallelism;
+    private final long chunkSize;
+    private final long parallelThreshold;
+
+    public TodoExportService(TodoMapper todoMapper,
+                             CurrentOwner currentOwner,
+                             ObjectMapper objectMapper,
+                             @Qualifier("exportReadExecutor") ThreadPoolTaskExecutor readExecutor,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${todo.export.parallelism:4}") int parallelism,
+                             @Value("${todo.export.chunk-size:20000}") long chunkSize,
+                             @Value("${todo.export.parallel-threshold:50000}") long parallelThreshold) {
+        this.todoMapper = todoMapper;
+        this.currentOwner = currentOwner;
+        this.objectMapper = objectMapper;
+        this.readExecutor = readExecutor;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * エクスポート対象の件数とID範囲を取得します。
+     *
+     * @param filter 絞り込み条件（ログインユーザーの所有者に限定します）
+     * @return 件数とID範囲
+     */
+    public ExportRange plan(TodoFilter filter) {
+        filter.scopeTo(currentOwner.getId());
+        return todoMapper.selectExportRange(filter);
+    }
+
+    /**
+     * 指定形式で出力します。
+     *
+     * @param filter {@link #plan(TodoFilter)} で所有者を設定した絞り込み条件
+     * @param format 出力形式
+     * @param range {@link #plan(TodoFilter)} の結果
+     * @param out 出力先（クローズしません）
+     * @param progress 出力済み件数の通知先
+     * @return 出力件数
+     * @throws IOException 書き込みに失敗した場合
+     * @throws IllegalStateException 所有者が設定されていない場合
+     */
+    public long export(TodoFilter filter, ExportFormat format, ExportRange range, OutputStream out,
+                       LongConsumer progress) throws IOException {
+        if (filter.getOwnerId() == null) {
+            throw new IllegalStateException("Export filter is not scoped to an owner");
+        }
+        TodoExportWriter writer = format.createWriter(out, objectMapper);
+        writer.writeHeader();
+        long written;
+        if (!filter.hasSort() && range.getTotal() >= parallelThreshold && range.getMinId() != null) {
+            written = exportByIdRanges(filter, range, writer, progress);
+        } else {
+            written = exportByCursor(filter, writer, progress);
+        }
+        writer.finish();
+        return written;
+    }
+
+    private long exportByCursor(TodoFilter filter, TodoExportWriter writer, LongConsumer progress) throws IOException {
+        // No sort: id DESC in the mapper, so small and large (id range) exports come out in the same order.
+        String sortColumn = filter.hasSort() ? TodoService.mapSortColumn(filter.getSort()) : null;
+        String sortDir = TodoService.mapSortDir(filter.getDir());
+        try {
+            Long written = readOnlyTransaction.execute(status -> {
+                long count = 0;
+                try (Cursor<Todo> cursor = todoMapper.selectForExport(filter, sortColumn, sortDir)) {
+                    for (Todo todo : cursor) {
+                        writer.write(todo);
+                        progress.accept(++count);
+                    }
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                return count;
+            });
+            return written == null ? 0 : written;
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private long exportByIdRanges(TodoFilter filter, ExportRange range, TodoExportWriter writer,
+                                  LongConsumer progress) throws IOException {
+        // Boundaries come from the matching rows themselves, so the number of ranges follows the owner's row count,
+        // not how widely the owner's ids are spread over the table.
+        List<Long> tops = todoMapper.selectExportChunkTops(filter, chunkSize);
+        long minId = range.getMinId();
+        long count = 0;
+        int next = 0;
+        Deque<Future<List<Todo>>> window = new ArrayDeque<>();
+        try {
+            while (next < tops.size() || !window.isEmpty()) {
+                while (window.size() < parallelism && next < tops.size()) {
+                    long to = tops.get(next);
+                    long from = next + 1 < tops.size() ? tops.get(next + 1) + 1 : Math.min(minId, to);
+                    window.add(readExecutor.submit(() -> todoMapper.selectForExportByIdRange(filter, from, to)));
+                    next++;
+                }
+                for (Todo todo : window.poll().get()) {
+                    writer.write(todo);
+                    progress.accept(++count);
+                }
+            }
+            return count;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Export interrupted");
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Export read failed", ex.getCause());
+        } finally {
+            window.forEach(future -> future.cancel(true));
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.todo.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * APIで選択できるToDoの項目と、対応するDB列。
+ *
+ * <p>{@code fields=} で指定された項目の列だけをSELECTするため、{@link #DESCRIPTION} を指定しなければ
+ * {@code description} 列は読み込まれません。列名はこの列挙の値だけをSQLへ埋め込みます。</p>
+ *
+ * @since 1.1
+ * @see TodoService#findViews(com.example.todo.form.TodoFilter, Set, String, String, String, int)
+ */
+public enum TodoField {
+
+    ID("id", "id"),
+    TITLE("title", "title"),
+    AUTHOR("author", "author"),
+    DESCRIPTION("description", "description"),
+    DUE_DATE("dueDate", "due_date"),
+    PRIORITY("priority", "priority"),
+    COMPLETED("completed", "completed"),
+    CREATED_AT("createdAt", "created_at"),
+    UPDATED_AT("updatedAt", "updated_at"),
+    VERSION("version", "version");
+
+    private final String property;
+    private final String column;
+
+    TodoField(String property, String column) {
+        this.property = property;
+        this.column = column;
+    }
+
+    /**
+     * JSONのプロパティ名を返します。
+     *
+     * @return プロパティ名
+     */
+    public String getProperty() {
+        return property;
+    }
+
+    /**
+     * DBの列名を返します。
+     *
+     * @return 列名
+     */
+    public String getColumn() {
+        return column;
+    }
+
+    /**
+     * カンマ区切りの項目名を解析します。
+     *
+     * @param fields 項目名（例: {@code id,title,dueDate}）。空の場合は全項目
+     * @return 項目の集合
+     * @throws IllegalArgumentException 不明な項目名が含まれる場合
+     */
+    public static Set<TodoField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return Collections.unmodifiableSet(EnumSet.allOf(TodoField.class));
+        }
+        EnumSet<TodoField> parsed = EnumSet.noneOf(TodoField.class);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            parsed.add(fromProperty(trimmed));
+        }
+        if (parsed.isEmpty()) {
+            return Collections.unmodifiableSet(EnumSet.allOf(TodoField.class));
+        }
+        return Collections.unmodifiableSet(parsed);
+    }
+
+    /**
+     * SELECTする列を返します。ページングに使う {@code id} とソート列は常に含めます。
+     *
+     * @param fields 選択された項目
+     * @param sortColumn ソート列（DB列名、不要な場合はnull）
+     * @return 列名の一覧
+     */
+    public static List<String> columns(Set<TodoField> fields, String sortColumn) {
+        List<String> columns = new ArrayList<>();
+        columns.add(ID.column);
+        for (TodoField field : fields) {
+            if (field != ID) {
+                columns.add(field.column);
+            }
+        }
+        if (sortColumn != null && !columns.contains(sortColumn)) {
+            columns.add(sortColumn);
+        }
+        return columns;
+    }
+
+    private static TodoField fromProperty(String property) {
+        for (TodoField field : values()) {
+            if (field.property.equals(property)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown field: " + property);
+    }
+}
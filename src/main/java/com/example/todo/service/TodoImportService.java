@@ -0,0 +1,159 @@
+package com.example.todo.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.LongConsumer;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import com.example.todo.entity.DeadlineStatus;
+import com.example.todo.entity.Todo;
+import com.example.todo.event.TodoChangeEvent;
+import com.example.todo.form.TodoForm;
+import com.example.todo.importer.ImportFormat;
+import com.example.todo.importer.ImportRow;
+import com.example.todo.importer.TodoImportReader;
+import com.example.todo.mapper.TodoMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * CSV/NDJSONファイルからToDoを一括登録するサービス。
+ *
+ * <p>ファイルは1件ずつ読み込み、{@link TodoForm.Import} グループの制約（期限日の過去日付は許可）で検証したうえで、
+ * {@code todo.import.batch-size} 件ごとに複数行INSERT（1文）で登録します。
+ * JPAの {@code IDENTITY} 採番ではINSERTをバッチ化できないため、登録はMyBatisで行います。</p>
+ *
+ * <p>不正な行は登録せず、行番号と理由を {@link ImportResult} に記録して処理を続けます。
+ * 登録済みのバッチは取り消しません。</p>
+ *
+ * @since 1.1
+ */
+@Service
+public class TodoImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(TodoImportService.class);
+
+    private final TodoMapper todoMapper;
+    private final TodoCountCache todoCountCache;
+    private final TodoCache todoCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int maxErrors;
+
+    public TodoImportService(TodoMapper todoMapper,
+                             TodoCountCache todoCountCache,
+                             TodoCache todoCache,
+                             ApplicationEventPublisher eventPublisher,
+                             Validator validator,
+                             ObjectMapper objectMapper,
+                             @Value("${todo.import.batch-size:1000}") int batchSize,
+                             @Value("${todo.import.max-errors:1000}") int maxErrors) {
+        this.todoMapper = todoMapper;
+        this.todoCountCache = todoCountCache;
+        this.todoCache = todoCache;
+        this.eventPublisher = eventPublisher;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.maxErrors = maxErrors;
+    }
+
+    /**
+     * ファイルを読み込んでToDoを登録します。
+     *
+     * @param ownerId 登録するToDoの所有者ID
+     * @param in 入力元（呼び出し側で閉じます）
+     * @param format 形式
+     * @param progress 登録済み件数の通知先（バッチ登録ごとに呼び出します）
+     * @return 処理結果
+     * @throws IOException 読み込みに失敗した場合
+     * @throws IllegalArgumentException 見出しがないなど、ファイル全体が読めない場合
+     */
+    public ImportResult importTodos(Long ownerId, InputStream in, ImportFormat format, LongConsumer progress)
+            throws IOException {
+        ImportResult result = new ImportResult(maxErrors);
+        long started = System.nanoTime();
+        List<Todo> buffer = new ArrayList<>(batchSize);
+        try {
+            TodoImportReader reader = format.createReader(in, objectMapper);
+            ImportRow row;
+            while ((row = reader.next()) != null) {
+                result.addRead();
+                String error = validate(row);
+                if (error != null) {
+                    result.addError(row.getLine(), error);
+                    continue;
+                }
+                buffer.add(toTodo(ownerId, row));
+                if (buffer.size() >= batchSize) {
+                    flush(buffer, result, progress);
+                }
+            }
+            flush(buffer, result, progress);
+        } finally {
+            result.setElapsedMillis((System.nanoTime() - started) / 1_000_000);
+            todoCountCache.onBulkCreated(ownerId, result.getImported());
+            if (result.getImported() > 0) {
+                todoCache.onCreated(ownerId);
+                eventPublisher.publishEvent(TodoChangeEvent.invalidated(ownerId));
+            }
+        }
+        log.info("Imported {} of {} todos ({} errors) in {} ms",
+                result.getImported(), result.getRead(), result.getErrorCount(), result.getElapsedMillis());
+        return result;
+    }
+
+    private String validate(ImportRow row) {
+        if (row.getError() != null) {
+            return row.getError();
+        }
+        Set<ConstraintViolation<TodoForm>> violations = validator.validate(row.getForm(), TodoForm.Import.class);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(" "));
+    }
+
+    private Todo toTodo(Long ownerId, ImportRow row) {
+        TodoForm form = row.getForm();
+        LocalDateTime now = LocalDateTime.now();
+        Todo todo = new Todo();
+        todo.setOwnerId(ownerId);
+        todo.setAuthor(form.getAuthor());
+        todo.setTitle(form.getTitle());
+        todo.setDescription(form.getDescription());
+        todo.setDueDate(form.getDueDate());
+        todo.setDeadlineStatus(DeadlineStatus.of(form.getDueDate(), now.toLocalDate()));
+        todo.setPriority(form.getPriority());
+        todo.setCompleted(Boolean.TRUE.equals(row.getCompleted()));
+        todo.setCreatedAt(row.getCreatedAt() == null ? now : row.getCreatedAt());
+        todo.setUpdatedAt(now);
+        return todo;
+    }
+
+    private void flush(List<Todo> buffer, ImportResult result, LongConsumer progress) {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        result.addImported(todoMapper.insertBatch(buffer));
+        buffer.clear();
+        progress.accept(result.getImported());
+    }
+}
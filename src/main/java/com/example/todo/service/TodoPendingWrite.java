@@ -0,0 +1,153 @@
+package com.example.todo.service;
+
+import java.time.LocalDateTime;
+
+import com.example.todo.entity.DeadlineStatus;
+import com.example.todo.form.TodoForm;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.persistence.OptimisticLockException;
+
+/**
+ * 書き込み遅延（{@link TodoWriteBehind}）で保留中の1行分の変更。
+ *
+ * <p>同じ行への変更は {@link #merge(TodoPendingWrite)} で1つにまとめ、1回のUPDATEで反映します。
+ * 完了状態は切り替え後の値（絶対値）で保持するため、まとめても結果は順に適用した場合と同じです。
+ * ジャーナルには受け付けた変更をまとめる前の形で1行ずつ記録します。</p>
+ *
+ * <p>各変更は、要求が前提としたバージョン（{@link #expectedVersion}）を持ちます。まとめた変更は最初の変更の前提を引き継ぎ、
+ * 反映時のUPDATEはそのバージョンの行だけを更新します（楽観的ロック）。後の変更は、前の変更を反映した後の
+ * バージョン（前提 + {@link #writes}）を前提にしている場合だけまとめられます。</p>
+ *
+ * @since 1.1
+ */
+@Data
+@NoArgsConstructor
+public class TodoPendingWrite {
+
+    /** 所有者ID。 */
+    private Long ownerId;
+
+    /** ToDoのID。 */
+    private Long id;
+
+    /** 変更後の完了状態（変更しない場合はnull）。 */
+    private Boolean completed;
+
+    /** 変更後の項目（編集しない場合はnull、バージョンは使用しません）。 */
+    private TodoForm form;
+
+    /** 要求が前提としたバージョン（必須）。反映時にこのバージョンの行だけを更新します。 */
+    private Long expectedVersion;
+
+    /** 最後に受け付けた変更の日時。 */
+    private LocalDateTime updatedAt;
+
+    /** 最後に変更したユーザー名（監査ログ用）。 */
+    private String actor;
+
+    /** まとめた変更の数（バージョンの増分）。 */
+    private int writes = 1;
+
+    /** 反映を試みた回数。 */
+    @JsonIgnore
+    private int attempts;
+
+    /** 反映時に設定する期限区分（{@link #form} がある場合のみ）。 */
+    @JsonIgnore
+    private DeadlineStatus deadlineStatus;
+
+    /**
+     * 完了状態の変更を作成します。
+     *
+     * @param ownerId 所有者ID
+     * @param id ToDoのID
+     * @param completed 変更後の完了状態
+     * @param expectedVersion 要求が前提としたバージョン
+     * @param updatedAt 変更日時
+     * @return 保留中の変更
+     */
+    public static TodoPendingWrite completed(Long ownerId, Long id, boolean completed, Long expectedVersion,
+                                             LocalDateTime updatedAt) {
+        TodoPendingWrite write = new TodoPendingWrite();
+        write.ownerId = ownerId;
+        write.id = id;
+        write.completed = completed;
+        write.expectedVersion = expectedVersion;
+        write.updatedAt = updatedAt;
+        return write;
+    }
+
+    /**
+     * 項目の編集を作成します。フォームは複製して保持し、フォームのバージョンを前提のバージョンにします。
+     *
+     * @param ownerId 所有者ID
+     * @param id ToDoのID
+     * @param form 入力フォーム（バージョン必須）
+     * @param updatedAt 変更日時
+     * @return 保留中の変更
+     */
+    public static TodoPendingWrite edited(Long ownerId, Long id, TodoForm form, LocalDateTime updatedAt) {
+        TodoForm copy = new TodoForm();
+        copy.setTitle(form.getTitle());
+        copy.setDescription(form.getDescription());
+        copy.setAuthor(form.getAuthor());
+        copy.setDueDate(form.getDueDate());
+        copy.setPriority(form.getPriority());
+        TodoPendingWrite write = new TodoPendingWrite();
+        write.ownerId = ownerId;
+        write.id = id;
+        write.form = copy;
+        write.expectedVersion = form.getVersion();
+        write.updatedAt = updatedAt;
+        return write;
+    }
+
+    /**
+     * 後から受け付けた変更を重ねた変更を返します。このインスタンスは変更しません。
+     * まとめた変更の前提のバージョンは、このインスタンス（先の変更）のものです。
+     *
+     * @param later 後の変更（同じ所有者・ID）
+     * @return まとめた変更
+     * @throws OptimisticLockException 後の変更が、この変更を反映した後のバージョンを前提にしていない場合
+     */
+    public TodoPendingWrite merge(TodoPendingWrite later) {
+        if (later.expectedVersion.longValue() != expectedVersion + writes) {
+            throw new OptimisticLockException("Todo was updated by another request");
+        }
+        TodoPendingWrite merged = new TodoPendingWrite();
+        merged.ownerId = ownerId;
+        merged.id = id;
+        merged.expectedVersion = expectedVersion;
+        merged.completed = later.completed != null ? later.completed : completed;
+        merged.form = later.form != null ? later.form : form;
+        merged.updatedAt = later.updatedAt;
+        merged.actor = later.actor;
+        merged.writes = writes + later.writes;
+        merged.attempts = Math.max(attempts, later.attempts);
+        return merged;
+    }
+
+    /**
+     * 反映後のバージョンを返します。
+     *
+     * @return 前提のバージョン + まとめた変更の数
+     */
+    @JsonIgnore
+    public Long getResultingVersion() {
+        return expectedVersion + writes;
+    }
+
+    /**
+     * 項目の編集を含むか判定します。
+     *
+     * @return 項目の編集を含む場合はtrue
+     */
+    public boolean hasForm() {
+        return form != null;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.todo.service;
+
+import com.example.todo.entity.Todo;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 全文検索の1件分の結果。
+ *
+ * @since 1.1
+ * @see TodoService#search(String, org.springframework.data.domain.Pageable)
+ */
+@Data
+@NoArgsConstructor
+public class TodoSearchHit {
+
+    /** 該当したToDo。 */
+    private Todo todo;
+
+    /** 関連度スコア（大きいほど上位）。 */
+    private Double score;
+
+    /** 検索語を {@code <mark>} で囲んだタイトル（HTMLエスケープ済み）。 */
+    private String titleHtml;
+
+    /** 検索語を {@code <mark>} で囲んだ説明（HTMLエスケープ済み）。 */
+    private String descriptionHtml;
+}
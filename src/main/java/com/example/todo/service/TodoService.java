@@ -1,24 +1,37 @@
 package com.example.todo.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
-import org.springframework.data.domain.Sort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import com.example.todo.entity.DeadlineStatus;
 import com.example.todo.entity.Todo;
+import com.example.todo.event.TodoChangeEvent;
+import com.example.todo.form.TodoFilter;
 import com.example.todo.form.TodoForm;
 import com.example.todo.mapper.TodoMapper;
 import com.example.todo.repository.TodoRepository;
+import com.example.todo.security.CurrentOwner;
 
 /**
  * ToDoのビジネスロジックを提供するサービス。
  *
  * <p>フォームからエンティティへ変換する際は {@code Todo.builder()} を使用します。</p>
  *
+ * <p>読み書きはすべてログインユーザーの所有者（{@link CurrentOwner}）のToDoに限定します。
+ * ほかの所有者のToDoのIDを指定した場合は、存在しないものとして扱います。</p>
+ *
  * @author Codex
  * @version 1.0
  * @since 1.0
@@ -29,23 +42,47 @@ public class TodoService implements TodoServiceUseCase {
 
     private final TodoRepository todoRepository;
     private final TodoMapper todoMapper;
+    private final TodoCountCache todoCountCache;
+    private final TodoBulkService todoBulkService;
+    private final TodoCache todoCache;
+    private final TodoDeadlineService todoDeadlineService;
+    private final TodoWriteBehind todoWriteBehind;
+    private final CurrentOwner currentOwner;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean fulltextSearch;
 
-    public TodoService(TodoRepository todoRepository, TodoMapper todoMapper) {
+    public TodoService(TodoRepository todoRepository, TodoMapper todoMapper, TodoCountCache todoCountCache,
+                       TodoBulkService todoBulkService, TodoCache todoCache, TodoDeadlineService todoDeadlineService,
+                       TodoWriteBehind todoWriteBehind, CurrentOwner currentOwner, ApplicationEventPublisher eventPublisher,
+                       @Value("${todo.search.fulltext:true}") boolean fulltextSearch) {
         this.todoRepository = todoRepository;
         this.todoMapper = todoMapper;
+        this.todoCountCache = todoCountCache;
+        this.todoBulkService = todoBulkService;
+        this.todoCache = todoCache;
+        this.todoDeadlineService = todoDeadlineService;
+        this.todoWriteBehind = todoWriteBehind;
+        this.currentOwner = currentOwner;
+        this.eventPublisher = eventPublisher;
+        this.fulltextSearch = fulltextSearch;
     }
 
     /** {@inheritDoc} */
     @Override
     public Todo create(TodoForm form) {
         Todo todo = toEntity(form);
-        return todoRepository.save(todo);
+        todo.setOwnerId(currentOwner.getId());
+        Todo saved = todoRepository.save(todo);
+        todoCountCache.onCreated(saved);
+        todoCache.onCreated(saved.getOwnerId());
+        eventPublisher.publishEvent(TodoChangeEvent.created(saved.getOwnerId(), saved));
+        return saved;
     }
 
     /** {@inheritDoc} */
     @Override
     public List<Todo> findAllOrderByCreatedAtDesc() {
-        return todoRepository.findAll(Sort.by(Sort.Direction.DESC, "createdAt"));
+        return todoRepository.findByOwnerIdOrderByCreatedAtDesc(currentOwner.getId());
     }
 
     /**
@@ -55,18 +92,65 @@ public class TodoService implements TodoServiceUseCase {
      * @return ページング結果
      */
     public Page<Todo> findPageByMyBatis(Pageable pageable, String sort, String dir) {
+        return findPageByMyBatis(pageable, sort, dir, null);
+    }
+
+    /**
+     * MyBatisでページング取得します。
+     *
+     * <p>有効なカーソルが指定された場合はキーセット方式で取得し、
+     * それ以外はオフセット方式で取得します。結果は {@link TodoCache} に保持します。</p>
+     *
+     * @param pageable ページ情報
+     * @param cursor {@link TodoCursor#encode()} で発行したカーソル（任意）
+     * @return ページング結果
+     */
+    public Page<Todo> findPageByMyBatis(Pageable pageable, String sort, String dir, String cursor) {
+        return findPageByMyBatis(pageable, sort, dir, cursor, false);
+    }
+
+    /**
+     * MyBatisでページング取得します。
+     *
+     * <p>{@code archived} がtrueの場合は、アーカイブ済みのToDo（{@link TodoArchiveService}）も同じ並び順で含めます。
+     * アーカイブ済みの行は {@link Todo#isArchived()} がtrueになり、参照のみ可能です。</p>
+     *
+     * @param pageable ページ情報
+     * @param cursor {@link TodoCursor#encode()} で発行したカーソル（任意）
+     * @param archived アーカイブ済みのToDoを含める場合はtrue
+     * @return ページング結果
+     */
+    public Page<Todo> findPageByMyBatis(Pageable pageable, String sort, String dir, String cursor, boolean archived) {
         if (pageable == null) {
             return Page.empty();
         }
+        Long ownerId = currentOwner.getId();
         String sortColumn = mapSortColumn(sort);
         String sortDir = mapSortDir(dir);
-        long total = todoMapper.countAll();
+        return todoCache.getPage(ownerId, TodoCache.pageKey(null, archived, sortColumn, sortDir, pageable, cursor),
+                pageable, () -> loadPage(ownerId, pageable, sortColumn, sortDir, cursor, archived));
+    }
+
+    private Page<Todo> loadPage(Long ownerId, Pageable pageable, String sortColumn, String sortDir, String cursor,
+                                boolean archived) {
+        long total = todoCountCache.countAll(ownerId) + (archived ? todoCountCache.countArchived(ownerId) : 0);
         if (total == 0) {
             return new PageImpl<>(Collections.emptyList(), pageable, 0);
         }
         int limit = pageable.getPageSize();
+        TodoCursor seek = TodoCursor.decode(cursor);
+        if (seek != null && seek.matches(sortColumn, sortDir)) {
+            List<Todo> items = archived
+                    ? todoMapper.selectPageAfterWithArchive(ownerId, limit, sortColumn, seek.isScanAscending(),
+                            seek.getValue(), seek.getId())
+                    : todoMapper.selectPageAfter(ownerId, limit, sortColumn, seek.isScanAscending(),
+                            seek.getValue(), seek.getId());
+            return new PageImpl<>(inDisplayOrder(items, seek), pageable, total);
+        }
         int offset = (int) pageable.getOffset();
-        List<Todo> items = todoMapper.selectPage(limit, offset, sortColumn, sortDir);
+        List<Todo> items = archived
+                ? todoMapper.selectPageWithArchive(ownerId, limit, offset, sortColumn, sortDir)
+                : todoMapper.selectPage(ownerId, limit, offset, sortColumn, sortDir);
         return new PageImpl<>(items, pageable, total);
     }
 
@@ -78,22 +162,137 @@ public class TodoService implements TodoServiceUseCase {
      * @return ページング結果
      */
     public Page<Todo> findOverduePageByMyBatis(java.time.LocalDate date, Pageable pageable, String sort, String dir) {
+        return findOverduePageByMyBatis(date, pageable, sort, dir, null);
+    }
+
+    /**
+     * MyBatisで期限切れToDoをページング取得します。
+     *
+     * <p>基準日の期限区分が更新済みであれば {@code deadline_status} と区分ごとの件数から、
+     * 未更新であれば期限日の比較で取得します。</p>
+     *
+     * @param date 期限日（この日付以前が対象）
+     * @param pageable ページ情報
+     * @param cursor {@link TodoCursor#encode()} で発行したカーソル（任意）
+     * @return ページング結果
+     */
+    public Page<Todo> findOverduePageByMyBatis(java.time.LocalDate date, Pageable pageable, String sort, String dir,
+                                               String cursor) {
         if (pageable == null) {
             return Page.empty();
         }
+        Long ownerId = currentOwner.getId();
         String sortColumn = mapSortColumn(sort);
         String sortDir = mapSortDir(dir);
-        long total = todoMapper.countOverdue(date);
+        return todoCache.getPage(ownerId, TodoCache.pageKey(date, false, sortColumn, sortDir, pageable, cursor), pageable,
+                () -> loadOverduePage(ownerId, date, pageable, sortColumn, sortDir, cursor));
+    }
+
+    private Page<Todo> loadOverduePage(Long ownerId, java.time.LocalDate date, Pageable pageable, String sortColumn,
+                                       String sortDir, String cursor) {
+        boolean materialized = todoDeadlineService.isRefreshed(date);
+        long total = materialized
+                ? todoCountCache.countByDeadline(ownerId).get(DeadlineStatus.OVERDUE)
+                : todoCountCache.countOverdue(ownerId, date);
         if (total == 0) {
             return new PageImpl<>(Collections.emptyList(), pageable, 0);
         }
         int limit = pageable.getPageSize();
+        TodoCursor seek = TodoCursor.decode(cursor);
+        if (seek != null && seek.matches(sortColumn, sortDir)) {
+            List<Todo> items = todoMapper.selectOverduePageAfter(ownerId, date, materialized, limit, sortColumn,
+                    seek.isScanAscending(), seek.getValue(), seek.getId());
+            return new PageImpl<>(inDisplayOrder(items, seek), pageable, total);
+        }
         int offset = (int) pageable.getOffset();
-        List<Todo> items = todoMapper.selectOverduePage(date, limit, offset, sortColumn, sortDir);
+        List<Todo> items = todoMapper.selectOverduePage(ownerId, date, materialized, limit, offset, sortColumn, sortDir);
         return new PageImpl<>(items, pageable, total);
     }
 
-    private String mapSortColumn(String sort) {
+    /**
+     * タイトル・説明を全文検索します。
+     *
+     * <p>空白区切りの語をすべて含むToDoを関連度の高い順に返し、該当箇所を強調表示用に加工します。</p>
+     *
+     * @param keyword 検索キーワード
+     * @param pageable ページ情報
+     * @return 検索結果。有効な語がない場合は空
+     */
+    public Page<TodoSearchHit> search(String keyword, Pageable pageable) {
+        return search(keyword, pageable, false);
+    }
+
+    /**
+     * タイトル・説明を全文検索します。
+     *
+     * @param keyword 検索キーワード
+     * @param pageable ページ情報
+     * @param archived アーカイブ済みのToDoも検索する場合はtrue
+     * @return 検索結果。有効な語がない場合は空
+     */
+    public Page<TodoSearchHit> search(String keyword, Pageable pageable, boolean archived) {
+        SearchQuery query = SearchQuery.parse(keyword);
+        if (pageable == null || query.isEmpty()) {
+            return Page.empty();
+        }
+        Long ownerId = currentOwner.getId();
+        long total = todoMapper.countSearch(ownerId, archived, fulltextSearch, query.toBooleanMode(),
+                query.getLikeTerms());
+        if (total == 0) {
+            return new PageImpl<>(Collections.emptyList(), pageable, 0);
+        }
+        List<TodoSearchHit> hits = todoMapper.search(ownerId, archived, fulltextSearch, query.toBooleanMode(),
+                query.getLikeTerms(), pageable.getPageSize(), (int) pageable.getOffset());
+        for (TodoSearchHit hit : hits) {
+            hit.setTitleHtml(query.highlight(hit.getTodo().getTitle()));
+            hit.setDescriptionHtml(query.highlight(hit.getTodo().getDescription()));
+        }
+        return new PageImpl<>(hits, pageable, total);
+    }
+
+    /**
+     * 指定ページの次ページを読むカーソルを発行します。
+     *
+     * @param page 現在ページ
+     * @return カーソル。ページが空の場合は {@code null}
+     */
+    public String nextCursor(Page<Todo> page, String sort, String dir) {
+        if (page == null || !page.hasContent()) {
+            return null;
+        }
+        List<Todo> content = page.getContent();
+        return TodoCursor.after(content.get(content.size() - 1), mapSortColumn(sort), mapSortDir(dir)).encode();
+    }
+
+    /**
+     * 指定ページの前ページを読むカーソルを発行します。
+     *
+     * @param page 現在ページ
+     * @return カーソル。ページが空の場合は {@code null}
+     */
+    public String previousCursor(Page<Todo> page, String sort, String dir) {
+        if (page == null || !page.hasContent()) {
+            return null;
+        }
+        return TodoCursor.before(page.getContent().get(0), mapSortColumn(sort), mapSortDir(dir)).encode();
+    }
+
+    private List<Todo> inDisplayOrder(List<Todo> items, TodoCursor seek) {
+        if (seek.isForward()) {
+            return items;
+        }
+        List<Todo> reversed = new ArrayList<>(items);
+        Collections.reverse(reversed);
+        return reversed;
+    }
+
+    /**
+     * 画面のソートキーをDB列名へ変換します。
+     *
+     * @param sort ソートキー（未知の値は作成日時）
+     * @return DB列名
+     */
+    public static String mapSortColumn(String sort) {
         if ("title".equals(sort)) {
             return "title";
         }
@@ -112,13 +311,28 @@ public class TodoService implements TodoServiceUseCase {
         return "created_at";
     }
 
-    private String mapSortDir(String dir) {
+    /**
+     * 画面のソート方向をSQLの方向へ変換します。
+     *
+     * @param dir ソート方向（{@code asc} 以外は降順）
+     * @return {@code ASC} または {@code DESC}
+     */
+    public static String mapSortDir(String dir) {
         if ("asc".equalsIgnoreCase(dir)) {
             return "ASC";
         }
         return "DESC";
     }
 
+    /**
+     * 期限区分ごとの件数を取得します。
+     *
+     * @return 区分ごとの件数
+     */
+    public Map<DeadlineStatus, Long> countByDeadline() {
+        return todoCountCache.countByDeadline(currentOwner.getId());
+    }
+
     /**
      * MyBatisで期限切れToDoを取得します。
      *
@@ -126,13 +340,70 @@ public class TodoService implements TodoServiceUseCase {
      * @return 期限切れToDo一覧
      */
     public List<Todo> findOverdueByMyBatis(java.time.LocalDate date) {
-        return todoMapper.selectOverdue(date);
+        return todoMapper.selectOverdue(currentOwner.getId(), date);
     }
 
     /** {@inheritDoc} */
     @Override
     public Todo findById(Long id) {
-        return todoRepository.findById(id).orElse(null);
+        Long ownerId = currentOwner.getId();
+        return todoCache.getTodo(ownerId, id, () -> todoRepository.findByIdAndOwnerId(id, ownerId).orElse(null));
+    }
+
+    /**
+     * ID指定でアーカイブ済みのToDoを取得します。
+     *
+     * @param id ToDoのID
+     * @return アーカイブ済みのToDo（{@link Todo#isArchived()} がtrue）。存在しない場合は {@code null}
+     */
+    public Todo findArchivedById(Long id) {
+        return todoMapper.selectArchivedById(currentOwner.getId(), id);
+    }
+
+    /**
+     * APIの一覧を射影で取得します。
+     *
+     * <p>常にキーセット方式で、件数は数えません。選択した列とソート列・IDだけをSELECTし、
+     * {@link TodoCache} は使用しません。</p>
+     *
+     * @param filter 絞り込み条件（ログインユーザーの所有者に限定します）
+     * @param fields 返す項目
+     * @param sort ソート項目
+     * @param dir ソート方向
+     * @param cursor 前回の {@link TodoViewSlice#nextCursor()}（任意）
+     * @param limit 最大件数
+     * @return 1ページ分の射影と次のカーソル
+     * @throws IllegalArgumentException カーソルが不正、またはソート条件と一致しない場合
+     */
+    public TodoViewSlice findViews(TodoFilter filter, Set<TodoField> fields, String sort, String dir, String cursor,
+                                   int limit) {
+        String sortColumn = mapSortColumn(sort);
+        String sortDir = mapSortDir(dir);
+        TodoCursor seek = TodoCursor.decode(cursor);
+        if (cursor != null && !cursor.isBlank()
+                && (seek == null || !seek.isForward() || !seek.matches(sortColumn, sortDir))) {
+            throw new IllegalArgumentException("Invalid cursor for sort " + sort + " " + dir);
+        }
+        filter.scopeTo(currentOwner.getId());
+        List<TodoView> items = todoMapper.selectViews(TodoField.columns(fields, sortColumn), filter, limit + 1,
+                sortColumn, seek == null ? "ASC".equals(sortDir) : seek.isScanAscending(),
+                seek == null ? null : seek.getValue(), seek == null ? null : seek.getId());
+        if (items.size() <= limit) {
+            return new TodoViewSlice(items, null);
+        }
+        List<TodoView> page = new ArrayList<>(items.subList(0, limit));
+        return new TodoViewSlice(page, TodoCursor.after(page.get(limit - 1), sortColumn, sortDir).encode());
+    }
+
+    /**
+     * ID指定で射影を取得します。
+     *
+     * @param id ToDoのID
+     * @param fields 返す項目
+     * @return 射影。存在しない場合は {@code null}
+     */
+    public TodoView findViewById(Long id, Set<TodoField> fields) {
+        return todoMapper.selectViewById(currentOwner.getId(), id, TodoField.columns(fields, null));
     }
 
     /** {@inheritDoc} */
@@ -141,32 +412,146 @@ public class TodoService implements TodoServiceUseCase {
         if (id == null) {
             throw new IllegalArgumentException("id must not be null");
         }
-        Todo todo = todoRepository.findById(id)
-                .orElseThrow(() -> new jakarta.persistence.EntityNotFoundException("Todo not found: " + id));
-        todo.setCompleted(!Boolean.TRUE.equals(todo.getCompleted()));
-        return todoRepository.save(todo);
+        Long ownerId = currentOwner.getId();
+        if (todoMapper.toggleCompleted(ownerId, id, null, null, LocalDateTime.now()) == 0) {
+            throw new jakarta.persistence.EntityNotFoundException("Todo not found: " + id);
+        }
+        todoCache.onWritten(ownerId, id);
+        Todo toggled = todoMapper.selectById(ownerId, id);
+        if (toggled != null) {
+            eventPublisher.publishEvent(TodoChangeEvent.updated(ownerId, toggled));
+        }
+        return toggled;
     }
 
-    /** {@inheritDoc} */
+    /**
+     * {@inheritDoc}
+     *
+     * <p>書き込み遅延（{@link TodoWriteBehind}）が有効な場合は保留キューへ登録して切り替え後の状態を返します。
+     * バージョンは反映時に照合し、一致しない変更は破棄されます。</p>
+     */
+    @Override
+    public Todo toggleCompleted(Long id, Long version, Boolean completed) {
+        if (id == null) {
+            throw new IllegalArgumentException("id must not be null");
+        }
+        if (version == null || completed == null) {
+            return toggleCompleted(id);
+        }
+        Long ownerId = currentOwner.getId();
+        LocalDateTime now = LocalDateTime.now();
+        Todo toggled = Todo.builder()
+                .id(id)
+                .completed(!completed)
+                .version(version + 1)
+                .updatedAt(now)
+                .build();
+        if (todoWriteBehind.submit(TodoPendingWrite.completed(ownerId, id, !completed, version, now))) {
+            // Caches and listeners are updated when the write is flushed.
+            return toggled;
+        }
+        if (todoMapper.toggleCompleted(ownerId, id, version, !completed, now) == 0) {
+            throw notFoundOrConflict(ownerId, id);
+        }
+        todoCache.onWritten(ownerId, id);
+        eventPublisher.publishEvent(TodoChangeEvent.updated(ownerId, toggled));
+        return toggled;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>1回のUPDATE文で更新し、バージョンの照合もSQLで行います。
+     * 戻り値にはフォームの項目・新しいバージョン・更新日時のみ設定されます。
+     * バージョンを指定しない場合（APIの照合なしの更新）は、更新後の行を読み直して返します。</p>
+     *
+     * <p>期限切れ件数は期限日が変わった場合だけ再集計します。変更前の期限日は、編集画面が読み込んだ
+     * {@link TodoCache} の1件（同じバージョンのもの）と比べます。キャッシュにない場合は変わったものとして扱います。</p>
+     *
+     * <p>書き込み遅延（{@link TodoWriteBehind}）が有効で、バージョンが指定されている場合は保留キューへ登録して
+     * 更新後の状態を返します。バージョンは反映時に照合し、一致しない変更は破棄されます。
+     * 保留中の同じ行の変更と前後関係が合わない場合は、登録時に {@link jakarta.persistence.OptimisticLockException} になります。</p>
+     */
     @Override
     public Todo update(Long id, TodoForm form) {
+        return update(id, form, true);
+    }
+
+    /**
+     * 書き込み遅延を使わずに更新します。呼び出しから戻った時点でDBに反映済みのため、
+     * 更新後の行をそのまま読み出せます（APIが更新後の状態を返す場合に使用します）。
+     *
+     * @param id ToDoのID
+     * @param form 入力フォーム
+     * @return 更新後のToDo
+     * @throws jakarta.persistence.EntityNotFoundException 対象が存在しない場合
+     * @throws jakarta.persistence.OptimisticLockException 表示後に他のユーザーが更新していた場合
+     */
+    public Todo updateNow(Long id, TodoForm form) {
+        return update(id, form, false);
+    }
+
+    private Todo update(Long id, TodoForm form, boolean deferrable) {
         if (id == null) {
             throw new IllegalArgumentException("id must not be null");
         }
         if (form == null) {
             throw new IllegalArgumentException("form must not be null");
         }
-        Todo todo = todoRepository.findById(id)
-                .orElseThrow(() -> new jakarta.persistence.EntityNotFoundException("Todo not found: " + id));
-        if (form.getVersion() != null && !form.getVersion().equals(todo.getVersion())) {
-            throw new jakarta.persistence.OptimisticLockException("Todo was updated by another transaction");
+        Long ownerId = currentOwner.getId();
+        LocalDateTime now = LocalDateTime.now();
+        DeadlineStatus deadlineStatus = DeadlineStatus.of(form.getDueDate(), now.toLocalDate());
+        // The cached copy at the version being replaced is exactly the row this UPDATE overwrites.
+        Todo before = form.getVersion() == null ? null : todoCache.peek(ownerId, id);
+        Todo updated = Todo.builder()
+                .id(id)
+                .ownerId(ownerId)
+                .title(form.getTitle())
+                .description(form.getDescription())
+                .author(form.getAuthor())
+                .dueDate(form.getDueDate())
+                .priority(form.getPriority())
+                .deadlineStatus(deadlineStatus)
+                .version(form.getVersion() == null ? null : form.getVersion() + 1)
+                .updatedAt(now)
+                .build();
+        // Without a version there is nothing to check at flush time, and the new version is unknown: write now.
+        if (deferrable && form.getVersion() != null
+                && todoWriteBehind.submit(TodoPendingWrite.edited(ownerId, id, form, now))) {
+            return updated;
+        }
+        if (todoMapper.updateFields(ownerId, id, form, deadlineStatus, now) == 0) {
+            throw notFoundOrConflict(ownerId, id);
+        }
+        if (before == null || !form.getVersion().equals(before.getVersion())
+                || !Objects.equals(before.getDueDate(), form.getDueDate())) {
+            todoCountCache.onDueDateChanged(ownerId);
+        }
+        todoCache.onWritten(ownerId, id);
+        if (form.getVersion() == null) {
+            // Unchecked update: the resulting version is only known to the database.
+            Todo current = todoMapper.selectById(ownerId, id);
+            if (current != null) {
+                updated = current;
+            }
         }
-        todo.setTitle(form.getTitle());
-        todo.setDescription(form.getDescription());
-        todo.setAuthor(form.getAuthor());
-        todo.setDueDate(form.getDueDate());
-        todo.setPriority(form.getPriority());
-        return todoRepository.save(todo);
+        eventPublisher.publishEvent(TodoChangeEvent.edited(ownerId, updated));
+        return updated;
+    }
+
+    /**
+     * 条件付きUPDATEが0件だった理由を判定します。
+     *
+     * @param ownerId 所有者ID
+     * @param id ToDoのID
+     * @return 対象が存在しない場合は {@link jakarta.persistence.EntityNotFoundException}、
+     *         それ以外は {@link jakarta.persistence.OptimisticLockException}
+     */
+    private RuntimeException notFoundOrConflict(Long ownerId, Long id) {
+        if (todoMapper.selectById(ownerId, id) == null) {
+            return new jakarta.persistence.EntityNotFoundException("Todo not found: " + id);
+        }
+        return new jakarta.persistence.OptimisticLockException("Todo was updated by another transaction");
     }
 
     /**
@@ -177,8 +562,10 @@ public class TodoService implements TodoServiceUseCase {
      * @throws jakarta.persistence.EntityNotFoundException 対象が存在しない場合
      */
     public TodoForm findFormById(Long id) {
-        Todo todo = todoRepository.findById(id)
-                .orElseThrow(() -> new jakarta.persistence.EntityNotFoundException("Todo not found: " + id));
+        Todo todo = findById(id);
+        if (todo == null) {
+            throw new jakarta.persistence.EntityNotFoundException("Todo not found: " + id);
+        }
         return toForm(todo);
     }
 
@@ -193,10 +580,13 @@ public class TodoService implements TodoServiceUseCase {
         if (id == null) {
             throw new IllegalArgumentException("id must not be null");
         }
-        if (!todoRepository.existsById(id)) {
-            throw new jakarta.persistence.EntityNotFoundException("Todo not found: " + id);
-        }
-        todoRepository.deleteById(id);
+        Long ownerId = currentOwner.getId();
+        Todo todo = todoRepository.findByIdAndOwnerId(id, ownerId)
+                .orElseThrow(() -> new jakarta.persistence.EntityNotFoundException("Todo not found: " + id));
+        todoRepository.delete(todo);
+        todoCountCache.onDeleted(todo);
+        todoCache.onWritten(ownerId, id);
+        eventPublisher.publishEvent(TodoChangeEvent.deleted(ownerId, List.of(id)));
     }
 
     @Override
@@ -204,7 +594,7 @@ public class TodoService implements TodoServiceUseCase {
         if (ids == null || ids.isEmpty()) {
             return 0;
         }
-        return todoMapper.deleteByIds(ids);
+        return (int) todoBulkService.deleteByIds(ids).getTotal();
     }
 
     /**
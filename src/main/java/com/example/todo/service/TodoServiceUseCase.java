@@ -63,6 +63,22 @@ public interface TodoServiceUseCase {
      */
     Todo toggleCompleted(Long id);
 
+    /**
+     * 画面に表示中のバージョンを条件に完了状態を反転します。
+     *
+     * <p>1回のUPDATE文でバージョンを照合し、完了状態を {@code !completed} に設定します（読み出しは行いません）。
+     * DBの値を反転するのではなく値を指定するため、戻り値・キャッシュ・変更通知は常に更新後の行と一致します。
+     * {@code version} または {@code completed} が {@code null} の場合は {@link #toggleCompleted(Long)} と同じです。</p>
+     *
+     * @param id ToDoのID
+     * @param version 画面に表示中のバージョン
+     * @param completed 画面に表示中の完了状態
+     * @return 反転後の状態（ID・完了状態・バージョン・更新日時のみ設定）
+     * @throws jakarta.persistence.EntityNotFoundException 対象が存在しない場合
+     * @throws jakarta.persistence.OptimisticLockException 表示後に他のユーザーが更新していた場合
+     */
+    Todo toggleCompleted(Long id, Long version, Boolean completed);
+
     /**
      * 複数IDを一括削除します。
      *
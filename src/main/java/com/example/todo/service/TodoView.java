@@ -0,0 +1,54 @@
+package com.example.todo.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * APIで返すToDoの射影。
+ *
+ * <p>{@link TodoField} で選択した列だけが設定され、それ以外は {@code null} です。
+ * JPAのエンティティではないため、永続化コンテキストの管理対象になりません。</p>
+ *
+ * @since 1.1
+ */
+@Data
+@NoArgsConstructor
+public class TodoView {
+
+    private Long id;
+    private String title;
+    private String author;
+    private String description;
+    private LocalDate dueDate;
+    private Integer priority;
+    private Boolean completed;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long version;
+
+    /**
+     * ソート列の値を返します（カーソルの作成用）。
+     *
+     * @param sortColumn ソート列（DB列名）
+     * @return 値
+     */
+    Object sortValue(String sortColumn) {
+        switch (sortColumn) {
+            case "title":
+                return title;
+            case "due_date":
+                return dueDate;
+            case "priority":
+                return priority;
+            case "author":
+                return author;
+            case "completed":
+                return completed;
+            default:
+                return createdAt;
+        }
+    }
+}
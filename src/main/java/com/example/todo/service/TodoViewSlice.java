@@ -0,0 +1,13 @@
+package com.example.todo.service;
+
+import java.util.List;
+
+/**
+ * APIの一覧の1ページ分。件数は数えず、続きがある場合だけ次のカーソルを返します。
+ *
+ * @param items ToDoの射影
+ * @param nextCursor 次ページのカーソル（最後のページはnull）
+ * @since 1.1
+ */
+public record TodoViewSlice(List<TodoView> items, String nextCursor) {
+}
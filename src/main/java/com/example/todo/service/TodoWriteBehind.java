@@ -0,0 +1,403 @@
+package com.example.todo.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.todo.datasource.DataSourceRoute;
+import com.example.todo.entity.DeadlineStatus;
+import com.example.todo.entity.Todo;
+import com.example.todo.event.TodoChangeEvent;
+import com.example.todo.mapper.TodoMapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 完了状態の切り替えと編集を非同期にまとめて書き込む、書き込み遅延（write-behind）の保留キュー。
+ *
+ * <p>{@code todo.write-behind.enabled=true} の場合、{@link TodoService} は切り替え・編集をここへ登録し、
+ * 結果の状態をすぐに返します。保留中の変更は所有者とIDごとに1件へまとめ（{@link TodoPendingWrite#merge}）、
+ * {@code todo.write-behind.flush-interval-ms} ごとに専用スレッドがJDBCバッチで反映します。
+ * 同じ行を短時間に何度も切り替えても、UPDATEは反映ごとに1回です。</p>
+ *
+ * <p>登録はIDごとの {@link ConcurrentHashMap#merge} で行い、リクエストスレッドはSQLを実行しません。
+ * 保留件数が {@code todo.write-behind.max-pending} を超えた場合は登録せず、呼び出し側が同期で書き込みます。</p>
+ *
+ * <p>楽観的ロックは2段階で照合します。登録時は、同じ行の保留中の変更を反映した後のバージョンを前提にしていない変更を
+ * {@link jakarta.persistence.OptimisticLockException} で拒否します（同期の書き込みと同じく409になります）。
+ * 反映時は、まとめた変更の最初の前提のバージョンをUPDATEの条件にします。0件の場合（他の書き込みが先に反映された、
+ * 対象が存在しない、ほかの所有者のID）は警告ログを出力して破棄し、{@code todo.write-behind.conflicts} で数えます。
+ * 応答で返すバージョン（前提 + 1）は、反映が成功した場合のDBのバージョンと一致します。
+ * 反映が終わるまで（通常は数ミリ秒）の間は、一覧・詳細に変更前の状態が表示されることがあります。</p>
+ *
+ * <p>{@code todo.write-behind.journal.path} を指定すると、受け付けた変更を応答前にローカルの
+ * 追記専用ジャーナル（{@link TodoWriteJournal}）へ記録し、起動時に未反映の変更を読み戻して反映します。
+ * 読み戻した変更はまとめずに受け付けた順に1件ずつ、それぞれの前提のバージョンで反映するため、
+ * 反映済みだった変更は0件になって読み飛ばされます。
+ * {@code todo.write-behind.journal.fsync=true} でディスクへの書き込みまで待ちます。
+ * ジャーナルはノードごとのため、複数ノードではノードごとに別のパスを指定してください。</p>
+ *
+ * @since 1.1
+ */
+@Component
+public class TodoWriteBehind implements InitializingBean, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(TodoWriteBehind.class);
+
+    /** 反映に失敗した変更を破棄するまでの試行回数。 */
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final Map<PendingKey, TodoPendingWrite> pending = new ConcurrentHashMap<>();
+    private final TodoMapper batchMapper;
+    private final SqlSessionTemplate batchSqlSession;
+    private final TransactionTemplate transactionTemplate;
+    private final TodoCountCache todoCountCache;
+    private final TodoCache todoCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final Counter submitted;
+    private final Counter flushed;
+    private final Counter conflicts;
+    private final boolean enabled;
+    private final Duration flushInterval;
+    private final int batchSize;
+    private final int maxPending;
+    private final String journalPath;
+    private final boolean journalFsync;
+
+    private ThreadPoolTaskScheduler scheduler;
+    private ScheduledFuture<?> flushTask;
+    private TodoWriteJournal journal;
+
+    public TodoWriteBehind(SqlSessionFactory sqlSessionFactory,
+                           PlatformTransactionManager transactionManager,
+                           TodoCountCache todoCountCache,
+                           TodoCache todoCache,
+                           ApplicationEventPublisher eventPublisher,
+                           ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry,
+                           @Value("${todo.write-behind.enabled:false}") boolean enabled,
+                           @Value("${todo.write-behind.flush-interval-ms:5}") long flushIntervalMillis,
+                           @Value("${todo.write-behind.batch-size:500}") int batchSize,
+                           @Value("${todo.write-behind.max-pending:10000}") int maxPending,
+                           @Value("${todo.write-behind.journal.path:}") String journalPath,
+                           @Value("${todo.write-behind.journal.fsync:false}") boolean journalFsync) {
+        // Not a bean: a SqlSessionTemplate bean would replace the default (SIMPLE) one used by mapper scanning.
+        this.batchSqlSession = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+        this.batchMapper = batchSqlSession.getMapper(TodoMapper.class);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.todoCountCache = todoCountCache;
+        this.todoCache = todoCache;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.flushInterval = Duration.ofMillis(Math.max(1L, flushIntervalMillis));
+        this.batchSize = batchSize;
+        this.maxPending = maxPending;
+        this.journalPath = journalPath;
+        this.journalFsync = journalFsync;
+        this.submitted = meterRegistry.counter("todo.write-behind.submitted");
+        this.flushed = meterRegistry.counter("todo.write-behind.flushed");
+        this.conflicts = meterRegistry.counter("todo.write-behind.conflicts");
+        Gauge.builder("todo.write-behind.pending", pending, Map::size)
+                .description("Coalesced todo writes waiting to be flushed")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        if (journalPath != null && !journalPath.isBlank()) {
+            journal = new TodoWriteJournal(Path.of(journalPath), objectMapper, journalFsync);
+            replay(journal.replay(), journal.rotate());
+        }
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix("todo-write-behind-");
+        scheduler.setPoolSize(1);
+        scheduler.initialize();
+        flushTask = scheduler.scheduleWithFixedDelay(this::flushQuietly, flushInterval);
+    }
+
+    /**
+     * 書き込み遅延が有効か判定します。
+     *
+     * @return 有効な場合はtrue
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 変更を保留キューへ登録します。ジャーナルが有効な場合は記録してから登録します。
+     *
+     * @param write 変更
+     * @return 登録した場合はtrue。無効・前提のバージョンなし・保留件数の上限・ジャーナルへの書き込み失敗の場合はfalse
+     *         （同期で書き込んでください）
+     */
+    public boolean submit(TodoPendingWrite write) {
+        if (!enabled || write.getExpectedVersion() == null || pending.size() >= maxPending) {
+            return false;
+        }
+        write.setActor(TodoChangeEvent.currentActor());
+        PendingKey key = PendingKey.of(write);
+        if (journal == null) {
+            // merge throws OptimisticLockException and leaves the map unchanged when the versions do not chain.
+            pending.merge(key, write, TodoPendingWrite::merge);
+        } else {
+            // The journal lock also keeps an append and its map entry on the same side of a flush's rotation.
+            synchronized (journal) {
+                TodoPendingWrite queued = pending.get(key);
+                if (queued != null) {
+                    // Check before the append, so that a rejected write is never journaled.
+                    queued.merge(write);
+                }
+                try {
+                    journal.append(write);
+                } catch (IOException ex) {
+                    log.warn("Write-behind journal append failed; writing synchronously", ex);
+                    return false;
+                }
+                pending.merge(key, write, TodoPendingWrite::merge);
+            }
+        }
+        submitted.increment();
+        // The session reads from the primary for a while, as after a synchronous write.
+        DataSourceRoute.markWrite();
+        return true;
+    }
+
+    /**
+     * 保留中の変更をすべて反映します。
+     *
+     * @return 反映した行数
+     */
+    public synchronized int flush() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        long sealed = -1L;
+        List<TodoPendingWrite> writes;
+        if (journal == null) {
+            writes = drain();
+        } else {
+            synchronized (journal) {
+                try {
+                    sealed = journal.rotate();
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                writes = drain();
+            }
+        }
+        // Writes of the same shape next to each other share one JDBC batch statement.
+        writes.sort(Comparator.comparing(TodoPendingWrite::hasForm)
+                .thenComparing(write -> write.getCompleted() != null));
+        int applied = 0;
+        for (int start = 0; start < writes.size(); start += batchSize) {
+            List<TodoPendingWrite> batch = writes.subList(start, Math.min(start + batchSize, writes.size()));
+            try {
+                applied += apply(batch, false);
+            } catch (RuntimeException ex) {
+                List<TodoPendingWrite> rest = writes.subList(start, writes.size());
+                log.warn("Write-behind flush failed; {} writes re-queued", rest.size(), ex);
+                requeue(rest);
+                return applied;
+            }
+        }
+        if (journal != null) {
+            try {
+                journal.deleteThrough(sealed);
+            } catch (IOException ex) {
+                log.warn("Could not delete flushed write-behind journal segments", ex);
+            }
+        }
+        return applied;
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        if (flushTask != null) {
+            flushTask.cancel(false);
+            scheduler.shutdown();
+        }
+        if (enabled) {
+            flushQuietly();
+        }
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException ex) {
+            log.warn("Write-behind flush failed", ex);
+        }
+    }
+
+    /**
+     * ジャーナルから読み戻した変更を、受け付けた順に1件ずつ反映します。反映済みの変更は0件になります。
+     */
+    private void replay(List<TodoPendingWrite> replayed, long sealed) throws IOException {
+        if (replayed.isEmpty()) {
+            return;
+        }
+        int applied = 0;
+        for (int start = 0; start < replayed.size(); start += batchSize) {
+            // JDBC batches keep statement order, so a later write sees the version left by an earlier one.
+            applied += apply(replayed.subList(start, Math.min(start + batchSize, replayed.size())), true);
+        }
+        log.info("Replayed {} journaled todo writes: {} applied, {} already applied or superseded",
+                replayed.size(), applied, replayed.size() - applied);
+        journal.deleteThrough(sealed);
+    }
+
+    private List<TodoPendingWrite> drain() {
+        List<TodoPendingWrite> drained = new ArrayList<>(pending.size());
+        for (PendingKey key : pending.keySet()) {
+            TodoPendingWrite write = pending.remove(key);
+            if (write != null) {
+                drained.add(write);
+            }
+        }
+        return drained;
+    }
+
+    private int apply(List<TodoPendingWrite> batch, boolean replaying) {
+        LocalDate today = LocalDate.now();
+        for (TodoPendingWrite write : batch) {
+            if (write.hasForm()) {
+                write.setDeadlineStatus(DeadlineStatus.of(write.getForm().getDueDate(), today));
+            }
+        }
+        List<BatchResult> results = transactionTemplate.execute(status -> {
+            for (TodoPendingWrite write : batch) {
+                batchMapper.applyPendingWrite(write);
+            }
+            return batchSqlSession.flushStatements();
+        });
+        List<Integer> counts = new ArrayList<>(batch.size());
+        if (results != null) {
+            for (BatchResult result : results) {
+                for (int count : result.getUpdateCounts()) {
+                    counts.add(count);
+                }
+            }
+        }
+        int applied = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            // Zero: another write got there first, or the todo is gone or belongs to another owner.
+            // Drivers may also report SUCCESS_NO_INFO (-2).
+            if (i < counts.size() && counts.get(i) == 0) {
+                if (!replaying) {
+                    onConflict(batch.get(i));
+                }
+                continue;
+            }
+            applied++;
+            onApplied(batch.get(i));
+        }
+        flushed.increment(applied);
+        return applied;
+    }
+
+    private void onApplied(TodoPendingWrite write) {
+        Long ownerId = write.getOwnerId();
+        todoCache.onWritten(ownerId, write.getId());
+        // The absolute version, as on the synchronous path: the page already holds it from the response.
+        Todo.TodoBuilder changed = Todo.builder()
+                .id(write.getId())
+                .completed(write.getCompleted())
+                .version(write.getResultingVersion())
+                .updatedAt(write.getUpdatedAt());
+        TodoChangeEvent event;
+        if (write.hasForm()) {
+            todoCountCache.onDueDateChanged(ownerId);
+            event = TodoChangeEvent.edited(ownerId, changed
+                    .title(write.getForm().getTitle())
+                    .description(write.getForm().getDescription())
+                    .author(write.getForm().getAuthor())
+                    .dueDate(write.getForm().getDueDate())
+                    .priority(write.getForm().getPriority())
+                    .deadlineStatus(write.getDeadlineStatus())
+                    .build());
+        } else {
+            event = TodoChangeEvent.updated(ownerId, changed.build());
+        }
+        eventPublisher.publishEvent(event.withActor(write.getActor()));
+    }
+
+    private void onConflict(TodoPendingWrite write) {
+        conflicts.increment();
+        log.atWarn()
+                .addKeyValue("ownerId", write.getOwnerId())
+                .addKeyValue("todoId", write.getId())
+                .addKeyValue("expectedVersion", write.getExpectedVersion())
+                .addKeyValue("actor", write.getActor())
+                .log("Write-behind write dropped: todo {} is not at version {} (updated by another request, "
+                        + "deleted, or not owned by {}); {} merged writes lost",
+                        write.getId(), write.getExpectedVersion(), write.getOwnerId(), write.getWrites());
+        // Whatever was cached may predate the other write.
+        todoCache.onWritten(write.getOwnerId(), write.getId());
+    }
+
+    private void requeue(List<TodoPendingWrite> writes) {
+        for (TodoPendingWrite write : writes) {
+            write.setAttempts(write.getAttempts() + 1);
+            if (write.getAttempts() >= MAX_ATTEMPTS) {
+                log.error("Dropped todo write after {} attempts: {}", write.getAttempts(), write);
+                continue;
+            }
+            // Anything submitted since the drain is newer and goes on top.
+            pending.merge(PendingKey.of(write), write, (newer, older) -> {
+                try {
+                    return older.merge(newer);
+                } catch (jakarta.persistence.OptimisticLockException ex) {
+                    // The newer write was accepted against the row without the older one; the older one was first.
+                    onConflict(newer);
+                    return older;
+                }
+            });
+        }
+    }
+
+    /**
+     * 保留キューのキー。ほかの所有者のIDを指定した変更が、正しい所有者の変更とまとめられないよう所有者も含めます。
+     */
+    private record PendingKey(Long ownerId, Long id) {
+
+        static PendingKey of(TodoPendingWrite write) {
+            return new PendingKey(write.getOwnerId(), write.getId());
+        }
+    }
+}
@@ -19,3 +19,7 @@ VALUES
 INSERT INTO users (username, password, role)
 VALUES ('admin', '.HH9KpGgIuRrI8bXH/F1C5jY9E8uDZu', 'ROLE_USER');
 
+-- Seed todos belong to admin (V5 backfill runs before repeatable migrations).
+UPDATE todos
+SET owner_id = (SELECT id FROM users WHERE username = 'admin')
+WHERE owner_id IS NULL;
@@ -0,0 +1,20 @@
+CREATE TABLE IF NOT EXISTS todos (
+  id          BIGINT AUTO_INCREMENT PRIMARY KEY,
+  author      VARCHAR(50)  NOT NULL,
+  title       VARCHAR(100) NOT NULL,
+  description VARCHAR(500),
+  due_date    DATE,
+  priority    INT          NOT NULL DEFAULT 1,
+  completed   BOOLEAN      NOT NULL DEFAULT FALSE,
+  created_at  TIMESTAMP(6) NOT NULL,
+  updated_at  TIMESTAMP(6) NOT NULL,
+  version     BIGINT
+);
+
+CREATE TABLE IF NOT EXISTS users (
+  id       BIGINT AUTO_INCREMENT PRIMARY KEY,
+  username VARCHAR(100) NOT NULL,
+  password VARCHAR(200) NOT NULL,
+  role     VARCHAR(50)  NOT NULL,
+  CONSTRAINT uk_users_username UNIQUE (username)
+);
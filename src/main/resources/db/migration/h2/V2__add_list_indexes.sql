@@ -0,0 +1,10 @@
+-- One index per sort column with id as tie-breaker (offset and keyset paging in TodoMapper.xml).
+CREATE INDEX idx_todos_created_at_id ON todos (created_at, id);
+CREATE INDEX idx_todos_title_id ON todos (title, id);
+CREATE INDEX idx_todos_due_date_id ON todos (due_date, id);
+CREATE INDEX idx_todos_priority_id ON todos (priority, id);
+CREATE INDEX idx_todos_author_id ON todos (author, id);
+CREATE INDEX idx_todos_completed_id ON todos (completed, id);
+
+-- Overdue list (due_date <= ? ORDER BY due_date ASC, priority DESC).
+CREATE INDEX idx_todos_overdue ON todos (due_date, priority DESC, id);
@@ -0,0 +1,31 @@
+-- Todos belong to an owner: a team (users.owner_id) or, when that is NULL, the user itself (users.id).
+ALTER TABLE users ADD COLUMN owner_id BIGINT;
+ALTER TABLE todos ADD COLUMN owner_id BIGINT;
+
+-- Existing rows: the user whose name matches the free-text author, otherwise the first user.
+UPDATE todos t
+SET owner_id = (SELECT u.id FROM users u WHERE u.username = t.author)
+WHERE owner_id IS NULL;
+UPDATE todos
+SET owner_id = (SELECT MIN(id) FROM users)
+WHERE owner_id IS NULL;
+
+-- Every list query is scoped by owner (owner_id = ?), so owner_id leads each index and the sort column follows.
+-- idx_todos_deadline stays for the daily transitions, which scan all owners.
+DROP INDEX idx_todos_created_at_id;
+DROP INDEX idx_todos_title_id;
+DROP INDEX idx_todos_due_date_id;
+DROP INDEX idx_todos_priority_id;
+DROP INDEX idx_todos_author_id;
+DROP INDEX idx_todos_completed_id;
+DROP INDEX idx_todos_overdue;
+
+CREATE INDEX idx_todos_owner_id ON todos (owner_id, id);
+CREATE INDEX idx_todos_owner_created_at ON todos (owner_id, created_at, id);
+CREATE INDEX idx_todos_owner_title ON todos (owner_id, title, id);
+CREATE INDEX idx_todos_owner_due_date ON todos (owner_id, due_date, id);
+CREATE INDEX idx_todos_owner_priority ON todos (owner_id, priority, id);
+CREATE INDEX idx_todos_owner_author ON todos (owner_id, author, id);
+CREATE INDEX idx_todos_owner_completed ON todos (owner_id, completed, id);
+CREATE INDEX idx_todos_owner_overdue ON todos (owner_id, due_date, priority DESC, id);
+CREATE INDEX idx_todos_owner_deadline ON todos (owner_id, deadline_status, due_date, priority DESC, id);
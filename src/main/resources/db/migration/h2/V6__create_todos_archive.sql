@@ -0,0 +1,30 @@
+-- Cold storage for completed todos (TodoArchiveService): rows completed more than todo.archive.after-days ago are
+-- moved here in small batches, so that the hot table and its indexes only hold live data.
+-- Same columns as todos; ids are kept, so a todo has one id whichever table it lives in.
+CREATE TABLE IF NOT EXISTS todos_archive (
+  id              BIGINT PRIMARY KEY,
+  owner_id        BIGINT,
+  author          VARCHAR(50)  NOT NULL,
+  title           VARCHAR(100) NOT NULL,
+  description     VARCHAR(500),
+  due_date        DATE,
+  priority        INT          NOT NULL DEFAULT 1,
+  completed       BOOLEAN      NOT NULL DEFAULT FALSE,
+  created_at      TIMESTAMP(6) NOT NULL,
+  updated_at      TIMESTAMP(6) NOT NULL,
+  version         BIGINT,
+  deadline_status VARCHAR(10),
+  archived_at     TIMESTAMP(6) NOT NULL
+);
+
+-- "Include archived" lists merge both tables per owner, sorted like the hot list (see V5).
+CREATE INDEX idx_todos_archive_owner_id ON todos_archive (owner_id, id);
+CREATE INDEX idx_todos_archive_owner_created_at ON todos_archive (owner_id, created_at, id);
+CREATE INDEX idx_todos_archive_owner_title ON todos_archive (owner_id, title, id);
+CREATE INDEX idx_todos_archive_owner_due_date ON todos_archive (owner_id, due_date, id);
+CREATE INDEX idx_todos_archive_owner_priority ON todos_archive (owner_id, priority, id);
+CREATE INDEX idx_todos_archive_owner_author ON todos_archive (owner_id, author, id);
+CREATE INDEX idx_todos_archive_owner_completed ON todos_archive (owner_id, completed, id);
+
+-- Archive candidates (completed = TRUE AND updated_at < cutoff), oldest first, across all owners.
+CREATE INDEX idx_todos_archive_candidates ON todos (completed, updated_at, id);
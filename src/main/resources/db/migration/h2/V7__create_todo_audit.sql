@@ -0,0 +1,16 @@
+-- Append-only audit log (TodoAuditRecorder): one row per todo and change, written in batches off the request thread.
+-- action is the TodoAuditAction ordinal and payload the TodoAuditCodec encoding of the changed values.
+CREATE TABLE IF NOT EXISTS todo_audit (
+  id         BIGINT AUTO_INCREMENT PRIMARY KEY,
+  owner_id   BIGINT          NOT NULL,
+  todo_id    BIGINT          NOT NULL,
+  changed_at TIMESTAMP(3)    NOT NULL,
+  action     TINYINT         NOT NULL,
+  actor      VARCHAR(100),
+  payload    VARBINARY(4096)
+);
+
+-- History of one todo, newest first.
+CREATE INDEX idx_todo_audit_todo ON todo_audit (owner_id, todo_id, changed_at, id);
+-- Export of an owner's events by time range.
+CREATE INDEX idx_todo_audit_owner_time ON todo_audit (owner_id, changed_at, id);
@@ -0,0 +1,24 @@
+-- Schema as previously created by Hibernate ddl-auto=update.
+-- Existing databases are baselined at version 1 (spring.flyway.baseline-on-migrate), so this only runs on empty schemas.
+CREATE TABLE IF NOT EXISTS todos (
+  id          BIGINT       NOT NULL AUTO_INCREMENT,
+  author      VARCHAR(50)  NOT NULL,
+  title       VARCHAR(100) NOT NULL,
+  description VARCHAR(500),
+  due_date    DATE,
+  priority    INT          NOT NULL DEFAULT 1,
+  completed   BIT(1)       NOT NULL DEFAULT b'0',
+  created_at  DATETIME(6)  NOT NULL,
+  updated_at  DATETIME(6)  NOT NULL,
+  version     BIGINT,
+  PRIMARY KEY (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS users (
+  id       BIGINT       NOT NULL AUTO_INCREMENT,
+  username VARCHAR(100) NOT NULL,
+  password VARCHAR(200) NOT NULL,
+  role     VARCHAR(50)  NOT NULL,
+  PRIMARY KEY (id),
+  CONSTRAINT uk_users_username UNIQUE (username)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,3 @@
+-- Full-text search over title/description (/todos/search).
+-- ngram parser tokenizes Japanese text without word boundaries (ngram_token_size, default 2).
+ALTER TABLE todos ADD FULLTEXT INDEX ft_todos_title_description (title, description) WITH PARSER ngram;
@@ -0,0 +1,6 @@
+-- Deadline bucket materialized by TodoDeadlineService (OVERDUE, DUE_SOON, LATER, NONE).
+-- Left NULL here; the service fills NULL rows on startup using the application's date.
+ALTER TABLE todos ADD COLUMN deadline_status VARCHAR(10);
+
+-- Overdue list and bucket counts (deadline_status = ? ORDER BY due_date ASC, priority DESC), and daily transitions.
+CREATE INDEX idx_todos_deadline ON todos (deadline_status, due_date, priority DESC, id);
@@ -0,0 +1,32 @@
+-- Todos belong to an owner: a team (users.owner_id) or, when that is NULL, the user itself (users.id).
+ALTER TABLE users ADD COLUMN owner_id BIGINT;
+ALTER TABLE todos ADD COLUMN owner_id BIGINT;
+
+-- Existing rows: the user whose name matches the free-text author, otherwise the first user.
+UPDATE todos t
+SET owner_id = (SELECT u.id FROM users u WHERE u.username = t.author)
+WHERE owner_id IS NULL;
+UPDATE todos
+SET owner_id = (SELECT MIN(id) FROM users)
+WHERE owner_id IS NULL;
+
+-- Every list query is scoped by owner (owner_id = ?), so owner_id leads each index and the sort column follows:
+-- a page reads only that owner's index range, however large the table is.
+-- idx_todos_deadline stays for the daily transitions, which scan all owners.
+ALTER TABLE todos
+  DROP INDEX idx_todos_created_at_id,
+  DROP INDEX idx_todos_title_id,
+  DROP INDEX idx_todos_due_date_id,
+  DROP INDEX idx_todos_priority_id,
+  DROP INDEX idx_todos_author_id,
+  DROP INDEX idx_todos_completed_id,
+  DROP INDEX idx_todos_overdue,
+  ADD INDEX idx_todos_owner_id (owner_id, id),
+  ADD INDEX idx_todos_owner_created_at (owner_id, created_at, id),
+  ADD INDEX idx_todos_owner_title (owner_id, title, id),
+  ADD INDEX idx_todos_owner_due_date (owner_id, due_date, id),
+  ADD INDEX idx_todos_owner_priority (owner_id, priority, id),
+  ADD INDEX idx_todos_owner_author (owner_id, author, id),
+  ADD INDEX idx_todos_owner_completed (owner_id, completed, id),
+  ADD INDEX idx_todos_owner_overdue (owner_id, due_date, priority DESC, id),
+  ADD INDEX idx_todos_owner_deadline (owner_id, deadline_status, due_date, priority DESC, id);
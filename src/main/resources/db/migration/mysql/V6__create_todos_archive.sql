@@ -0,0 +1,32 @@
+-- Cold storage for completed todos (TodoArchiveService): rows completed more than todo.archive.after-days ago are
+-- moved here in small batches, so that the hot table and its indexes only hold live data.
+-- Same columns as todos; ids are kept, so a todo has one id whichever table it lives in
+-- (MySQL 8 persists the AUTO_INCREMENT counter, so the ids of moved rows are not handed out again).
+CREATE TABLE IF NOT EXISTS todos_archive (
+  id              BIGINT       NOT NULL,
+  owner_id        BIGINT,
+  author          VARCHAR(50)  NOT NULL,
+  title           VARCHAR(100) NOT NULL,
+  description     VARCHAR(500),
+  due_date        DATE,
+  priority        INT          NOT NULL DEFAULT 1,
+  completed       BIT(1)       NOT NULL DEFAULT b'0',
+  created_at      DATETIME(6)  NOT NULL,
+  updated_at      DATETIME(6)  NOT NULL,
+  version         BIGINT,
+  deadline_status VARCHAR(10),
+  archived_at     DATETIME(6)  NOT NULL,
+  PRIMARY KEY (id),
+  -- "Include archived" lists merge both tables per owner, sorted like the hot list (see V5).
+  INDEX idx_todos_archive_owner_id (owner_id, id),
+  INDEX idx_todos_archive_owner_created_at (owner_id, created_at, id),
+  INDEX idx_todos_archive_owner_title (owner_id, title, id),
+  INDEX idx_todos_archive_owner_due_date (owner_id, due_date, id),
+  INDEX idx_todos_archive_owner_priority (owner_id, priority, id),
+  INDEX idx_todos_archive_owner_author (owner_id, author, id),
+  INDEX idx_todos_archive_owner_completed (owner_id, completed, id),
+  FULLTEXT INDEX ft_todos_archive_title_description (title, description) WITH PARSER ngram
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- Archive candidates (completed = TRUE AND updated_at < cutoff), oldest first, across all owners.
+CREATE INDEX idx_todos_archive_candidates ON todos (completed, updated_at, id);
@@ -0,0 +1,18 @@
+-- Append-only audit log (TodoAuditRecorder): one row per todo and change, written in batches off the request thread.
+-- The application only INSERTs and SELECTs; grant the application user nothing more on this table.
+-- action is the TodoAuditAction ordinal and payload the TodoAuditCodec encoding of the changed values
+-- (a toggle takes a few bytes). Rows are compressed, as the table grows without bound and is rarely read.
+CREATE TABLE IF NOT EXISTS todo_audit (
+  id         BIGINT          NOT NULL AUTO_INCREMENT,
+  owner_id   BIGINT          NOT NULL,
+  todo_id    BIGINT          NOT NULL,
+  changed_at DATETIME(3)     NOT NULL,
+  action     TINYINT         NOT NULL,
+  actor      VARCHAR(100),
+  payload    VARBINARY(4096),
+  PRIMARY KEY (id),
+  -- History of one todo, newest first.
+  INDEX idx_todo_audit_todo (owner_id, todo_id, changed_at, id),
+  -- Export of an owner's events by time range.
+  INDEX idx_todo_audit_owner_time (owner_id, changed_at, id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 ROW_FORMAT = COMPRESSED KEY_BLOCK_SIZE = 8;
@@ -0,0 +1,15 @@
+-- Optional (profile "partitioned", MySQL only): hash-partition todos by owner, so that an owner-scoped statement
+-- is pruned to one partition and large owners do not share index trees with everyone else.
+-- Partitioned InnoDB tables cannot have FULLTEXT indexes; search falls back to LIKE (todo.search.fulltext=false).
+ALTER TABLE todos DROP INDEX ft_todos_title_description;
+
+-- The partitioning column must be part of every unique key, including the primary key.
+UPDATE todos
+SET owner_id = (SELECT MIN(id) FROM users)
+WHERE owner_id IS NULL;
+ALTER TABLE todos
+  MODIFY owner_id BIGINT NOT NULL,
+  DROP PRIMARY KEY,
+  ADD PRIMARY KEY (id, owner_id);
+
+ALTER TABLE todos PARTITION BY HASH (owner_id) PARTITIONS ${partitions};
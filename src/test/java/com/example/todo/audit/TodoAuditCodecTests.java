@@ -0,0 +1,82 @@
+package com.example.todo.audit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.todo.entity.DeadlineStatus;
+
+/**
+ * 監査ログの変更内容の符号化と展開を確認します。
+ */
+class TodoAuditCodecTests {
+
+	@Test
+	void everyFieldSurvivesARoundTrip() {
+		Map<String, Object> changes = new LinkedHashMap<>();
+		changes.put("title", "請求書の送付");
+		changes.put("description", null);
+		changes.put("author", "佐藤");
+		changes.put("dueDate", LocalDate.of(2026, 2, 6));
+		changes.put("deadlineStatus", DeadlineStatus.OVERDUE);
+		changes.put("priority", 2);
+		changes.put("completed", true);
+		changes.put("version", 300L);
+		changes.put("versionDelta", -1);
+
+		Map<String, Object> decoded = TodoAuditCodec.decode(TodoAuditCodec.encode(changes));
+
+		assertThat(decoded).containsOnlyKeys(changes.keySet());
+		assertThat(decoded).containsEntry("title", "請求書の送付")
+				.containsEntry("description", null)
+				.containsEntry("author", "佐藤")
+				.containsEntry("dueDate", LocalDate.of(2026, 2, 6))
+				.containsEntry("deadlineStatus", "OVERDUE")
+				.containsEntry("priority", 2L)
+				.containsEntry("completed", true)
+				.containsEntry("version", 300L)
+				.containsEntry("versionDelta", -1L);
+	}
+
+	@Test
+	void toggleFitsInAFewBytesAndSkipsUnknownProperties() {
+		Map<String, Object> changes = new LinkedHashMap<>();
+		changes.put("completed", false);
+		changes.put("versionDelta", 1);
+		changes.put("updatedAt", LocalDateTime.of(2026, 1, 1, 9, 0));
+
+		byte[] payload = TodoAuditCodec.encode(changes);
+
+		assertThat(payload).hasSizeLessThanOrEqualTo(5);
+		assertThat(TodoAuditCodec.decode(payload)).containsOnly(
+				Map.entry("completed", false), Map.entry("versionDelta", 1L));
+	}
+
+	@Test
+	void emptyChangesEncodeToNull() {
+		assertThat(TodoAuditCodec.encode(null)).isNull();
+		assertThat(TodoAuditCodec.encode(Map.of())).isNull();
+		assertThat(TodoAuditCodec.encode(Map.of("updatedAt", LocalDateTime.of(2026, 1, 1, 9, 0)))).isNull();
+		assertThat(TodoAuditCodec.decode(null)).isEmpty();
+	}
+
+	@Test
+	void decodingStopsAtATagFromANewerVersion() {
+		byte[] known = TodoAuditCodec.encode(Map.of("priority", 3));
+		byte[] payload = new byte[known.length + 3];
+		System.arraycopy(known, 0, payload, 0, known.length);
+		payload[known.length] = 0x7F;
+		payload[known.length + 1] = 1;
+		payload[known.length + 2] = 2;
+
+		assertThat(TodoAuditCodec.decode(payload)).containsOnly(Map.entry("priority", 3L));
+		assertThatThrownBy(() -> TodoAuditCodec.decode(new byte[] {9, 1}))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
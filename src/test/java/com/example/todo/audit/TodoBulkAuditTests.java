@@ -0,0 +1,79 @@
+package com.example.todo.audit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.todo.form.TodoFilter;
+import com.example.todo.service.BulkAction;
+import com.example.todo.service.BulkResult;
+import com.example.todo.service.TodoBulkService;
+
+/**
+ * 一括操作が、実際に変更したIDだけを監査ログに記録することを確認します。
+ * 開発用プロファイル（H2と初期データ）で起動し、初期データの {@code admin} として操作します。
+ */
+@SpringBootTest
+@ActiveProfiles("dev")
+@WithUserDetails("admin")
+class TodoBulkAuditTests {
+
+	private static final long MISSING_ID = 99_999L;
+
+	@Autowired
+	private TodoBulkService todoBulkService;
+
+	@Autowired
+	private TodoAuditRecorder todoAuditRecorder;
+
+	@Autowired
+	private TodoAuditService todoAuditService;
+
+	@Test
+	void bulkByIdsRecordsOnlyTheChangedIds() {
+		int before = history(14L).size();
+
+		BulkResult result = todoBulkService.updateByIds(List.of(14L, MISSING_ID), BulkAction.changePriority(4));
+		todoAuditRecorder.flush();
+
+		assertThat(result.getTotal()).isEqualTo(1);
+		assertThat(history(14L)).hasSize(before + 1);
+		assertThat(history(14L).get(0).getAction()).isEqualTo(TodoAuditAction.UPDATED);
+		assertThat(history(MISSING_ID)).isEmpty();
+	}
+
+	@Test
+	void bulkDeleteOfMissingIdsRecordsNothing() {
+		BulkResult result = todoBulkService.deleteByIds(List.of(MISSING_ID - 1));
+		todoAuditRecorder.flush();
+
+		assertThat(result.getTotal()).isZero();
+		assertThat(history(MISSING_ID - 1)).isEmpty();
+	}
+
+	@Test
+	void bulkByFilterRecordsEachMatchedId() {
+		int before = history(15L).size();
+		TodoFilter filter = new TodoFilter();
+		filter.setAuthor("斎藤");
+
+		BulkResult result = todoBulkService.updateByFilter(filter, BulkAction.changePriority(5));
+		todoAuditRecorder.flush();
+
+		assertThat(result.getTotal()).isEqualTo(1);
+		List<TodoAuditEntry> history = history(15L);
+		assertThat(history).hasSize(before + 1);
+		assertThat(history.get(0).getAction()).isEqualTo(TodoAuditAction.UPDATED);
+		assertThat(history.get(0).getChanges()).containsEntry("priority", 5L);
+	}
+
+	private List<TodoAuditEntry> history(long todoId) {
+		return todoAuditService.findHistory(todoId, null, null);
+	}
+}
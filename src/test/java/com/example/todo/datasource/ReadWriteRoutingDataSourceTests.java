@@ -0,0 +1,149 @@
+package com.example.todo.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 2台のH2をレプリカの代わりに使い、振り分けとフェイルオーバーを確認します。
+ */
+class ReadWriteRoutingDataSourceTests {
+
+	private final List<ReplicaPool> pools = new ArrayList<>();
+
+	@AfterEach
+	void tearDown() {
+		pools.forEach(ReplicaPool::destroy);
+		DataSourceRoute.endRequest();
+	}
+
+	@Test
+	void writesGoToPrimaryAndReadsRotateOverReplicas() throws Exception {
+		ReadWriteRoutingDataSource routing = routing("a", "b");
+
+		assertThat(serverOf(routing)).isEqualTo("primary");
+		assertThat(DataSourceRoute.read(() -> serverOf(routing))).isEqualTo("a");
+		assertThat(DataSourceRoute.read(() -> serverOf(routing))).isEqualTo("b");
+		assertThat(DataSourceRoute.read(() -> serverOf(routing))).isEqualTo("a");
+	}
+
+	@Test
+	void readOnlyTransactionGoesToReplica() throws Exception {
+		ReadWriteRoutingDataSource routing = routing("a");
+
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		try {
+			assertThat(serverOf(routing)).isEqualTo("a");
+		} finally {
+			TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+		}
+	}
+
+	@Test
+	void readsFollowWritesInTheSameRequest() throws Exception {
+		ReadWriteRoutingDataSource routing = routing("a");
+
+		DataSourceRoute.beginRequest(false);
+		assertThat(DataSourceRoute.read(() -> serverOf(routing))).isEqualTo("a");
+		DataSourceRoute.markWrite();
+		assertThat(DataSourceRoute.read(() -> serverOf(routing))).isEqualTo("primary");
+		assertThat(DataSourceRoute.endRequest()).isTrue();
+
+		DataSourceRoute.beginRequest(true);
+		assertThat(DataSourceRoute.read(() -> serverOf(routing))).isEqualTo("primary");
+	}
+
+	@Test
+	void firstWriteIsReportedOnceWhenItHappens() throws Exception {
+		ReadWriteRoutingDataSource routing = routing("a");
+		List<String> recorded = new ArrayList<>();
+
+		DataSourceRoute.beginRequest(false, () -> recorded.add("write"));
+		assertThat(DataSourceRoute.read(() -> serverOf(routing))).isEqualTo("a");
+		assertThat(recorded).isEmpty();
+
+		DataSourceRoute.markWrite();
+		assertThat(recorded).containsExactly("write");
+		DataSourceRoute.markWrite();
+		assertThat(recorded).containsExactly("write");
+		assertThat(DataSourceRoute.endRequest()).isTrue();
+	}
+
+	@Test
+	void onPrimaryPinsReadsWithoutARequest() throws Exception {
+		ReadWriteRoutingDataSource routing = routing("a");
+
+		assertThat(DataSourceRoute.onPrimary(() -> {
+			try {
+				return DataSourceRoute.read(() -> serverOf(routing));
+			} catch (Exception ex) {
+				throw new IllegalStateException(ex);
+			}
+		})).isEqualTo("primary");
+		assertThat(DataSourceRoute.isPinnedToPrimary()).isFalse();
+		assertThat(DataSourceRoute.read(() -> serverOf(routing))).isEqualTo("a");
+	}
+
+	@Test
+	void failedReplicaIsSkippedAndPrimaryIsTheLastResort() throws Exception {
+		ReadWriteRoutingDataSource routing = routing("a", null);
+
+		assertThat(DataSourceRoute.read(() -> serverOf(routing))).isEqualTo("a");
+		assertThat(DataSourceRoute.read(() -> serverOf(routing))).isEqualTo("a");
+		assertThat(pools.get(0).getHealthyCount()).isEqualTo(1);
+
+		ReadWriteRoutingDataSource allDown = routing((String) null);
+		assertThat(DataSourceRoute.read(() -> serverOf(allDown))).isEqualTo("primary");
+		assertThat(pools.get(1).getHealthyCount()).isZero();
+	}
+
+	private ReadWriteRoutingDataSource routing(String... replicaNames) throws SQLException {
+		RoutingProperties properties = new RoutingProperties();
+		for (String name : replicaNames) {
+			RoutingProperties.Replica replica = new RoutingProperties.Replica();
+			// A null name stands for a replica that is down: the database does not exist.
+			replica.setUrl(name == null
+					? "jdbc:h2:mem:missing-" + System.nanoTime() + ";IFEXISTS=TRUE"
+					: database(name).getUrl());
+			replica.setUsername("sa");
+			replica.setPassword("");
+			replica.setConnectionTimeout(Duration.ofMillis(250));
+			properties.getReplicas().add(replica);
+		}
+		ReplicaPool pool = new ReplicaPool(properties);
+		pools.add(pool);
+		return new ReadWriteRoutingDataSource(database("primary"), pool);
+	}
+
+	private static JdbcDataSource database(String server) throws SQLException {
+		JdbcDataSource dataSource = new JdbcDataSource();
+		dataSource.setURL("jdbc:h2:mem:routing-" + server + ";DB_CLOSE_DELAY=-1");
+		dataSource.setUser("sa");
+		try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+			statement.execute("CREATE TABLE IF NOT EXISTS server (name VARCHAR(20))");
+			statement.execute("DELETE FROM server");
+			statement.execute("INSERT INTO server VALUES ('" + server + "')");
+		}
+		return dataSource;
+	}
+
+	private static String serverOf(ReadWriteRoutingDataSource routing) throws SQLException {
+		try (Connection connection = routing.getConnection();
+				Statement statement = connection.createStatement();
+				ResultSet rs = statement.executeQuery("SELECT name FROM server")) {
+			rs.next();
+			return rs.getString(1);
+		}
+	}
+}
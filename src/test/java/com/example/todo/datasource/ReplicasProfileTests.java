@@ -0,0 +1,60 @@
+package com.example.todo.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * {@code replicas} プロファイルでアプリケーションを起動し、振り分けの組み立てと書き込みの記録を確認します。
+ * 開発用プロファイルでは、2台のレプリカはどちらも開発用のインメモリDBを指します。
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({"dev", "replicas"})
+@WithUserDetails("admin")
+class ReplicasProfileTests {
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private ReplicaPool replicaPool;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	void primaryIsWrappedForRoutingAndReplicasAreHealthy() throws Exception {
+		assertThat(dataSource.isWrapperFor(ReadWriteRoutingDataSource.class)).isTrue();
+
+		replicaPool.checkHealth();
+		assertThat(replicaPool.size()).isEqualTo(2);
+		assertThat(replicaPool.getHealthyCount()).isEqualTo(2);
+	}
+
+	@Test
+	void writeRecordsTheSessionAndReadsDoNot() throws Exception {
+		MockHttpSession session = new MockHttpSession();
+
+		mockMvc.perform(get("/todos").session(session))
+				.andExpect(status().isOk());
+		assertThat(session.getAttribute(ReadYourWritesFilter.LAST_WRITE_ATTRIBUTE)).isNull();
+
+		mockMvc.perform(post("/todos/{id}/toggle", 6).session(session).with(csrf()))
+				.andExpect(status().is3xxRedirection());
+		assertThat(session.getAttribute(ReadYourWritesFilter.LAST_WRITE_ATTRIBUTE)).isInstanceOf(Long.class);
+	}
+}
@@ -0,0 +1,41 @@
+package com.example.todo.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * MockMvcのリクエストが {@link SqlBudgetProperties} の上限内でSQLを実行したか確認します。
+ */
+final class SqlBudgetAssertions {
+
+	private SqlBudgetAssertions() {
+	}
+
+	/**
+	 * 実行したJDBCの文の数が、ハンドラのURLパターンの上限以下であることを確認します（上限0は確認しません）。
+	 */
+	static ResultMatcher withinSqlBudget(SqlBudgetProperties budget) {
+		return result -> {
+			Object pattern = result.getRequest().getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+			assertThat(pattern).as("handler pattern").isNotNull();
+			int limit = budget.budgetFor(pattern.toString());
+			if (limit > 0) {
+				assertThat(statements(result))
+						.as("SQL statements for %s %s", result.getRequest().getMethod(), pattern)
+						.isLessThanOrEqualTo(limit);
+			}
+		};
+	}
+
+	/**
+	 * リクエストで実行したJDBCの文の数を返します。
+	 */
+	static int statements(MvcResult result) {
+		Object statements = result.getRequest().getAttribute(StatementCountFilter.STATEMENTS_ATTRIBUTE);
+		assertThat(statements).as("statement count (is StatementCountFilter registered?)").isNotNull();
+		return (Integer) statements;
+	}
+}
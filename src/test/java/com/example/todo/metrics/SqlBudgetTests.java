@@ -0,0 +1,94 @@
+package com.example.todo.metrics;
+
+import static com.example.todo.metrics.SqlBudgetAssertions.statements;
+import static com.example.todo.metrics.SqlBudgetAssertions.withinSqlBudget;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+/**
+ * 主要な画面操作が {@code todo.sql-budget.*} の上限内でSQLを実行することを確認します。
+ * 開発用プロファイル（H2と初期データ）で起動し、初期データの {@code admin} として操作します。
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+@WithUserDetails("admin")
+class SqlBudgetTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private SqlBudgetProperties budget;
+
+	@Test
+	void listStaysWithinBudget() throws Exception {
+		mockMvc.perform(get("/todos"))
+				.andExpect(status().isOk())
+				.andExpect(withinSqlBudget(budget));
+		mockMvc.perform(get("/todos").param("sort", "dueDate").param("dir", "asc"))
+				.andExpect(status().isOk())
+				.andExpect(withinSqlBudget(budget));
+	}
+
+	@Test
+	void detailStaysWithinBudget() throws Exception {
+		mockMvc.perform(get("/todos/{id}", 2))
+				.andExpect(status().isOk())
+				.andExpect(withinSqlBudget(budget));
+	}
+
+	@Test
+	void toggleStaysWithinBudget() throws Exception {
+		mockMvc.perform(post("/todos/{id}/toggle", 3).with(csrf()))
+				.andExpect(status().is3xxRedirection())
+				.andExpect(withinSqlBudget(budget));
+	}
+
+	@Test
+	void bulkStatementsDoNotGrowWithTheSelection() throws Exception {
+		MvcResult few = mockMvc.perform(post("/todos/bulk-complete").with(csrf())
+						.param("ids", "4", "5"))
+				.andExpect(status().is3xxRedirection())
+				.andExpect(withinSqlBudget(budget))
+				.andReturn();
+		MvcResult many = mockMvc.perform(post("/todos/bulk-complete").with(csrf())
+						.param("ids", "4", "5", "6", "7", "8", "9", "10", "11", "12")
+						.param("newCompleted", "false"))
+				.andExpect(status().is3xxRedirection())
+				.andExpect(withinSqlBudget(budget))
+				.andReturn();
+
+		assertThat(statements(many)).isEqualTo(statements(few));
+	}
+
+	@Test
+	void requestOverItsBudgetFailsTheAssertion() throws Exception {
+		// A toggle without a version runs an UPDATE and re-reads the row, so a budget of 1 is exceeded.
+		String pattern = "/todos/{id}/toggle";
+		budget.getEndpoints().put(pattern, 1);
+		try {
+			MvcResult result = mockMvc.perform(post("/todos/{id}/toggle", 13).with(csrf()))
+					.andExpect(status().is3xxRedirection())
+					.andReturn();
+
+			assertThat(statements(result)).isGreaterThan(1);
+			assertThatThrownBy(() -> withinSqlBudget(budget).match(result)).isInstanceOf(AssertionError.class);
+		} finally {
+			budget.getEndpoints().remove(pattern);
+		}
+	}
+}
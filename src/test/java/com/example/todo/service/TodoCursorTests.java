@@ -0,0 +1,181 @@
+package com.example.todo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.todo.entity.Todo;
+import com.example.todo.mapper.TodoMapper;
+
+/**
+ * カーソルの文字列化と、H2上でのキーセット方式の前後ページ移動を確認します。
+ */
+class TodoCursorTests {
+
+	private static final Long OWNER_ID = 1L;
+
+	private SqlSession session;
+	private TodoMapper mapper;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		JdbcDataSource dataSource = new JdbcDataSource();
+		dataSource.setURL("jdbc:h2:mem:cursor-" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+		dataSource.setUser("sa");
+		Flyway.configure().dataSource(dataSource).locations("classpath:db/migration/h2").load().migrate();
+
+		Configuration configuration = new Configuration(
+				new Environment("test", new JdbcTransactionFactory(), dataSource));
+		configuration.setMapUnderscoreToCamelCase(true);
+		configuration.setDatabaseId("h2");
+		try (InputStream in = Resources.getResourceAsStream("mappers/TodoMapper.xml")) {
+			new XMLMapperBuilder(in, configuration, "mappers/TodoMapper.xml", configuration.getSqlFragments()).parse();
+		}
+		SqlSessionFactory factory = new SqlSessionFactoryBuilder().build(configuration);
+		session = factory.openSession(true);
+		mapper = session.getMapper(TodoMapper.class);
+	}
+
+	@AfterEach
+	void tearDown() {
+		session.close();
+	}
+
+	@Test
+	void encodeAndDecodeKeepTheBoundaryRow() {
+		Todo todo = todo(42, "a|b|c", LocalDate.of(2026, 3, 1), 3);
+
+		TodoCursor title = TodoCursor.decode(TodoCursor.after(todo, "title", "ASC").encode());
+		assertThat(title.isForward()).isTrue();
+		assertThat(title.getValue()).isEqualTo("a|b|c");
+		assertThat(title.getId()).isEqualTo(42L);
+
+		TodoCursor dueDate = TodoCursor.decode(TodoCursor.before(todo, "due_date", "DESC").encode());
+		assertThat(dueDate.isForward()).isFalse();
+		assertThat(dueDate.getValue()).isEqualTo(LocalDate.of(2026, 3, 1));
+
+		assertThat(TodoCursor.decode(TodoCursor.after(todo, "priority", "ASC").encode()).getValue()).isEqualTo(3);
+		assertThat(TodoCursor.decode(TodoCursor.after(todo, "completed", "ASC").encode()).getValue()).isEqualTo(false);
+		assertThat(TodoCursor.decode(TodoCursor.after(todo, "created_at", "DESC").encode()).getValue())
+				.isEqualTo(todo.getCreatedAt());
+
+		todo.setDueDate(null);
+		assertThat(TodoCursor.decode(TodoCursor.after(todo, "due_date", "ASC").encode()).getValue()).isNull();
+	}
+
+	@Test
+	void invalidTokensDecodeToNull() {
+		assertThat(TodoCursor.decode(null)).isNull();
+		assertThat(TodoCursor.decode(" ")).isNull();
+		assertThat(TodoCursor.decode("not base64!")).isNull();
+		assertThat(TodoCursor.decode("bnxBU0N8dGl0bGU")).isNull();
+		// A column outside the sort whitelist never reaches the SQL.
+		String injected = Base64.getUrlEncoder()
+				.encodeToString("n|ASC|id; DROP TABLE todos|1|vx".getBytes(StandardCharsets.UTF_8));
+		assertThat(TodoCursor.decode(injected)).isNull();
+	}
+
+	@Test
+	void cursorMatchesOnlyTheSortItWasIssuedFor() {
+		TodoCursor cursor = TodoCursor.after(todo(1, "a", null, 1), "title", "ASC");
+
+		assertThat(cursor.matches("title", "ASC")).isTrue();
+		assertThat(cursor.matches("title", "DESC")).isFalse();
+		assertThat(cursor.matches("priority", "ASC")).isFalse();
+	}
+
+	@Test
+	void backwardCursorScansAgainstTheDisplayOrder() {
+		Todo todo = todo(1, "a", null, 1);
+
+		assertThat(TodoCursor.after(todo, "title", "ASC").isScanAscending()).isTrue();
+		assertThat(TodoCursor.after(todo, "title", "DESC").isScanAscending()).isFalse();
+		assertThat(TodoCursor.before(todo, "title", "ASC").isScanAscending()).isFalse();
+		assertThat(TodoCursor.before(todo, "title", "DESC").isScanAscending()).isTrue();
+	}
+
+	@Test
+	void forwardAndBackwardSeekMatchOffsetPaging() {
+		List<Todo> rows = new ArrayList<>();
+		for (int i = 0; i < 11; i++) {
+			// Every third due date is missing and priorities repeat, so NULLs and ties cross page boundaries.
+			rows.add(todo(i, "t" + (i % 4), i % 3 == 0 ? null : LocalDate.of(2026, 1, 1 + i % 5), 1 + i % 2));
+		}
+		mapper.insertBatch(rows);
+
+		for (String column : List.of("due_date", "priority", "title", "created_at")) {
+			for (String dir : List.of("ASC", "DESC")) {
+				assertSeekMatchesOffset(column, dir, 3);
+			}
+		}
+	}
+
+	private void assertSeekMatchesOffset(String column, String dir, int size) {
+		List<Long> expected = ids(mapper.selectPage(OWNER_ID, 100, 0, column, dir));
+
+		List<List<Todo>> pages = new ArrayList<>();
+		List<Todo> page = mapper.selectPage(OWNER_ID, size, 0, column, dir);
+		while (!page.isEmpty()) {
+			pages.add(page);
+			page = seek(TodoCursor.after(page.get(page.size() - 1), column, dir), column, size);
+		}
+		List<Long> forward = new ArrayList<>();
+		pages.forEach(p -> forward.addAll(ids(p)));
+		assertThat(forward).as("%s %s forward", column, dir).isEqualTo(expected);
+
+		for (int i = pages.size() - 1; i > 0; i--) {
+			List<Todo> previous = seek(TodoCursor.before(pages.get(i).get(0), column, dir), column, size);
+			assertThat(ids(previous)).as("%s %s back from page %d", column, dir, i).isEqualTo(ids(pages.get(i - 1)));
+		}
+	}
+
+	/** {@link TodoService} と同じく、カーソルを文字列にして戻し、前ページ方向の結果は表示順へ並べ直します。 */
+	private List<Todo> seek(TodoCursor cursor, String column, int size) {
+		TodoCursor seek = TodoCursor.decode(cursor.encode());
+		List<Todo> items = new ArrayList<>(mapper.selectPageAfter(OWNER_ID, size, column,
+				seek.isScanAscending(), seek.getValue(), seek.getId()));
+		if (!seek.isForward()) {
+			Collections.reverse(items);
+		}
+		return items;
+	}
+
+	private static List<Long> ids(List<Todo> todos) {
+		return todos.stream().map(Todo::getId).toList();
+	}
+
+	private static Todo todo(long index, String title, LocalDate dueDate, int priority) {
+		Todo todo = new Todo();
+		todo.setId(index + 1);
+		todo.setOwnerId(OWNER_ID);
+		todo.setTitle(title);
+		todo.setAuthor("admin");
+		todo.setDueDate(dueDate);
+		todo.setPriority(priority);
+		todo.setCompleted(false);
+		todo.setCreatedAt(LocalDateTime.of(2026, 1, 1, 9, 0).plusMinutes(index % 6));
+		todo.setUpdatedAt(todo.getCreatedAt());
+		return todo;
+	}
+}
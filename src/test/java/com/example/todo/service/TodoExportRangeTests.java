@@ -0,0 +1,108 @@
+package com.example.todo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.todo.entity.Todo;
+import com.example.todo.form.TodoFilter;
+import com.example.todo.mapper.TodoMapper;
+
+/**
+ * 並列エクスポートのID範囲が、所有者の行だけから作られることをH2上で確認します。
+ */
+class TodoExportRangeTests {
+
+	private SqlSession session;
+	private TodoMapper mapper;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		JdbcDataSource dataSource = new JdbcDataSource();
+		dataSource.setURL("jdbc:h2:mem:export-" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+		dataSource.setUser("sa");
+		Flyway.configure().dataSource(dataSource).locations("classpath:db/migration/h2").load().migrate();
+
+		Configuration configuration = new Configuration(
+				new Environment("test", new JdbcTransactionFactory(), dataSource));
+		configuration.setMapUnderscoreToCamelCase(true);
+		configuration.setDatabaseId("h2");
+		try (InputStream in = Resources.getResourceAsStream("mappers/TodoMapper.xml")) {
+			new XMLMapperBuilder(in, configuration, "mappers/TodoMapper.xml", configuration.getSqlFragments()).parse();
+		}
+		SqlSessionFactory factory = new SqlSessionFactoryBuilder().build(configuration);
+		session = factory.openSession(true);
+		mapper = session.getMapper(TodoMapper.class);
+	}
+
+	@AfterEach
+	void tearDown() {
+		session.close();
+	}
+
+	@Test
+	void rangeCountFollowsTheOwnersRowsNotTheIdSpan() {
+		// Owner 1 has every 50th row, so its ids spread over a span 50 times its row count.
+		List<Todo> rows = new ArrayList<>();
+		for (int i = 0; i < 500; i++) {
+			rows.add(todo(i % 50 == 0 ? 1L : 2L, i));
+		}
+		mapper.insertBatch(rows);
+		TodoFilter filter = new TodoFilter();
+		filter.scopeTo(1L);
+
+		List<Long> tops = mapper.selectExportChunkTops(filter, 3);
+
+		// 10 rows in chunks of 3: 4 ranges, whatever the span.
+		assertThat(tops).hasSize(4).isSortedAccordingTo((a, b) -> Long.compare(b, a));
+		long minId = mapper.selectExportRange(filter).getMinId();
+		List<Long> exported = new ArrayList<>();
+		for (int i = 0; i < tops.size(); i++) {
+			long from = i + 1 < tops.size() ? tops.get(i + 1) + 1 : minId;
+			mapper.selectForExportByIdRange(filter, from, tops.get(i)).forEach(todo -> exported.add(todo.getId()));
+		}
+		List<Long> expected = new ArrayList<>();
+		mapper.selectForExportByIdRange(filter, minId, tops.get(0)).forEach(todo -> expected.add(todo.getId()));
+		assertThat(expected).hasSize(10);
+		assertThat(exported).isEqualTo(expected);
+	}
+
+	@Test
+	void noMatchingRowsGiveNoRanges() {
+		TodoFilter filter = new TodoFilter();
+		filter.scopeTo(3L);
+
+		assertThat(mapper.selectExportChunkTops(filter, 3)).isEmpty();
+	}
+
+	private static Todo todo(long ownerId, int index) {
+		Todo todo = new Todo();
+		todo.setOwnerId(ownerId);
+		todo.setTitle("t" + index);
+		todo.setAuthor("admin");
+		todo.setDueDate(LocalDate.of(2026, 1, 1));
+		todo.setPriority(3);
+		todo.setCompleted(false);
+		todo.setCreatedAt(LocalDateTime.of(2026, 1, 1, 9, 0));
+		todo.setUpdatedAt(todo.getCreatedAt());
+		return todo;
+	}
+}
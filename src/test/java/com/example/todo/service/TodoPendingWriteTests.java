@@ -0,0 +1,168 @@
+package com.example.todo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.todo.entity.Todo;
+import com.example.todo.form.TodoForm;
+import com.example.todo.mapper.TodoMapper;
+
+import jakarta.persistence.OptimisticLockException;
+
+/**
+ * 保留中の変更のまとめ方と、H2上での反映時のバージョン照合を確認します。
+ */
+class TodoPendingWriteTests {
+
+	private static final Long OWNER_ID = 1L;
+	private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+	private SqlSession session;
+	private TodoMapper mapper;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		JdbcDataSource dataSource = new JdbcDataSource();
+		dataSource.setURL("jdbc:h2:mem:pending-" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+		dataSource.setUser("sa");
+		Flyway.configure().dataSource(dataSource).locations("classpath:db/migration/h2").load().migrate();
+
+		Configuration configuration = new Configuration(
+				new Environment("test", new JdbcTransactionFactory(), dataSource));
+		configuration.setMapUnderscoreToCamelCase(true);
+		configuration.setDatabaseId("h2");
+		try (InputStream in = Resources.getResourceAsStream("mappers/TodoMapper.xml")) {
+			new XMLMapperBuilder(in, configuration, "mappers/TodoMapper.xml", configuration.getSqlFragments()).parse();
+		}
+		SqlSessionFactory factory = new SqlSessionFactoryBuilder().build(configuration);
+		session = factory.openSession(true);
+		mapper = session.getMapper(TodoMapper.class);
+	}
+
+	@AfterEach
+	void tearDown() {
+		session.close();
+	}
+
+	@Test
+	void mergeKeepsTheFirstExpectedVersionAndTheLatestValues() {
+		TodoPendingWrite first = TodoPendingWrite.completed(OWNER_ID, 7L, true, 3L, NOW);
+		TodoPendingWrite second = TodoPendingWrite.edited(OWNER_ID, 7L, form("edited", 4L), NOW.plusSeconds(1));
+		second.setActor("admin");
+		TodoPendingWrite third = TodoPendingWrite.completed(OWNER_ID, 7L, false, 5L, NOW.plusSeconds(2));
+
+		TodoPendingWrite merged = first.merge(second).merge(third);
+
+		assertThat(merged.getExpectedVersion()).isEqualTo(3L);
+		assertThat(merged.getWrites()).isEqualTo(3);
+		assertThat(merged.getResultingVersion()).isEqualTo(6L);
+		assertThat(merged.getCompleted()).isFalse();
+		assertThat(merged.getForm().getTitle()).isEqualTo("edited");
+		assertThat(merged.getUpdatedAt()).isEqualTo(NOW.plusSeconds(2));
+		// The inputs are left as they were, so a failed merge never corrupts the queued write.
+		assertThat(first.getWrites()).isEqualTo(1);
+		assertThat(first.getCompleted()).isTrue();
+	}
+
+	@Test
+	void mergeRejectsAWriteThatDoesNotChainOnThePendingOne() {
+		TodoPendingWrite queued = TodoPendingWrite.completed(OWNER_ID, 7L, true, 3L, NOW);
+
+		// Read before the queued write was accepted: the same version 3, not 4.
+		TodoPendingWrite stale = TodoPendingWrite.edited(OWNER_ID, 7L, form("stale", 3L), NOW.plusSeconds(1));
+		assertThatThrownBy(() -> queued.merge(stale)).isInstanceOf(OptimisticLockException.class);
+
+		TodoPendingWrite ahead = TodoPendingWrite.completed(OWNER_ID, 7L, false, 9L, NOW.plusSeconds(1));
+		assertThatThrownBy(() -> queued.merge(ahead)).isInstanceOf(OptimisticLockException.class);
+	}
+
+	@Test
+	void editCopiesTheFormAndTakesItsVersion() {
+		TodoForm form = form("title", 2L);
+		TodoPendingWrite write = TodoPendingWrite.edited(OWNER_ID, 7L, form, NOW);
+		form.setTitle("changed later");
+
+		assertThat(write.getForm().getTitle()).isEqualTo("title");
+		assertThat(write.getExpectedVersion()).isEqualTo(2L);
+		assertThat(write.getResultingVersion()).isEqualTo(3L);
+	}
+
+	@Test
+	void applyUpdatesOnlyTheExpectedVersion() {
+		Long id = insert("row");
+
+		TodoPendingWrite write = TodoPendingWrite.completed(OWNER_ID, id, true, 0L, NOW);
+		assertThat(mapper.applyPendingWrite(write)).isEqualTo(1);
+		assertThat(mapper.selectById(OWNER_ID, id).getVersion()).isEqualTo(1L);
+
+		// Applying the same write again, as a journal replay would, leaves the newer row alone.
+		TodoPendingWrite newer = TodoPendingWrite.completed(OWNER_ID, id, false, 1L, NOW.plusSeconds(1));
+		assertThat(mapper.applyPendingWrite(newer)).isEqualTo(1);
+		assertThat(mapper.applyPendingWrite(write)).isZero();
+		Todo row = mapper.selectById(OWNER_ID, id);
+		assertThat(row.getCompleted()).isFalse();
+		assertThat(row.getVersion()).isEqualTo(2L);
+
+		TodoPendingWrite foreign = TodoPendingWrite.completed(OWNER_ID + 1, id, true, 2L, NOW);
+		assertThat(mapper.applyPendingWrite(foreign)).isZero();
+	}
+
+	@Test
+	void mergedWriteAdvancesTheVersionByItsWrites() {
+		Long id = insert("row");
+
+		TodoPendingWrite merged = TodoPendingWrite.completed(OWNER_ID, id, true, 0L, NOW)
+				.merge(TodoPendingWrite.completed(OWNER_ID, id, false, 1L, NOW))
+				.merge(TodoPendingWrite.completed(OWNER_ID, id, true, 2L, NOW));
+
+		assertThat(mapper.applyPendingWrite(merged)).isEqualTo(1);
+		assertThat(mapper.selectById(OWNER_ID, id).getVersion()).isEqualTo(merged.getResultingVersion());
+	}
+
+	private Long insert(String title) {
+		Todo todo = new Todo();
+		todo.setOwnerId(OWNER_ID);
+		todo.setTitle(title);
+		todo.setAuthor("admin");
+		todo.setDueDate(LocalDate.of(2026, 1, 31));
+		todo.setPriority(3);
+		todo.setCompleted(false);
+		todo.setCreatedAt(NOW);
+		todo.setUpdatedAt(NOW);
+		mapper.insertBatch(List.of(todo));
+		return mapper.selectPage(OWNER_ID, 100, 0, "created_at", "ASC").stream()
+				.filter(row -> title.equals(row.getTitle()))
+				.map(Todo::getId)
+				.findFirst()
+				.orElseThrow();
+	}
+
+	private static TodoForm form(String title, Long version) {
+		TodoForm form = new TodoForm();
+		form.setTitle(title);
+		form.setAuthor("admin");
+		form.setDueDate(LocalDate.of(2026, 1, 31));
+		form.setPriority(3);
+		form.setVersion(version);
+		return form;
+	}
+}
@@ -0,0 +1,121 @@
+package com.example.todo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.todo.entity.Todo;
+import com.example.todo.event.TodoChangeEvent;
+import com.example.todo.mapper.TodoMapper;
+import com.example.todo.security.CurrentOwner;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 書き込み遅延を有効にして、一覧画面と同じAJAXの切り替えを続けて行っても変更が失われないこと、
+ * APIの更新が保存後の行を返すことを確認します。
+ * 反映は定期実行に任せず、テストから {@link TodoWriteBehind#flush()} を呼びます。
+ */
+@SpringBootTest(properties = {
+		"todo.write-behind.enabled=true",
+		"todo.write-behind.flush-interval-ms=600000"})
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+@WithUserDetails("admin")
+@RecordApplicationEvents
+class TodoWriteBehindTests {
+
+	private static final long TODO_ID = 1L;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private TodoWriteBehind todoWriteBehind;
+
+	@Autowired
+	private TodoMapper todoMapper;
+
+	@Autowired
+	private CurrentOwner currentOwner;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private ApplicationEvents events;
+
+	@Test
+	void toggleFlushToggleAppliesBothWrites() throws Exception {
+		Long ownerId = currentOwner.getId();
+		Todo before = todoMapper.selectById(ownerId, TODO_ID);
+		long version = before.getVersion();
+		boolean completed = before.getCompleted();
+		double conflicts = meterRegistry.counter("todo.write-behind.conflicts").count();
+
+		toggle(version, completed);
+		assertThat(todoWriteBehind.flush()).isEqualTo(1);
+
+		// The flushed event carries the version the response already gave the page, not an increment on top of it.
+		List<TodoChangeEvent> flushed = events.stream(TodoChangeEvent.class)
+				.filter(event -> event.ids().contains(TODO_ID))
+				.toList();
+		assertThat(flushed).isNotEmpty();
+		TodoChangeEvent event = flushed.get(flushed.size() - 1);
+		assertThat(event.changes()).containsEntry("version", version + 1).doesNotContainKey("versionDelta");
+
+		// The page's next toggle uses that version.
+		toggle(version + 1, !completed);
+		assertThat(todoWriteBehind.flush()).isEqualTo(1);
+
+		Todo after = todoMapper.selectById(ownerId, TODO_ID);
+		assertThat(after.getVersion()).isEqualTo(version + 2);
+		assertThat(after.getCompleted()).isEqualTo(completed);
+		assertThat(meterRegistry.counter("todo.write-behind.conflicts").count()).isEqualTo(conflicts);
+	}
+
+	@Test
+	void apiUpdateReturnsTheStoredRow() throws Exception {
+		Long ownerId = currentOwner.getId();
+		long version = todoMapper.selectById(ownerId, TODO_ID).getVersion();
+
+		mockMvc.perform(put("/api/v1/todos/{id}", TODO_ID)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("""
+								{"title": "APIで更新", "author": "admin", "dueDate": "2099-01-01", "priority": 2, "version": %d}
+								""".formatted(version)))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.title").value("APIで更新"))
+				.andExpect(jsonPath("$.version").value(version + 1));
+
+		// Written synchronously: nothing was left in the queue.
+		assertThat(todoWriteBehind.flush()).isZero();
+		assertThat(todoMapper.selectById(ownerId, TODO_ID).getTitle()).isEqualTo("APIで更新");
+	}
+
+	private void toggle(long version, boolean completed) throws Exception {
+		mockMvc.perform(post("/todos/{id}/toggle", TODO_ID).with(csrf())
+						.header("X-Requested-With", "XMLHttpRequest")
+						.param("version", String.valueOf(version))
+						.param("completed", String.valueOf(completed)))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.version").value(version + 1))
+				.andExpect(jsonPath("$.completed").value(!completed));
+	}
+}
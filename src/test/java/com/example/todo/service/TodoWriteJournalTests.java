@@ -0,0 +1,113 @@
+package com.example.todo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.todo.form.TodoForm;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * ジャーナルの追記・切り替え・読み戻し・削除を確認します。
+ */
+class TodoWriteJournalTests {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void replayReturnsUnmergedWritesInAcceptedOrder() throws IOException {
+		try (TodoWriteJournal journal = open()) {
+			assertThat(journal.replay()).isEmpty();
+			journal.append(TodoPendingWrite.completed(1L, 7L, true, 3L, NOW));
+			journal.rotate();
+			TodoPendingWrite edit = TodoPendingWrite.edited(1L, 7L, form(4L), NOW.plusSeconds(1));
+			edit.setActor("admin");
+			journal.append(edit);
+		}
+
+		try (TodoWriteJournal journal = open()) {
+			List<TodoPendingWrite> replayed = journal.replay();
+
+			assertThat(replayed).hasSize(2);
+			assertThat(replayed.get(0).getCompleted()).isTrue();
+			assertThat(replayed.get(0).getExpectedVersion()).isEqualTo(3L);
+			assertThat(replayed.get(0).getWrites()).isEqualTo(1);
+			assertThat(replayed.get(1).getForm().getTitle()).isEqualTo("journaled");
+			assertThat(replayed.get(1).getForm().getDueDate()).isEqualTo(LocalDate.of(2026, 1, 31));
+			assertThat(replayed.get(1).getExpectedVersion()).isEqualTo(4L);
+			assertThat(replayed.get(1).getActor()).isEqualTo("admin");
+			assertThat(replayed.get(1).getUpdatedAt()).isEqualTo(NOW.plusSeconds(1));
+		}
+	}
+
+	@Test
+	void deleteThroughRemovesOnlySealedSegments() throws IOException {
+		try (TodoWriteJournal journal = open()) {
+			journal.replay();
+			journal.append(TodoPendingWrite.completed(1L, 7L, true, 3L, NOW));
+			long sealed = journal.rotate();
+			journal.append(TodoPendingWrite.completed(1L, 8L, false, 0L, NOW));
+
+			journal.deleteThrough(sealed);
+		}
+
+		try (TodoWriteJournal journal = open()) {
+			List<TodoPendingWrite> replayed = journal.replay();
+			assertThat(replayed).extracting(TodoPendingWrite::getId).containsExactly(8L);
+
+			// Nothing was appended since the replay: the replayed segments are the ones to delete.
+			journal.deleteThrough(journal.rotate());
+		}
+
+		try (TodoWriteJournal journal = open()) {
+			assertThat(journal.replay()).isEmpty();
+		}
+	}
+
+	@Test
+	void tornLineIsSkipped() throws IOException {
+		try (TodoWriteJournal journal = open()) {
+			journal.replay();
+			journal.append(TodoPendingWrite.completed(1L, 7L, true, 3L, NOW));
+		}
+		try (Stream<Path> segments = Files.list(directory)) {
+			Path segment = segments.findFirst().orElseThrow();
+			Files.writeString(segment, "{\"ownerId\":1,\"id\":8,\"compl", StandardCharsets.UTF_8,
+					StandardOpenOption.APPEND);
+		}
+
+		try (TodoWriteJournal journal = open()) {
+			assertThat(journal.replay()).extracting(TodoPendingWrite::getId).containsExactly(7L);
+		}
+	}
+
+	private TodoWriteJournal open() throws IOException {
+		return new TodoWriteJournal(directory, objectMapper, false);
+	}
+
+	private static TodoForm form(Long version) {
+		TodoForm form = new TodoForm();
+		form.setTitle("journaled");
+		form.setAuthor("admin");
+		form.setDueDate(LocalDate.of(2026, 1, 31));
+		form.setPriority(3);
+		form.setVersion(version);
+		return form;
+	}
+}